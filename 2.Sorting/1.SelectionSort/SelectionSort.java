@@ -82,7 +82,7 @@ public class SelectionSort {
      * @param j is the Index of the Second Element that we are Going to Swap.
      */
 
-    private static <T> void swap(T[] array, int i, int j) {T swap = array[i]; array[i] = array[j]; array[j] = swap;}
+    private static <T> void swap(T[] array, int i, int j) {T swap = array[i]; array[i] = array[j]; array[j] = swap; SortStats.swap();}
 
     /**
      * This method checks that an Entire Array is Sorted in Ascending Order.
@@ -123,7 +123,7 @@ public class SelectionSort {
      */
 
     private static <T> boolean isSorted(T[] array, Comparator<? super T> comparator, int low, int high) {
-        for (int i = low + 1; i <= high; i++) {if (less(comparator, array[i], array[i - 1])) {return false;}} return true;
+        return SortStats.uncounted(() -> {for (int i = low + 1; i <= high; i++) {if (less(comparator, array[i], array[i - 1])) {return false;}} return true;});
     }
 
     /**
@@ -19,6 +19,11 @@ import java.util.Comparator; // Importing the Comparator Class from the java.uti
  * O(n<sup>2</sup>.</p>
  *
  * <p><b>Space Complexity of Insertion Sort:</b> The Algorithm uses Constant Empty Space, making its Worst-Case Space Complexity O(1).</p>
+ *
+ * <p><b>Range Kernels:</b> The Range Methods Sort a Segment in Place, so that Quick Sort, Merge Sort and MSD String Sort can Finish their Small Subarrays with them.  The Element being Inserted
+ * is Held in a Hole and the Larger Elements are Shifted Right into it, One Write each rather than the Three of a Swap.  The binarySort Methods also Find the Insertion Point by Binary Search,
+ * so a Segment of n Elements takes about nlog<sub>2</sub>(n) Comparisons rather than n<sup>2</sup>/4, which Pays off when each Comparison is Expensive (such as a Comparator on Strings or on
+ * several Fields), and then Shift the Larger Elements with a Single Block Copy.  Both are Stable.</p>
  */
 
 public class InsertionSort {
@@ -35,11 +40,7 @@ public class InsertionSort {
      * @param array is the Array to be Sorted.
      */
 
-    public static <T extends Comparable<? super T>> void sort(T[] array) {
-        for (int i = 1; i < array.length; i++) {
-            for (int j = i; j > 0 && less(array[j], array[j - 1]); j--) {swap(array, j, j - 1);} assert isSorted(array, 0, i);
-        } assert isSorted(array);
-    }
+    public static <T extends Comparable<? super T>> void sort(T[] array) {sort(array, 0, array.length - 1); assert isSorted(array);}
 
     /**
      * This method rearranges the Array where the Order is Specified by the Comparator and Assertion Statements are used to Verify this Order.
@@ -47,10 +48,59 @@ public class InsertionSort {
      * @param comparator is the Comparator Specifying the Order.
      */
 
-    public static <T> void sort(T[] array, Comparator<? super T> comparator) {
-        for (int i = 1; i < array.length; i++) {
-            for (int j = i; j > 0 && less(comparator, array[j], array[j - 1]); j--) {swap(array, j, j - 1);} assert isSorted(array, comparator, 0, i);
-        } assert isSorted(array, comparator);
+    public static <T> void sort(T[] array, Comparator<? super T> comparator) {sort(array, comparator, 0, array.length - 1); assert isSorted(array, comparator);}
+
+    /**
+     * This method rearranges a Segment of the Array (from low to high - inclusive) in Ascending Order, using the Natural Order, by Shifting each Larger Element Right into the Hole left by the
+     * Element being Inserted.
+     * @param array is the Array to be Sorted.
+     * @param low is the Lower Bound Index of the Segment of the Array to Sort (inclusive).
+     * @param high is the Upper Bound Index of the Segment of the Array to Sort (inclusive).
+     */
+
+    public static <T extends Comparable<? super T>> void sort(T[] array, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {T element = array[i]; int j = i; while (j > low && less(element, array[j - 1])) {array[j] = array[j - 1]; j--;} array[j] = element;}
+        assert isSorted(array, low, high);
+    }
+
+    /**
+     * This method rearranges a Segment of the Array (from low to high - inclusive) where the Order is Specified by the Comparator, by Shifting each Larger Element Right into the Hole.
+     * @param array is the Array to be Sorted.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param low is the Lower Bound Index of the Segment of the Array to Sort (inclusive).
+     * @param high is the Upper Bound Index of the Segment of the Array to Sort (inclusive).
+     */
+
+    public static <T> void sort(T[] array, Comparator<? super T> comparator, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {T element = array[i]; int j = i; while (j > low && less(comparator, element, array[j - 1])) {array[j] = array[j - 1]; j--;} array[j] = element; SortStats.write(i - j + 1);}
+        assert isSorted(array, comparator, low, high);
+    }
+
+    /**
+     * This method rearranges a Segment of the Array (from low to high - inclusive) in Ascending Order, using the Natural Order, with Binary Insertion Sort.
+     * @param array is the Array to be Sorted.
+     * @param low is the Lower Bound Index of the Segment of the Array to Sort (inclusive).
+     * @param high is the Upper Bound Index of the Segment of the Array to Sort (inclusive).
+     */
+
+    public static <T extends Comparable<? super T>> void binarySort(T[] array, int low, int high) {binarySort(array, Comparator.<T>naturalOrder(), low, high); assert isSorted(array, low, high);}
+
+    /**
+     * This method rearranges a Segment of the Array (from low to high - inclusive) where the Order is Specified by the Comparator, with Binary Insertion Sort: an Element which is not Less than
+     * its Predecessor Stays where it is after One Comparison, otherwise its Place is Found by a Binary Search for the First Greater Element (so Equal Elements keep their Order) and the
+     * Elements from there are Shifted Right by One with a Single Block Copy.
+     * @param array is the Array to be Sorted.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param low is the Lower Bound Index of the Segment of the Array to Sort (inclusive).
+     * @param high is the Upper Bound Index of the Segment of the Array to Sort (inclusive).
+     */
+
+    public static <T> void binarySort(T[] array, Comparator<? super T> comparator, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            T element = array[i]; if (!less(comparator, element, array[i - 1])) continue; int left = low, right = i - 1; // Creating the Search Range, knowing array[i - 1] is Greater.
+            while (left < right) {int mid = (left + right) >>> 1; if (less(comparator, element, array[mid])) right = mid; else left = mid + 1;}
+            System.arraycopy(array, left, array, left + 1, i - left); array[left] = element; SortStats.write(i - left + 1);
+        } assert isSorted(array, comparator, low, high);
     }
 
     /**
@@ -72,15 +122,6 @@ public class InsertionSort {
 
     private static <T> boolean less(Comparator<? super T> comparator, T v, T w) {return comparator.compare(v, w) < 0;}
 
-    /**
-     * This method swaps Two Elements in the Array.
-     * @param array is the Array in which the Swap Occurs.
-     * @param i is the Index of the First Element that we are Going to Swap.
-     * @param j is the Index of the Second Element that we are Going to Swap.
-     */
-
-    private static <T> void swap(T[] array, int i, int j) {T swap = array[i]; array[i] = array[j]; array[j] = swap;}
-
     /**
      * This method checks that an Entire Array is Sorted in Ascending Order.
      * @param array is the Array to Check.
@@ -120,7 +161,7 @@ public class InsertionSort {
      */
 
     private static <T> boolean isSorted(T[] array, Comparator<? super T> comparator, int low, int high) {
-        for (int i = low + 1; i <= high; i++) {if (less(comparator, array[i], array[i - 1])) {return false;}} return true;
+        return SortStats.uncounted(() -> {for (int i = low + 1; i <= high; i++) {if (less(comparator, array[i], array[i - 1])) {return false;}} return true;});
     }
 
     /**
@@ -149,6 +190,16 @@ public class InsertionSort {
         // Testing the Sort Method with an Array of Strings which Sorts the Array with a Customised Comparator which Sorts the Strings based on their Length.
         Comparator<String> byLength = Comparator.comparingInt(String::length); InsertionSort.sort(stringArray, byLength); show(stringArray);
 
+        // Testing the Range Kernels against the JDK's Sort, Sorting only the Middle of each Array and Checking the Ends are Untouched, and that the Binary Kernel is Stable.
+        java.util.Random random = new java.util.Random(9); for (int length : new int[] {0, 1, 2, 3, 16, 64, 500}) {
+            Integer[] input = random.ints(length + 4, 0, length / 2 + 1).boxed().toArray(Integer[]::new); Integer[] expected = input.clone(); java.util.Arrays.sort(expected, 2, length + 2);
+            Integer[] shifted = input.clone(); InsertionSort.sort(shifted, 2, length + 1); assert java.util.Arrays.equals(shifted, expected);
+            Integer[] binary = input.clone(); InsertionSort.binarySort(binary, 2, length + 1); assert java.util.Arrays.equals(binary, expected);
+            binary = input.clone(); InsertionSort.binarySort(binary, descending, 2, length + 1); assert isSorted(binary, descending, 2, length + 1) && binary[0] == input[0] && binary[length + 3] == input[length + 3];
+            shifted = input.clone(); InsertionSort.sort(shifted, descending, 2, length + 1); assert java.util.Arrays.equals(shifted, binary);
+        }
+        String[] stable = {"bb", "a", "cc", "d", "ee", "f"}; InsertionSort.binarySort(stable, byLength, 0, stable.length - 1); assert java.util.Arrays.equals(stable, new String[] {"a", "d", "f", "bb", "cc", "ee"});
+
         System.out.println("\n\n All Tests Passed Successfully!!!");
 
     }
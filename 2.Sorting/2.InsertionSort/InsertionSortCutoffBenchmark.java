@@ -0,0 +1,46 @@
+import java.util.Comparator; // Importing the Comparator Class from the java.util Package to Sort the Boxed Integers with a Comparator and to Count its Calls.
+import java.util.Random; // Importing Random from the java.util Package to Generate the Benchmark Input.
+
+/**
+ * @author LewisThackeray
+ * @date 17/10/2026
+ *
+ * {@code InsertionSortCutoffBenchmark} Measures the Insertion Sort Kernels of {@link InsertionSort} and the Effect of the Cutoff below which {@link QuickSort#introSort},
+ * {@link MergeSort#sortBottomUp} and {@link MostSignificantDigitSort#sort} Hand their Small Subarrays to them.  It first Counts the Comparator Calls the Shifting and the Binary Kernels make
+ * on Short Random Segments, and then Sweeps the Cutoff from 1 (no Insertion Sort) through 8 to 64, Reporting the Best of the Measured Rounds in Millions of Elements Sorted per Second.
+ */
+
+public class InsertionSortCutoffBenchmark {
+
+    private static final int[] CUTOFFS = {1, 8, 12, 16, 24, 32, 48, 64}; // Creating the Cutoffs to Sweep.
+
+    /**
+     * This is the Class Constructor.  The Class Constructor is Private to Prevent Instantiations of the Class, as the Class only Sweeps the Cutoffs through the Shared Harness.
+     */
+
+    private InsertionSortCutoffBenchmark() {}
+
+    /**
+     * This method runs the Benchmark, the First Command-Line Argument Optionally Overrides the Number of Elements.
+     * @param args the Command-Line Arguments.
+     */
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000; Random random = new Random(42); Integer[] integers = random.ints(n).boxed().toArray(Integer[]::new);
+        String[] strings = new String[n]; for (int i = 0; i < n; i++) {StringBuilder builder = new StringBuilder(); for (int length = 4 + random.nextInt(12); length > 0; length--) {builder.append((char) ('a' + random.nextInt(26)));} strings[i] = builder.toString();}
+
+        // Counting the Comparator Calls of each Kernel when Sorting every Segment of a Given Length.
+        long[] count = new long[1]; Comparator<Integer> counting = (a, b) -> {count[0]++; return Integer.compare(a, b);}; for (int length : new int[] {8, 16, 32, 64}) {
+            Integer[] shifted = integers.clone(), binary = integers.clone(); count[0] = 0; for (int low = 0; low + length <= n; low += length) {InsertionSort.sort(shifted, counting, low, low + length - 1);}
+            long shiftedCount = count[0]; count[0] = 0; for (int low = 0; low + length <= n; low += length) {InsertionSort.binarySort(binary, counting, low, low + length - 1);}
+            System.out.printf("segments of %-3d sort %8.2f / binarySort %8.2f comparisons per element%n", length, (double) shiftedCount / n, (double) count[0] / n);
+        }
+
+        // Sweeping the Cutoff of each Sort.
+        Comparator<Integer> natural = Comparator.naturalOrder(); Integer[] buffer = new Integer[n]; for (int cutoff : CUTOFFS) {
+            Benchmark.throughput("QuickSort.introSort(Integer[], cutoff=" + cutoff + ")", integers, Integer[]::clone, array -> QuickSort.introSort(array, natural, cutoff));
+            Benchmark.throughput("MergeSort.sortBottomUp(Integer[], cutoff=" + cutoff + ")", integers, Integer[]::clone, array -> MergeSort.sortBottomUp(array, natural, buffer, cutoff));
+            Benchmark.throughput("MostSignificantDigitSort.sort(cutoff=" + cutoff + ")", strings, String[]::clone, array -> MostSignificantDigitSort.sort(array, cutoff));
+        }
+    }
+}
@@ -1,3 +1,4 @@
+import java.util.Arrays; // Importing the Arrays Class from the java.util Package to Order the Gaps of Pratt's Sequence.
 import java.util.Comparator; // Importing the Comparator Class from the java.util Package to Compare Two Objects and Determine which should come First in an Ordered Sequence.
 
 /**
@@ -19,6 +20,12 @@ import java.util.Comparator; // Importing the Comparator Class from the java.uti
  * the gap sequence, therefore, the Average and Worst Case Time Complexity for Shell Sort is O(n(log(n))<sup>2</sup>).</p>
  *
  * <p><b>Space Complexity of Shell Sort:</b> The Algorithm uses Constant Empty Space making it's Worst Case Space Compelxity O(1).</p>
+ *
+ * <p><b>Gap Sequences:</b> The Sequence of Gaps can be Chosen with {@link GapSequence}: Knuth's (3<sup>k</sup> - 1) / 2, Sedgewick's 4<sup>k</sup> + 3 * 2<sup>k - 1</sup> + 1, Tokuda's
+ * Ceiling of (9(9/4)<sup>k</sup> - 4) / 5, Ciura's Empirically Tuned 1, 4, 10, 23, 57, 132, 301, 701, 1750 (Extended by a Factor of 2.25), which is the Default as it makes the Fewest
+ * Comparisons in Practice, and Pratt's 2<sup>p</sup>3<sup>q</sup>, which has the Best Worst Case, O(n(log(n))<sup>2</sup>), but so many Gaps that it is Slower on Average.  Each Pass
+ * Holds the Element being Inserted in a Hole and Shifts the Larger Elements h Positions Right into it, One Write each rather than the Three of a Swap.  The int[] and double[] Overloads Sort
+ * the Primitive Values directly, and the only Allocation is the Array of O(log(n)) Gaps.</p>
  */
 
 public class ShellSort {
@@ -31,28 +38,122 @@ public class ShellSort {
     private ShellSort() {}
 
     /**
-     * This method rearranges the Array in Ascending Order, using the Natural Order and using Assertion Statements to Verify this Order.
+     * This enum Represents the Gap Sequences Shell Sort can use, each of which Generates its Gaps for an Array of a Given Length.
+     */
+
+    public enum GapSequence {
+
+        KNUTH, // Creating the Constant for Knuth's 1, 4, 13, 40, 121, ... up to a Third of the Length.
+        SEDGEWICK, // Creating the Constant for Sedgewick's 1, 8, 23, 77, 281, 1073, ...
+        TOKUDA, // Creating the Constant for Tokuda's 1, 4, 9, 20, 46, 103, 233, ...
+        CIURA, // Creating the Constant for Ciura's 1, 4, 10, 23, 57, 132, 301, 701, 1750, then each Gap 2.25 times the Last.
+        PRATT; // Creating the Constant for Pratt's 1, 2, 3, 4, 6, 8, 9, 12, ... (every 2^p * 3^q).
+
+        private static final int[] CIURA_GAPS = {1, 4, 10, 23, 57, 132, 301, 701, 1750}; // Creating the Measured Part of Ciura's Sequence.
+
+        /**
+         * This method Generates the Gaps of the Sequence for an Array of the Given Length, Largest First and always Ending with 1.
+         * @param n is the Length of the Array.
+         * @return an Array of the Gaps in Decreasing Order.
+         */
+
+        public int[] gaps(int n) {
+            long[] gaps = new long[this == PRATT ? 32 * 21 : 64]; int count = 0; switch (this) {
+                case KNUTH -> {for (long h = 1; ; h = 3 * h + 1) {gaps[count++] = h; if (h >= n / 3) break;}}
+                case SEDGEWICK -> {gaps[count++] = 1; for (int k = 1; (1L << 2 * k) + 3L * (1L << k - 1) + 1 < n; k++) {gaps[count++] = (1L << 2 * k) + 3L * (1L << k - 1) + 1;}}
+                case TOKUDA -> {for (int k = 1; ; k++) {long h = (long) Math.ceil((9 * Math.pow(2.25, k - 1) - 4) / 5); if (h >= n && count > 0) break; gaps[count++] = h;}}
+                case CIURA -> {for (long h = 1, k = 0; h < n || count == 0; h = k < CIURA_GAPS.length ? CIURA_GAPS[(int) k] : (long) (2.25 * h)) {gaps[count++] = h; k++;}}
+                case PRATT -> {for (long two = 1; two < n || count == 0; two *= 2) {for (long h = two; h < n || count == 0; h *= 3) {gaps[count++] = h;}} Arrays.sort(gaps, 0, count);}
+            }
+            int[] decreasing = new int[count]; for (int i = 0; i < count; i++) {decreasing[i] = (int) gaps[count - 1 - i];} return decreasing;
+        }
+    }
+
+    /**
+     * This method rearranges the Array in Ascending Order, using the Natural Order and Ciura's Gaps, and using Assertion Statements to Verify this Order.
+     * @param array is the Array to be Sorted.
+     */
+
+    public static <T extends Comparable<? super T>> void sort(T[] array) {sort(array, GapSequence.CIURA);}
+
+    /**
+     * This method rearranges the Array in Ascending Order, using the Natural Order and the Given Gap Sequence.
      * @param array is the Array to be Sorted.
+     * @param sequence is the Gap Sequence.
      */
 
-    public static <T extends Comparable<? super T>> void sort(T[] array) {
-        int h = 1; while (h < array.length / 3) h = 3 * h + 1; // Generating the Intial Gap using the 3n + 1 Sequence.
-        while (h >= 1) {
-            for (int i = h; i < array.length; i++) {for (int j = i; j >= h && less(array[j], array[j - h]); j -= h) {swap(array, j, j - h);} h = h / 3;}
-        }; assert(isSorted(array));
+    public static <T extends Comparable<? super T>> void sort(T[] array, GapSequence sequence) {sort(array, Comparator.<T>naturalOrder(), sequence); assert(isSorted(array));}
+
+    /**
+     * This method rearranges the Array where the Order is Specified by the Comparator, using Ciura's Gaps, and Assertion Statements are used to Verify this Order.
+     * @param array is the Array to be Sorted.
+     * @param comparator is the Comparator Specifying the Order.
+     */
+
+    public static <T> void sort(T[] array, Comparator<? super T> comparator) {sort(array, comparator, GapSequence.CIURA);}
+
+    /**
+     * This method rearranges the Array where the Order is Specified by the Comparator, using the Given Gap Sequence.
+     * @param array is the Array to be Sorted.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param sequence is the Gap Sequence.
+     */
+
+    public static <T> void sort(T[] array, Comparator<? super T> comparator, GapSequence sequence) {sort(array, comparator, sequence.gaps(array.length)); assert(isSorted(array, comparator));}
+
+    /**
+     * This method performs an h-Sorting Pass for each Gap in turn, Inserting each Element into its h-Sorted Subsequence by Shifting the Larger Elements h Positions Right into its Hole.
+     * @param array is the Array to be Sorted.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param gaps is the Gaps in Decreasing Order, Ending with 1.
+     * @return the Number of Writes to the Array, for the Benchmark.
+     */
+
+    static <T> long sort(T[] array, Comparator<? super T> comparator, int[] gaps) {
+        long moves = 0; for (int h : gaps) {
+            for (int i = h; i < array.length; i++) {
+                T element = array[i]; int j = i; while (j >= h && less(comparator, element, array[j - h])) {array[j] = array[j - h]; j -= h; moves++;} if (j != i) {array[j] = element; moves++;}
+            }
+        } SortStats.write(moves); return moves;
+    }
+
+    /**
+     * This method rearranges the Array of ints in Ascending Order using Ciura's Gaps.
+     * @param array is the Array to be Sorted.
+     */
+
+    public static void sort(int[] array) {sort(array, GapSequence.CIURA);}
+
+    /**
+     * This method rearranges the Array of ints in Ascending Order using the Given Gap Sequence, without Boxing the Elements.
+     * @param array is the Array to be Sorted.
+     * @param sequence is the Gap Sequence.
+     */
+
+    public static void sort(int[] array, GapSequence sequence) {
+        for (int h : sequence.gaps(array.length)) {
+            for (int i = h; i < array.length; i++) {int element = array[i]; int j = i; while (j >= h && element < array[j - h]) {array[j] = array[j - h]; j -= h;} array[j] = element;}
+        } assert(isSorted(array));
     }
 
     /**
-     * This method rearranges the Array where the Order is Specified by the Comparator and Assertion Statements are used to Verify this Order.
+     * This method rearranges the Array of doubles in Ascending Order using Ciura's Gaps.
      * @param array is the Array to be Sorted.
      */
 
-    public static <T> void sort(T[] array, Comparator<? super T> comparator) {
-        int h = 1; while (h < array.length / 3) h = 3 * h + 1; // Generating the Intial Gap using the 3n + 1 Sequence.
-        while (h >= 1) {
-            for (int i = h; i < array.length; i++) {for (int j = i; j >= h && less(comparator, array[j], array[j - h]); j -= h) {swap(array, j, j - h);} h = h / 3;}
-        }; assert(isSorted(array, comparator));
+    public static void sort(double[] array) {sort(array, GapSequence.CIURA);}
 
+    /**
+     * This method rearranges the Array of doubles in Ascending Order using the Given Gap Sequence, without Boxing the Elements, in the Order of {@link Double#compare} (so -0.0 comes before
+     * 0.0 and NaNs come Last).
+     * @param array is the Array to be Sorted.
+     * @param sequence is the Gap Sequence.
+     */
+
+    public static void sort(double[] array, GapSequence sequence) {
+        for (int h : sequence.gaps(array.length)) {
+            for (int i = h; i < array.length; i++) {double element = array[i]; int j = i; while (j >= h && Double.compare(element, array[j - h]) < 0) {array[j] = array[j - h]; j -= h;} array[j] = element;}
+        } assert(isSorted(array));
     }
 
     /**
@@ -75,13 +176,20 @@ public class ShellSort {
     private static <T> boolean less(Comparator<? super T> comparator, T v, T w) {return comparator.compare(v, w) < 0;}
 
     /**
-     * This method swaps Two Elements in the Array.
-     * @param array is the Array in which the Swap Occurs.
-     * @param i is the Index of the First Element that we are Going to Swap.
-     * @param j is the Index of the Second Element that we are Going to Swap.
+     * This method checks that an Array of ints is Sorted in Ascending Order.
+     * @param array is the Array to Check.
+     * @return true if the Array is Sorted, false Otherwise.
      */
 
-    private static <T> void swap(T[] array, int i, int j) {T swap = array[i]; array[i] = array[j]; array[j] = swap;}
+    private static boolean isSorted(int[] array) {for (int i = 1; i < array.length; i++) {if (array[i] < array[i - 1]) {return false;}} return true;}
+
+    /**
+     * This method checks that an Array of doubles is Sorted in the Order of {@link Double#compare}.
+     * @param array is the Array to Check.
+     * @return true if the Array is Sorted, false Otherwise.
+     */
+
+    private static boolean isSorted(double[] array) {for (int i = 1; i < array.length; i++) {if (Double.compare(array[i], array[i - 1]) < 0) {return false;}} return true;}
 
     /**
      * This method checks that an Entire Array is Sorted in Ascending Order.
@@ -122,7 +230,7 @@ public class ShellSort {
      */
 
     private static <T> boolean isSorted(T[] array, Comparator<? super T> comparator, int low, int high) {
-        for (int i = low + 1; i <= high; i++) {if (less(comparator, array[i], array[i - 1])) {return false;}} return true;
+        return SortStats.uncounted(() -> {for (int i = low + 1; i <= high; i++) {if (less(comparator, array[i], array[i - 1])) {return false;}} return true;});
     }
 
     /**
@@ -151,6 +259,20 @@ public class ShellSort {
         // Testing the Sort Method with an Array of Strings which Sorts the Array with a Customised Comparator which Sorts the Strings based on their Length.
         Comparator<String> byLength = Comparator.comparingInt(String::length); ShellSort.sort(stringArray, byLength); show(stringArray);
 
+        // Testing the Start of each Gap Sequence, and that a Short Array still gets a Final Pass with a Gap of 1.
+        assert Arrays.equals(GapSequence.KNUTH.gaps(1000), new int[] {364, 121, 40, 13, 4, 1}) && Arrays.equals(GapSequence.SEDGEWICK.gaps(1000), new int[] {281, 77, 23, 8, 1});
+        assert Arrays.equals(GapSequence.TOKUDA.gaps(1000), new int[] {525, 233, 103, 46, 20, 9, 4, 1}) && Arrays.equals(GapSequence.CIURA.gaps(5000), new int[] {3937, 1750, 701, 301, 132, 57, 23, 10, 4, 1});
+        assert Arrays.equals(GapSequence.PRATT.gaps(10), new int[] {9, 8, 6, 4, 3, 2, 1}); for (GapSequence sequence : GapSequence.values()) {assert Arrays.equals(sequence.gaps(0), new int[] {1});}
+
+        // Testing every Gap Sequence for Several Lengths against the JDK's Sort, for Objects, ints and doubles (with NaNs and Signed Zeros).
+        java.util.Random random = new java.util.Random(23); for (GapSequence sequence : GapSequence.values()) {for (int length : new int[] {0, 1, 2, 3, 10, 100, 5000}) {
+            Integer[] boxed = random.ints(length, 0, 50).boxed().toArray(Integer[]::new); Integer[] expected = boxed.clone(); Arrays.sort(expected);
+            ShellSort.sort(boxed, sequence); assert Arrays.equals(boxed, expected); ShellSort.sort(boxed, descending, sequence); assert isSorted(boxed, descending);
+            int[] ints = random.ints(length).toArray(); int[] intsCopy = ints.clone(); ShellSort.sort(ints, sequence); Arrays.sort(intsCopy); assert Arrays.equals(ints, intsCopy);
+            double[] doubles = random.doubles(length).map(x -> x < 0.1 ? Double.NaN : x < 0.2 ? -0.0 : x < 0.3 ? 0.0 : x - 0.5).toArray(); double[] doublesCopy = doubles.clone();
+            ShellSort.sort(doubles, sequence); Arrays.sort(doublesCopy); assert Arrays.equals(doubles, doublesCopy);
+        }}
+
         System.out.println("\n\n All Tests Passed Successfully!!!");
 
     }
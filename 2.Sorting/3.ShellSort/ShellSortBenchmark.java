@@ -0,0 +1,45 @@
+import java.util.Arrays; // Importing Arrays from the java.util Package to Compare against the JDK's Sorts and to Copy the Input before each Run.
+import java.util.Comparator; // Importing the Comparator Class from the java.util Package to Count the Comparisons each Gap Sequence Makes.
+import java.util.Random; // Importing Random from the java.util Package to Generate the Benchmark Input.
+
+/**
+ * @author LewisThackeray
+ * @date 17/10/2026
+ *
+ * {@code ShellSortBenchmark} Compares the Gap Sequences of {@link ShellSort}.  It first Counts the Comparisons and the Writes (Moves) each Sequence Makes Sorting the Same Random Boxed
+ * Integers, and then Reports the Best Throughput of the Measured Rounds in Millions of Elements Sorted per Second, for the Boxed Integers and for the int[] Overload against
+ * {@link Arrays#sort}.
+ */
+
+public class ShellSortBenchmark {
+
+    /**
+     * This is the Class Constructor.  The Class Constructor is Private to Prevent Instantiations of the Class, as the Class only Runs the Gap Sequences through the Shared Harness.
+     */
+
+    private ShellSortBenchmark() {}
+
+    /**
+     * This method runs the Benchmark, the First Command-Line Argument Optionally Overrides the Number of Elements.
+     * @param args the Command-Line Arguments.
+     */
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000; Random random = new Random(42);
+        int[] ints = random.ints(n).toArray(); Integer[] boxed = Arrays.stream(ints).boxed().toArray(Integer[]::new);
+
+        // Counting the Comparisons and Moves of each Gap Sequence, Divided by n log2(n).
+        long[] count = new long[1]; Comparator<Integer> counting = (a, b) -> {count[0]++; return Integer.compare(a, b);}; double nLogN = n * Math.log(n) / Math.log(2);
+        System.out.printf("n = %,d, n log2(n) = %,.0f%n", n, nLogN); for (ShellSort.GapSequence sequence : ShellSort.GapSequence.values()) {
+            int[] gaps = sequence.gaps(n); count[0] = 0; long moves = ShellSort.sort(boxed.clone(), counting, gaps);
+            System.out.printf("%-10s %4d gaps %,16d comparisons (%5.2f) %,16d moves (%5.2f)%n", sequence, gaps.length, count[0], count[0] / nLogN, moves, moves / nLogN);
+        }
+
+        // Comparing the Throughput of each Gap Sequence, for Objects and for ints.
+        for (ShellSort.GapSequence sequence : ShellSort.GapSequence.values()) {
+            Benchmark.throughput("ShellSort.sort(Integer[], " + sequence + ")", boxed, Integer[]::clone, array -> ShellSort.sort(array, sequence));
+            Benchmark.throughput("ShellSort.sort(int[], " + sequence + ")", ints, int[]::clone, array -> ShellSort.sort(array, sequence));
+        }
+        Benchmark.throughput("Arrays.sort(Integer[])", boxed, Integer[]::clone, Arrays::sort); Benchmark.throughput("Arrays.sort(int[])", ints, int[]::clone, Arrays::sort);
+    }
+}
@@ -0,0 +1,301 @@
+import java.io.BufferedInputStream; // Importing the BufferedInputStream Class from the java.io Package to Buffer the Reads from a Run File's Channel.
+import java.io.BufferedOutputStream; // Importing the BufferedOutputStream Class from the java.io Package to Buffer the Writes to a Run File's Channel.
+import java.io.Closeable; // Importing the Closeable Interface from the java.io Package to Release the File Channel of a Record Reader.
+import java.io.DataInput; // Importing the DataInput Interface from the java.io Package to Read Records through the Serializer.
+import java.io.DataInputStream; // Importing the DataInputStream Class from the java.io Package to Decode Records from a File.
+import java.io.DataOutput; // Importing the DataOutput Interface from the java.io Package to Write Records through the Serializer.
+import java.io.DataOutputStream; // Importing the DataOutputStream Class from the java.io Package to Encode Records to a File.
+import java.io.IOException; // Importing the IOException Class from the java.io Package to Report Failures Reading or Writing the Files.
+import java.io.UncheckedIOException; // Importing the UncheckedIOException Class from the java.io Package to Report a Failed Read through the Iterator Interface.
+import java.nio.channels.Channels; // Importing the Channels Class from the java.nio.channels Package to Adapt the File Channels to Streams.
+import java.nio.channels.FileChannel; // Importing the FileChannel Class from the java.nio.channels Package to Open the Input, Run and Output Files.
+import java.nio.file.Files; // Importing the Files Class from the java.nio.file Package to Create, Measure and Delete the Temporary Run Files.
+import java.nio.file.Path; // Importing the Path Interface from the java.nio.file Package to Locate the Files.
+import java.nio.file.Paths; // Importing the Paths Class from the java.nio.file Package to Locate the Default Temporary Directory.
+import java.nio.file.StandardOpenOption; // Importing the StandardOpenOption Enum from the java.nio.file Package to Open the Files for Reading or Writing.
+import java.util.ArrayList; // Importing the ArrayList Class from the java.util Package to Hold the Run Files of a Merge Pass.
+import java.util.Arrays; // Importing the Arrays Class from the java.util Package to Grow and Trim the In-Memory Chunk.
+import java.util.Comparator; // Importing the Comparator Class from the java.util Package to Compare Two Records and Determine which should come First in an Ordered Sequence.
+import java.util.Iterator; // Importing the Iterator Interface from the java.util Package to Accept the Records to Sort.
+import java.util.List; // Importing the List Interface from the java.util Package to Hold the Run Files of a Merge Pass.
+import java.util.NoSuchElementException; // Importing the NoSuchElementException from the java.util Package to Throw a Runtime Error when Reading past the End of a File.
+
+/**
+ * @author LewisThackeray
+ * @date 17/10/2026
+ *
+ * {@code ExternalMergeSort} Sorts more Records than fit in Memory, Reading them from an Iterator or a File and Writing them in Order to an Output File.  An <em>External Merge Sort</em> works
+ * as follows:
+ * <ol>
+ *     <li>The Input is Read in Chunks whose Estimated Size is at most the Memory Budget, each Chunk is Sorted with {@link MergeSort#sortBottomUp} (Reusing One Buffer) and Spilled to a Temporary
+ *     Run File.</li>
+ *     <li>While there are more Runs than the Fan-In, each Group of Fan-In Runs is Merged into One Longer Run (a Merge Pass).</li>
+ *     <li>The Last Pass Merges the Remaining Runs into the Output File.</li>
+ * </ol>
+ *
+ * <p>Each Merge is a {@link MergingIterator} over the Runs, whose {@link PriorityQueue} Holds the Runs' Current Records and Breaks Ties by the Run's Position so that the Sort is Stable.
+ * Records are Encoded by the Caller's {@link Serializer} through Buffered Streams over {@link FileChannel}s, and the Files Written by a Serializer can be Sorted again with
+ * {@link #sort(Path, Path)}.  The Bytes Spilled and the Merge Passes of the Last Sort are Recorded as Metrics.</p>
+ *
+ * <p><b>Time Complexity:</b> O(nlog(n)) Comparisons, and the Input is Read and Written 1 + ceil(log<sub>f</sub>(r)) Times for r Runs and a Fan-In of f.</p>
+ *
+ * @param <T> is the Generic Type of the Records.
+ */
+
+public class ExternalMergeSort<T> {
+
+    /**
+     * This Interface Encodes and Decodes the Records in the Run Files and Estimates their Size in Memory, which is what the Memory Budget is Measured in.
+     * @param <T> is the Generic Type of the Records.
+     */
+
+    public interface Serializer<T> {
+
+        /**
+         * This method Writes a Record.
+         * @param record is the Record to Write.
+         * @param out is the Output to Write it to.
+         * @throws IOException if the Write Fails.
+         */
+
+        void write(T record, DataOutput out) throws IOException;
+
+        /**
+         * This method Reads the Next Record.
+         * @param in is the Input to Read it from.
+         * @return the Record.
+         * @throws IOException if the Read Fails.
+         */
+
+        T read(DataInput in) throws IOException;
+
+        /**
+         * This method Estimates the Heap Bytes Held by a Record.
+         * @param record is the Record.
+         * @return the Estimated Size in Bytes.
+         */
+
+        long sizeOf(T record);
+    }
+
+    public static final int DEFAULT_FAN_IN = 64; // Creating a Constant for the Default Number of Runs Merged at once.
+    private static final int REFERENCE_BYTES = 24; // Creating a Constant for the Bytes each Record Costs in the Chunk, its Trimmed Copy and the Merge Sort Buffer.
+    private static final int MIN_IO_BUFFER = 1 << 12, MAX_IO_BUFFER = 1 << 20; // Creating Constants for the Bounds on the Buffer Size of each Open File.
+
+    private final Comparator<? super T> comparator; // Creating the Comparator Specifying the Order.
+    private final Serializer<T> serializer; // Creating the Serializer of the Records.
+    private final long memoryBudget; // Creating the Estimated Number of Bytes a Chunk may Hold.
+    private final int fanIn, ioBufferSize; // Creating the Number of Runs Merged at once and the Buffer Size of each Open File.
+    private final Path temporaryDirectory; // Creating the Directory the Run Files are Created in.
+    private long bytesSpilled; // Creating a Counter of the Bytes Written to Run Files by the Last Sort.
+    private int runsSpilled, mergePasses; // Creating Counters of the Runs Spilled from Memory and the Merge Passes Made by the Last Sort.
+
+    /**
+     * This is the Class Constructor which uses the Default Fan-In and the System's Temporary Directory.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param serializer is the Serializer of the Records.
+     * @param memoryBudget is the Estimated Number of Bytes a Chunk may Hold.
+     * @throws IllegalArgumentException if the Memory Budget is not Positive.
+     */
+
+    public ExternalMergeSort(Comparator<? super T> comparator, Serializer<T> serializer, long memoryBudget) {
+        this(comparator, serializer, memoryBudget, DEFAULT_FAN_IN, Paths.get(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * This is the Class Constructor.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param serializer is the Serializer of the Records.
+     * @param memoryBudget is the Estimated Number of Bytes a Chunk may Hold, which also Bounds the File Buffers of a Merge.
+     * @param fanIn is the Number of Runs Merged at once.
+     * @param temporaryDirectory is the Directory the Run Files are Created in.
+     * @throws IllegalArgumentException if the Memory Budget is not Positive or the Fan-In is less than 2.
+     */
+
+    public ExternalMergeSort(Comparator<? super T> comparator, Serializer<T> serializer, long memoryBudget, int fanIn, Path temporaryDirectory) {
+        if (memoryBudget <= 0) throw new IllegalArgumentException("Memory Budget must be Positive!"); if (fanIn < 2) throw new IllegalArgumentException("Fan-In must be at least 2!");
+        this.comparator = comparator; this.serializer = serializer; this.memoryBudget = memoryBudget; this.fanIn = fanIn; this.temporaryDirectory = temporaryDirectory;
+        ioBufferSize = (int) Math.max(MIN_IO_BUFFER, Math.min(MAX_IO_BUFFER, memoryBudget / (fanIn + 1)));
+    }
+
+    /**
+     * This method Sorts the Records in a File Written with the Serializer into the Output File.
+     * @param input is the File of Records to Sort.
+     * @param output is the File the Sorted Records are Written to, which is Replaced if it Exists.
+     * @throws IOException if a File cannot be Read or Written.
+     */
+
+    public void sort(Path input, Path output) throws IOException {try (Reader reader = new Reader(input)) {sort(reader, output);} catch (UncheckedIOException e) {throw e.getCause();}}
+
+    /**
+     * This method Sorts the Records from the Iterator into the Output File, Spilling Sorted Runs and then Merging them at most Fan-In at a time.
+     * @param input is the Iterator over the Records to Sort.
+     * @param output is the File the Sorted Records are Written to, which is Replaced if it Exists.
+     * @throws IOException if a File cannot be Read or Written.
+     */
+
+    @SuppressWarnings("unchecked") public void sort(Iterator<? extends T> input, Path output) throws IOException {
+        bytesSpilled = 0; runsSpilled = 0; mergePasses = 0; List<Path> runs = new ArrayList<>(), next = new ArrayList<>(); try { // Creating the Runs of the Current Pass and of the Next, both Deleted if the Sort Fails.
+            T[] chunk = (T[]) new Object[1024], buffer = (T[]) new Object[0]; while (input.hasNext()) {
+                int size = 0; for (long used = 0; input.hasNext() && used < memoryBudget; ) { // Creating a Chunk of Records until the Memory Budget is Used.
+                    T record = input.next(); if (size == chunk.length) chunk = Arrays.copyOf(chunk, 2 * size); chunk[size++] = record; used += serializer.sizeOf(record) + REFERENCE_BYTES;
+                }
+                T[] records = size == chunk.length ? chunk : Arrays.copyOf(chunk, size); if (buffer.length < size) buffer = (T[]) new Object[chunk.length];
+                MergeSort.sortBottomUp(records, comparator, buffer); Path run = Files.createTempFile(temporaryDirectory, "run", ".tmp"); runs.add(run);
+                try (DataOutputStream out = writer(run)) {for (int i = 0; i < size; i++) {serializer.write(records[i], out);}} bytesSpilled += Files.size(run); runsSpilled++;
+                Arrays.fill(chunk, 0, size, null); Arrays.fill(buffer, 0, size, null); // Creating the Release of the Chunk's Records before the Next Chunk is Read.
+            }
+            while (runs.size() > fanIn) { // Creating the Intermediate Merge Passes, each Replacing every Group of Fan-In Runs by One Run.
+                next = new ArrayList<>(); for (int i = 0; i < runs.size(); i += fanIn) {
+                    List<Path> group = runs.subList(i, Math.min(i + fanIn, runs.size())); if (group.size() == 1) {next.add(group.get(0)); continue;}
+                    Path merged = Files.createTempFile(temporaryDirectory, "run", ".tmp"); next.add(merged); merge(group, merged); bytesSpilled += Files.size(merged); for (Path run : group) {Files.delete(run);}
+                } runs = next; mergePasses++;
+            }
+            merge(runs, output); mergePasses++;
+        } finally {for (Path run : runs) {Files.deleteIfExists(run);} for (Path run : next) {Files.deleteIfExists(run);}}
+    }
+
+    /**
+     * This method Merges the Run Files into the Output File with a {@link MergingIterator} over their Readers.
+     * @param runs is the List of Run Files to Merge, in the Order of their Records in the Input.
+     * @param output is the File the Merged Records are Written to.
+     * @throws IOException if a File cannot be Read or Written.
+     */
+
+    private void merge(List<Path> runs, Path output) throws IOException {
+        List<Reader> readers = new ArrayList<>(runs.size()); try (DataOutputStream out = writer(output)) {
+            for (Path path : runs) {readers.add(new Reader(path));} for (MergingIterator<T> merged = new MergingIterator<>(readers, comparator); merged.hasNext(); ) {serializer.write(merged.next(), out);}
+        } catch (UncheckedIOException e) {throw e.getCause();} finally {for (Reader reader : readers) {reader.close();}}
+    }
+
+    /**
+     * This method Opens a File for Writing through a Buffered Stream over its Channel, Replacing any Existing File.
+     * @param path is the File to Write.
+     * @return the Stream to Write the Records to.
+     * @throws IOException if the File cannot be Opened.
+     */
+
+    private DataOutputStream writer(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        return new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), ioBufferSize));
+    }
+
+    /**
+     * This method returns the Bytes Written to Run Files by the Last Sort, including the Runs of the Intermediate Merge Passes but not the Output File.
+     * @return a Long representing the Bytes Spilled.
+     */
+
+    public long bytesSpilled() {return bytesSpilled;}
+
+    /**
+     * This method returns the Number of Sorted Runs Spilled from Memory by the Last Sort.
+     * @return an Integer representing the Number of Initial Runs.
+     */
+
+    public int runsSpilled() {return runsSpilled;}
+
+    /**
+     * This method returns the Number of Merge Passes Made by the Last Sort, including the Final Pass into the Output File.
+     * @return an Integer representing the Number of Merge Passes.
+     */
+
+    public int mergePasses() {return mergePasses;}
+
+    /**
+     * This Inner-Class Reads the Records of a File One at a time through a Buffered Stream over its Channel.
+     */
+
+    private final class Reader implements Iterator<T>, Closeable {
+
+        private final BufferedInputStream buffered; // Creating the Buffered Stream, which is Peeked to Detect the End of the File.
+        private final DataInputStream in; // Creating the Stream the Serializer Reads from.
+
+        /**
+         * This is the Class Constructor which Opens the File.
+         * @param path is the File to Read.
+         * @throws IOException if the File cannot be Opened.
+         */
+
+        Reader(Path path) throws IOException {buffered = new BufferedInputStream(Channels.newInputStream(FileChannel.open(path, StandardOpenOption.READ)), ioBufferSize); in = new DataInputStream(buffered);}
+
+        /**
+         * This method checks if there is Another Record by Peeking at the Next Byte.
+         * @return true if the File has more Bytes, false otherwise.
+         * @throws UncheckedIOException if the Read Fails.
+         */
+
+        @Override public boolean hasNext() {
+            try {buffered.mark(1); boolean more = buffered.read() >= 0; buffered.reset(); return more;} catch (IOException e) {throw new UncheckedIOException(e);}
+        }
+
+        /**
+         * This method Reads the Next Record.
+         * @return the Next Record in the File.
+         * @throws NoSuchElementException if the File has no more Records.
+         * @throws UncheckedIOException if the Read Fails.
+         */
+
+        @Override public T next() {
+            if (!hasNext()) throw new NoSuchElementException("No More Records in the File!"); try {return serializer.read(in);} catch (IOException e) {throw new UncheckedIOException(e);}
+        }
+
+        /**
+         * This method Closes the File.
+         * @throws IOException if the File cannot be Closed.
+         */
+
+        @Override public void close() throws IOException {in.close();}
+    }
+
+    /**
+     * This method tests the {@code ExternalMergeSort} Class by Sorting a File of Random Integers with a Small Memory Budget and Fan-In, so that there are Several Runs and Merge Passes.
+     * @param args the Command Line Arguments.
+     * @throws IOException if a Temporary File cannot be Read or Written.
+     */
+
+    public static void main(String[] args) throws IOException {
+        Serializer<Integer> integers = new Serializer<>() {
+            public void write(Integer record, DataOutput out) throws IOException {out.writeInt(record);}
+            public Integer read(DataInput in) throws IOException {return in.readInt();}
+            public long sizeOf(Integer record) {return 16;}
+        };
+        Path directory = Files.createTempDirectory("external"), input = directory.resolve("input.bin"), output = directory.resolve("output.bin"); int n = 200000;
+        int[] values = new java.util.Random(5).ints(n, 0, 1000).toArray(); try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(input)))) {
+            for (int value : values) {out.writeInt(value);}
+        }
+
+        // Testing the Sort of a File, with 40 Bytes per Record a 64KB Budget gives 123 Runs, so a Fan-In of 4 needs 4 Merge Passes.
+        ExternalMergeSort<Integer> sorter = new ExternalMergeSort<>(Comparator.naturalOrder(), integers, 1 << 16, 4, directory); sorter.sort(input, output); Arrays.sort(values);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(output)))) {for (int value : values) {assert in.readInt() == value;} assert in.read() < 0;}
+        System.out.printf("runs = %d, merge passes = %d, bytes spilled = %,d%n", sorter.runsSpilled(), sorter.mergePasses(), sorter.bytesSpilled());
+        assert sorter.runsSpilled() == 123 && sorter.mergePasses() == 4 && sorter.bytesSpilled() == 4L * n * 4;
+
+        // Testing the Sort of an Iterator in Descending Order, a Sort which Fits in Memory, and the Sort of an Empty Input, then Checking that no Run Files are Left Behind.
+        ExternalMergeSort<Integer> descending = new ExternalMergeSort<>(Comparator.reverseOrder(), integers, 1 << 16, 4, directory);
+        descending.sort(Arrays.stream(values).iterator(), output); int previous = Integer.MAX_VALUE;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(output)))) {for (int i = 0; i < n; i++) {int value = in.readInt(); assert value <= previous; previous = value;}}
+        new ExternalMergeSort<>(Comparator.<Integer>naturalOrder(), integers, Long.MAX_VALUE).sort(input, output); assert Files.size(output) == 4L * n;
+        descending.sort(java.util.Collections.emptyIterator(), output); assert Files.size(output) == 0 && descending.mergePasses() == 1;
+        try (java.util.stream.Stream<Path> files = Files.list(directory)) {assert files.count() == 2;}
+
+        // Testing Presorted and Rotated Input, One Chunk of 128 Records Rotated by 64 and Many Chunks of Sorted or Rotated Records, as each Chunk is Sorted by a Natural Merge Sort.
+        Integer[] chunk = new Integer[128], presorted = new Integer[n], rotated = new Integer[n]; for (int i = 0; i < 128; i++) {chunk[i] = (i + 64) % 128;}
+        for (int i = 0; i < n; i++) {presorted[i] = i; rotated[i] = (i + n / 3) % n;}
+        for (Integer[] records : new Integer[][] {chunk, presorted, rotated}) {
+            ExternalMergeSort<Integer> ascending = new ExternalMergeSort<>(Comparator.naturalOrder(), integers, 1 << 16, 4, directory); ascending.sort(Arrays.asList(records).iterator(), output);
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(output)))) {for (int i = 0; i < records.length; i++) {assert in.readInt() == i;} assert in.read() < 0;}
+        }
+
+        // Testing that the Run Files are Deleted when an Intermediate Merge Pass Fails, with a Serializer which Throws on its First Write after the Runs are Spilled.
+        int[] writes = new int[1]; Serializer<Integer> failing = new Serializer<>() {
+            public void write(Integer record, DataOutput out) throws IOException {if (++writes[0] > n) throw new IOException("Disk Full!"); out.writeInt(record);}
+            public Integer read(DataInput in) throws IOException {return in.readInt();}
+            public long sizeOf(Integer record) {return 16;}
+        };
+        try {new ExternalMergeSort<>(Comparator.<Integer>naturalOrder(), failing, 1 << 16, 4, directory).sort(Arrays.asList(rotated).iterator(), output); assert false;} catch (IOException e) {assert e.getMessage().equals("Disk Full!");}
+        try (java.util.stream.Stream<Path> files = Files.list(directory)) {assert files.count() == 2;}
+        Files.delete(input); Files.delete(output); Files.delete(directory);
+
+        System.out.println("\n\n All Tests Passed Successfully!!!");
+    }
+}
@@ -1,4 +1,7 @@
 import java.util.Comparator; // Importing the Comparator Class from the java.util Package to Compare Two Objects and Determine which should come First in an Ordered Sequence.
+import java.util.concurrent.ForkJoinPool; // Importing the ForkJoinPool Class from the java.util.concurrent Package to Run the Parallel Sort.
+import java.util.concurrent.ForkJoinTask; // Importing the ForkJoinTask Class from the java.util.concurrent Package to Check whether the Caller is already in a Fork-Join Pool.
+import java.util.concurrent.RecursiveAction; // Importing the RecursiveAction Class from the java.util.concurrent Package to Represent the Sorts and Merges of Segments as Fork-Join Tasks.
 
 /**
  * @author LewisThackeray
@@ -15,10 +18,31 @@ import java.util.Comparator; // Importing the Comparator Class from the java.uti
  * Recusion Tree, the <i>merge</i> function processes all n elements across all subarrays, leading to a Total Time Complexity of O(nlog(n)).</p>
  *
  * <p><b>Space Complexity of Top-Down Merge Sort:</b> This implementation uses an Auxiliary Array of size n, thus the Space Complexity is O(n).</p>
+ *
+ * <p><b>Parallel Sort:</b> The parallelSort Methods run on the Current {@link ForkJoinPool} (or the Common Pool when Called from Outside one).  The Two Halves of each Segment Longer than the
+ * Granularity are Sorted as Forked Tasks, Alternating the Roles of the Array and the Auxiliary Array so that Nothing is Copied Back, and are then Merged in Parallel: the Middle Element of the
+ * Longer Run is Placed at its Final Position by a Binary Search in the Shorter Run, which Splits the Merge into Two Independent Merges.  The Parallel Sort is Stable, like the Sequential one.</p>
+ *
+ * <p><b>Bottom-Up (Natural) Merge Sort:</b> The sortBottomUp Methods are Iterative and, given a Buffer, Allocate only a Stack of at most 64 Run Boundaries.  Like TimSort, they Scan the
+ * Array Left to Right for Natural Runs, Reversing each Strictly Descending one in Place, and Extend any Run Shorter than INSERTION_SORT_CUTOFF Elements (or a Cutoff given by the Caller) with
+ * {@link InsertionSort#binarySort}.  Each Run is Pushed on the Stack, and Adjacent Runs are Merged whenever the Lengths of the Top Three no longer Shrink like the Fibonacci Numbers, so every
+ * Merge is of Runs of Similar Length and the Stack stays O(log(n)) Deep.  A Merge first Skips the Prefix of the Left Run and the Suffix of the Right Run which are already in Place (Found by
+ * Binary Search), Copies only the Shorter of what is Left of the Two Runs into the Buffer, and Merges it Back, Finding the Place of each of its Elements by Binary Search when it is much Shorter
+ * than the other Run.  Sorted and Reversed Input is therefore a Single Run Sorted in n - 1 Compares, and an Array made of k Runs is Sorted in O(nlog(k)).  Unlike TimSort there is no
+ * Adaptive Galloping within a Merge.</p>
+ *
+ * <p><i>The Bottom-Up Sort does not Alternate the Roles of the Array and the Buffer Pass by Pass, as the Parallel Sort does.  Merging Runs as the Run Stack Dictates, rather than in Passes of
+ * Equal Widths, leaves the Runs in no Single Array after a Pass, and a Pass would in any case Write every Element, whereas a Merge here Writes only the Overlap of its Runs plus the Shorter
+ * Part of it once more, which for Nearly Sorted Input is a Small Fraction of n.</i></p>
  */
 
 public class MergeSort {
 
+    private static final int INSERTION_SORT_CUTOFF = 32; // Creating a Constant for the Shortest Run the Bottom-Up Sort Merges, Shorter Runs being Extended by Insertion Sort.
+    private static final int RUN_STACK_SIZE = 64; // Creating a Constant for the Size of the Run Stack, which the Fibonacci-Like Lengths of its Runs keep under 47 Entries for any int Length.
+    private static final ThreadLocal<int[][]> RUN_STACKS = ThreadLocal.withInitial(() -> new int[2][RUN_STACK_SIZE]); // Creating each Thread's Run Stack, Reused by its Bottom-Up Sorts.
+    public static final int PARALLEL_GRANULARITY = 1 << 13; // Creating a Constant for the Default Segment Length below which the Parallel Sort stops Forking and Sorts or Merges Sequentially.
+
     /**
      * This is the Class Constructor.  The Class Constructor is Private to Prevent Instantiations of the Class, as the Class is Designed as a Utility Class with only Static Methods for performing
      * Merge Sort Operations.  Direct Instantion is NOT Supported.
@@ -54,7 +78,7 @@ public class MergeSort {
      */
 
     public static <T> void sort(T[] array, Comparator<? super T> comparator) {
-        T[] auxiliary_array = (T[]) new Comparable[array.length]; sort(array, auxiliary_array, comparator, 0, array.length - 1); assert isSorted(array, comparator, 0, array.length - 1);
+        T[] auxiliary_array = (T[]) new Comparable[array.length]; SortStats.allocate(array.length); sort(array, auxiliary_array, comparator, 0, array.length - 1); assert isSorted(array, comparator, 0, array.length - 1);
     }
 
     /**
@@ -67,8 +91,8 @@ public class MergeSort {
      */
 
     private static <T> void sort(T[] array, T[] auxiliary_array, Comparator<? super T> comparator, int low, int high) {
-        if (high <= low) return; int mid  = low + (high - low) / 2; sort(array, auxiliary_array, comparator,low, mid); sort(array, auxiliary_array, comparator, mid + 1, high);
-        merge(array, auxiliary_array, comparator, low, mid, high);
+        if (high <= low) return; SortStats.enter(); int mid  = low + (high - low) / 2; sort(array, auxiliary_array, comparator,low, mid); sort(array, auxiliary_array, comparator, mid + 1, high);
+        merge(array, auxiliary_array, comparator, low, mid, high); SortStats.exit();
     }
 
     /**
@@ -101,7 +125,305 @@ public class MergeSort {
         for (int k = low; k <= high; k++) {auxiliary_array[k] = array[k];} int i = low; int j = mid + 1; for (int k = low; k <= high; k++) {
             if (i > mid) {array[k] = auxiliary_array[j++];} else if(j > high) {array[k] = auxiliary_array[i++];}
             else if (less(comparator, auxiliary_array[j], auxiliary_array[i])) {array[k] = auxiliary_array[j++];} else {array[k] = auxiliary_array[i++];}
+        } SortStats.write(2L * (high - low + 1));
+    }
+
+    /**
+     * This method rearranges the Array in Ascending Order using the Bottom-Up Merge Sort, Allocating a Buffer of the Same Length.
+     * @param array is the Array to be Sorted.
+     */
+
+    public static <T extends Comparable<? super T>> void sortBottomUp(T[] array) {sortBottomUp(array, newBuffer(array));}
+
+    /**
+     * This method rearranges the Array in Ascending Order using the Bottom-Up Merge Sort and the Caller's Buffer, so that Repeated Sorts Allocate Nothing.
+     * @param array is the Array to be Sorted.
+     * @param buffer is the Scratch Array, at least as Long as the Array, whose Contents are Overwritten.
+     * @throws IllegalArgumentException if the Buffer is Shorter than the Array.
+     */
+
+    public static <T extends Comparable<? super T>> void sortBottomUp(T[] array, T[] buffer) {sortBottomUp(array, Comparator.<T>naturalOrder(), buffer); assert isSorted(array);}
+
+    /**
+     * This method rearranges the Array where the Order is Specified by the Comparator using the Bottom-Up Merge Sort, Allocating a Buffer of the Same Length.
+     * @param array is the Array to be Sorted.
+     * @param comparator is the Comparator Specifying the Order.
+     */
+
+    public static <T> void sortBottomUp(T[] array, Comparator<? super T> comparator) {sortBottomUp(array, comparator, newBuffer(array));}
+
+    /**
+     * This method rearranges the Array where the Order is Specified by the Comparator using the Bottom-Up Merge Sort and the Caller's Buffer, so that Repeated Sorts Allocate Nothing.
+     * @param array is the Array to be Sorted.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param buffer is the Scratch Array, at least as Long as the Array, whose Contents are Overwritten.
+     * @throws IllegalArgumentException if the Buffer is Shorter than the Array.
+     */
+
+    public static <T> void sortBottomUp(T[] array, Comparator<? super T> comparator, T[] buffer) {sortBottomUp(array, comparator, buffer, INSERTION_SORT_CUTOFF);}
+
+    /**
+     * This method rearranges the Array where the Order is Specified by the Comparator using the Bottom-Up Merge Sort and the Caller's Buffer, Extending each Natural Run Shorter than the
+     * Cutoff to the Cutoff's Length by Binary Insertion Sort before it is Pushed on the Run Stack.  The Run Stack is the Calling Thread's own, so Repeated Sorts Allocate Nothing, unless the
+     * Comparator itself Sorts on the Same Thread, when the Inner Sort Allocates a Stack of its own.
+     * @param array is the Array to be Sorted.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param buffer is the Scratch Array, at least as Long as the Array, whose Contents are Overwritten.
+     * @param cutoff is the Shortest Run which is Merged without being Extended, where 1 Merges the Natural Runs as they are Found.
+     * @throws IllegalArgumentException if the Buffer is Shorter than the Array or the Cutoff is less than 1.
+     */
+
+    public static <T> void sortBottomUp(T[] array, Comparator<? super T> comparator, T[] buffer, int cutoff) {
+        if (buffer.length < array.length) throw new IllegalArgumentException("Buffer is Shorter than the Array!"); if (cutoff < 1) throw new IllegalArgumentException("The Cutoff must be at least 1!");
+        int[][] stack = RUN_STACKS.get(); if (stack == null) stack = new int[2][RUN_STACK_SIZE]; else RUN_STACKS.set(null); // Creating the Stack of Runs, Taken from the Thread while in Use.
+        try {sortBottomUp(array, comparator, buffer, cutoff, stack[0], stack[1]);} finally {RUN_STACKS.set(stack);}
+    }
+
+    /**
+     * This method runs the Bottom-Up Merge Sort, Scanning the Natural Runs onto the Run Stack and Merging them.
+     * @param array is the Array to be Sorted.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param buffer is the Scratch Array, at least as Long as the Array.
+     * @param cutoff is the Shortest Run which is Merged without being Extended.
+     * @param bases is the Base Indices of the Runs on the Stack.
+     * @param lengths is the Lengths of the Runs on the Stack.
+     */
+
+    private static <T> void sortBottomUp(T[] array, Comparator<? super T> comparator, T[] buffer, int cutoff, int[] bases, int[] lengths) {
+        int n = array.length, size = 0;
+        for (int low = 0, high; low < n; low = high) {
+            high = low + 1; if (high < n && less(comparator, array[high], array[low])) {while (high < n && less(comparator, array[high], array[high - 1])) high++; reverse(array, low, high - 1);} // Creating a Strictly Descending Run, Reversed.
+            else {while (high < n && !less(comparator, array[high], array[high - 1])) high++;} // Creating an Ascending Run.
+            if (high - low < cutoff) {high = (int) Math.min((long) low + cutoff, n); InsertionSort.binarySort(array, comparator, low, high - 1);} // Creating the Extension of a Short Run.
+            bases[size] = low; lengths[size++] = high - low; // Pushing the Run.
+            while (size > 1) { // Restoring the Invariant that lengths[k - 2] > lengths[k - 1] + lengths[k] and lengths[k - 1] > lengths[k] for the Runs at the Top of the Stack.
+                int k = size - 2; if (k > 0 && lengths[k - 1] <= lengths[k] + lengths[k + 1] || k > 1 && lengths[k - 2] <= lengths[k - 1] + lengths[k]) {if (lengths[k - 1] < lengths[k + 1]) k--;}
+                else if (lengths[k] > lengths[k + 1]) break; mergeRuns(array, buffer, comparator, bases, lengths, k); size--;
+            }
+        }
+        while (size > 1) {int k = size - 2; if (k > 0 && lengths[k - 1] < lengths[k + 1]) k--; mergeRuns(array, buffer, comparator, bases, lengths, k); size--;} assert isSorted(array, comparator);
+    }
+
+    /**
+     * This method Merges the Runs at Positions k and k + 1 of the Run Stack, and Shifts the Run Above them (if any) Down into Position k + 1.  Only the Shorter of the Two Overlapping Parts
+     * is Copied into the Buffer, and the Merge Fills the Gap it Leaves: from the Low End when it is the Left Part, from the High End when it is the Right Part.
+     * @param array is the Array Holding the Runs.
+     * @param buffer is the Scratch Array.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param bases is the Base Indices of the Runs on the Stack.
+     * @param lengths is the Lengths of the Runs on the Stack.
+     * @param k is the Position of the Left Run on the Stack.
+     */
+
+    private static <T> void mergeRuns(T[] array, T[] buffer, Comparator<? super T> comparator, int[] bases, int[] lengths, int k) {
+        int low = bases[k], mid = bases[k + 1], high = mid + lengths[k + 1]; lengths[k] += lengths[k + 1]; bases[k + 1] = bases[k + 2]; lengths[k + 1] = lengths[k + 2];
+        if (!less(comparator, array[mid], array[mid - 1])) return; // Checking whether the Runs are already in Order.
+        int start = upperBound(array, comparator, low, mid, array[mid]), end = lowerBound(array, comparator, mid, high, array[mid - 1]); // Creating the Bounds of the Overlap.
+        if (mid - start > end - mid) {mergeHigh(array, buffer, comparator, start, mid, end); return;}
+        System.arraycopy(array, start, buffer, start, mid - start); int i = start, j = mid, out = start;
+        if ((mid - start) * 8L < end - mid) { // Creating the Merge of a Short Left Run into a Long Right one by Binary Search, Moving each Stretch of the Right Run in One Copy.
+            for (; i < mid; i++) {int stop = lowerBound(array, comparator, j, end, buffer[i]); System.arraycopy(array, j, array, out, stop - j); out += stop - j; j = stop; array[out++] = buffer[i];}
+        } else {while (i < mid && j < end) {array[out++] = less(comparator, array[j], buffer[i]) ? array[j++] : buffer[i++];}}
+        System.arraycopy(buffer, i, array, out, mid - i); SortStats.write(2L * (mid - start) + (j - mid)); // Creating the Copy of what is Left of the Left Run, the Right Run's Rest being in Place.
+    }
+
+    /**
+     * This method Merges the Overlapping Parts of Two Adjacent Runs from the High End, Copying only the Right Part, which is the Shorter, into the Buffer.  An Element of the Right Part is
+     * Placed after the Equal Elements of the Left Part, so the Merge is Stable.
+     * @param array is the Array Holding the Runs.
+     * @param buffer is the Scratch Array.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param start is the Start Index of the Left Part.
+     * @param mid is the Start Index of the Right Part.
+     * @param end is the End Index of the Right Part (exclusive).
+     */
+
+    private static <T> void mergeHigh(T[] array, T[] buffer, Comparator<? super T> comparator, int start, int mid, int end) {
+        System.arraycopy(array, mid, buffer, mid, end - mid); int i = mid - 1, j = end - 1, out = end - 1;
+        if ((end - mid) * 8L < mid - start) { // Creating the Merge of a Short Right Run into a Long Left one by Binary Search, Moving each Stretch of the Left Run in One Copy.
+            for (; j >= mid; j--) {int stop = upperBound(array, comparator, start, i + 1, buffer[j]); System.arraycopy(array, stop, array, out - (i - stop), i + 1 - stop); out -= i + 1 - stop; i = stop - 1; array[out--] = buffer[j];}
+        } else {while (i >= start && j >= mid) {array[out--] = less(comparator, buffer[j], array[i]) ? array[i--] : buffer[j--];}}
+        System.arraycopy(buffer, mid, array, out - (j - mid), j + 1 - mid); SortStats.write(2L * (end - mid) + (mid - 1 - i)); // Creating the Copy of what is Left of the Right Run, the Left Run's Rest being in Place.
+    }
+
+    /**
+     * This method creates an Empty Buffer with the Same Component Type and Length as the Array.
+     * @param array is the Array the Buffer is for.
+     * @return a New Array of the Same Type and Length.
+     */
+
+    @SuppressWarnings("unchecked") private static <T> T[] newBuffer(T[] array) {SortStats.allocate(array.length); return (T[]) java.lang.reflect.Array.newInstance(array.getClass().getComponentType(), array.length);}
+
+    /**
+     * This method reverses a Segment of the Array in Place.
+     * @param array is the Array Containing the Segment.
+     * @param low is the Lower Bound Index of the Segment (inclusive).
+     * @param high is the Upper Bound Index of the Segment (inclusive).
+     */
+
+    private static <T> void reverse(T[] array, int low, int high) {while (low < high) {T swap = array[low]; array[low++] = array[high]; array[high--] = swap;}}
+
+    /**
+     * This method rearranges the Array in Ascending Order using all the Threads of the Current Fork-Join Pool, Forking Segments Longer than {@link #PARALLEL_GRANULARITY}.
+     * @param array is the Array to be Sorted.
+     */
+
+    public static <T extends Comparable<? super T>> void parallelSort(T[] array) {parallelSort(array, PARALLEL_GRANULARITY);}
+
+    /**
+     * This method rearranges the Array in Ascending Order using all the Threads of the Current Fork-Join Pool.
+     * @param array is the Array to be Sorted.
+     * @param granularity is the Segment Length at or below which a Task Sorts or Merges Sequentially rather than Forking.
+     * @throws IllegalArgumentException if the Granularity is not Positive.
+     */
+
+    public static <T extends Comparable<? super T>> void parallelSort(T[] array, int granularity) {parallelSort(array, Comparator.<T>naturalOrder(), granularity); assert isSorted(array);}
+
+    /**
+     * This method rearranges the Array where the Order is Specified by the Comparator using all the Threads of the Current Fork-Join Pool, Forking Segments Longer than
+     * {@link #PARALLEL_GRANULARITY}.
+     * @param array is the Array to be Sorted.
+     * @param comparator is the Comparator Specifying the Order.
+     */
+
+    public static <T> void parallelSort(T[] array, Comparator<? super T> comparator) {parallelSort(array, comparator, PARALLEL_GRANULARITY);}
+
+    /**
+     * This method creates the Auxiliary Array as a Copy of the Array and Starts the Parallel Sort where the Order is Specified by the Comparator.
+     * @param array is the Array to be Sorted.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param granularity is the Segment Length at or below which a Task Sorts or Merges Sequentially rather than Forking.
+     * @throws IllegalArgumentException if the Granularity is not Positive.
+     */
+
+    public static <T> void parallelSort(T[] array, Comparator<? super T> comparator, int granularity) {
+        if (granularity < 1) throw new IllegalArgumentException("Granularity must be Positive!"); ParallelSort<T> task = new ParallelSort<>(array.clone(), array, comparator, 0, array.length - 1, granularity);
+        if (ForkJoinTask.inForkJoinPool()) task.invoke(); else ForkJoinPool.commonPool().invoke(task); assert isSorted(array, comparator);
+    }
+
+    /**
+     * This Inner-Class is the Fork-Join Task which Sorts One Segment, given that the Source and the Destination Arrays both hold the Segment's Elements, and Leaves it Sorted in the Destination.
+     */
+
+    @SuppressWarnings("serial") private static final class ParallelSort<T> extends RecursiveAction {
+
+        private final T[] source, destination; // Creating the Array the Halves are Sorted into and the Array the Merged Segment is Written to.
+        private final Comparator<? super T> comparator; // Creating the Comparator Specifying the Order.
+        private final int low, high, granularity; // Creating the Bounds of the Segment (inclusive) and the Granularity.
+
+        /**
+         * This is the Class Constructor which Describes the Segment to Sort.
+         * @param source is the Array the Halves are Sorted into, which is Used as Scratch Space.
+         * @param destination is the Array the Sorted Segment is Left in.
+         * @param comparator is the Comparator Specifying the Order.
+         * @param low is the Lower Bound Index of the Segment (inclusive).
+         * @param high is the Upper Bound Index of the Segment (inclusive).
+         * @param granularity is the Segment Length at or below which the Task Sorts Sequentially.
+         */
+
+        ParallelSort(T[] source, T[] destination, Comparator<? super T> comparator, int low, int high, int granularity) {
+            this.source = source; this.destination = destination; this.comparator = comparator; this.low = low; this.high = high; this.granularity = granularity;
+        }
+
+        /**
+         * This method Sorts the Segment: Sequentially if it is Short, otherwise by Sorting the Halves into the Source as Forked Tasks and Merging them into the Destination in Parallel.
+         */
+
+        @Override protected void compute() {
+            if (high - low + 1 <= granularity) {sort(destination, source, comparator, low, high); return;} int mid = low + (high - low) / 2;
+            invokeAll(new ParallelSort<>(destination, source, comparator, low, mid, granularity), new ParallelSort<>(destination, source, comparator, mid + 1, high, granularity));
+            new ParallelMerge<>(source, destination, comparator, low, mid, mid + 1, high, low, granularity).compute();
+        }
+    }
+
+    /**
+     * This Inner-Class is the Fork-Join Task which Stably Merges Two Sorted Runs of the Source into the Destination, Splitting the Merge in Two around the Middle Element of the Longer Run.
+     */
+
+    @SuppressWarnings("serial") private static final class ParallelMerge<T> extends RecursiveAction {
+
+        private final T[] source, destination; // Creating the Array Holding the Runs and the Array the Merged Run is Written to.
+        private final Comparator<? super T> comparator; // Creating the Comparator Specifying the Order.
+        private final int low1, high1, low2, high2, k, granularity; // Creating the Bounds of the Left and Right Runs (inclusive), the Destination Index and the Granularity.
+
+        /**
+         * This is the Class Constructor which Describes the Two Runs to Merge.
+         * @param source is the Array Holding the Runs.
+         * @param destination is the Array the Merged Run is Written to.
+         * @param comparator is the Comparator Specifying the Order.
+         * @param low1 is the Start Index of the Left Run.
+         * @param high1 is the End Index of the Left Run.
+         * @param low2 is the Start Index of the Right Run.
+         * @param high2 is the End Index of the Right Run.
+         * @param k is the Index in the Destination of the First Merged Element.
+         * @param granularity is the Combined Length at or below which the Task Merges Sequentially.
+         */
+
+        ParallelMerge(T[] source, T[] destination, Comparator<? super T> comparator, int low1, int high1, int low2, int high2, int k, int granularity) {
+            this.source = source; this.destination = destination; this.comparator = comparator; this.low1 = low1; this.high1 = high1; this.low2 = low2; this.high2 = high2; this.k = k;
+            this.granularity = granularity;
         }
+
+        /**
+         * This method Merges the Runs: Sequentially if they are Short, otherwise by Placing the Middle Element of the Longer Run and Merging what is Left and Right of it as Two Forked Tasks.
+         * Equal Elements of the Left Run stay before those of the Right Run, because the Search in the Right Run finds the First Element not Less than the Middle Element of the Left Run, and
+         * the Search in the Left Run finds the First Element Greater than the Middle Element of the Right Run.
+         */
+
+        @Override protected void compute() {
+            int length1 = high1 - low1 + 1, length2 = high2 - low2 + 1; if (length1 + length2 <= granularity) {merge(source, destination, comparator, low1, high1, low2, high2, k); return;}
+            int mid1, mid2; if (length1 >= length2) {mid1 = low1 + length1 / 2; mid2 = lowerBound(source, comparator, low2, high2 + 1, source[mid1]);} // Creating the Split from the Left Run.
+            else {mid2 = low2 + length2 / 2; mid1 = upperBound(source, comparator, low1, high1 + 1, source[mid2]);} // Creating the Split from the Right Run.
+            int split = k + (mid1 - low1) + (mid2 - low2); // Creating the Destination Index where the Second Half of the Merge Starts.
+            if (split == k) {merge(source, destination, comparator, low1, high1, low2, high2, k); return;} // Checking for an Empty First Half, whose Second Half would Repeat this Task.
+            invokeAll(new ParallelMerge<>(source, destination, comparator, low1, mid1 - 1, low2, mid2 - 1, k, granularity), new ParallelMerge<>(source, destination, comparator, mid1, high1, mid2, high2, split, granularity));
+        }
+    }
+
+    /**
+     * This method Stably Merges Two Sorted Runs of the Source into the Destination Sequentially, where the Order is Specified by the Comparator.
+     * @param source is the Array Holding the Runs.
+     * @param destination is the Array the Merged Run is Written to.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param i is the Start Index of the Left Run.
+     * @param high1 is the End Index of the Left Run.
+     * @param j is the Start Index of the Right Run.
+     * @param high2 is the End Index of the Right Run.
+     * @param k is the Index in the Destination of the First Merged Element.
+     */
+
+    private static <T> void merge(T[] source, T[] destination, Comparator<? super T> comparator, int i, int high1, int j, int high2, int k) {
+        SortStats.write(high1 - i + high2 - j + 2);
+        while (i <= high1 && j <= high2) {destination[k++] = less(comparator, source[j], source[i]) ? source[j++] : source[i++];}
+        int rest = high1 - i + 1; System.arraycopy(source, i, destination, k, rest); System.arraycopy(source, j, destination, k + rest, high2 - j + 1); // Creating the Copy of whichever Run is Left.
+    }
+
+    /**
+     * This method finds the First Index in a Sorted Range whose Element is not Less than the Key.
+     * @param array is the Array Holding the Range.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param low is the Lower Bound Index of the Range (inclusive).
+     * @param high is the Upper Bound Index of the Range (exclusive).
+     * @param key is the Key to Search for.
+     * @return the Index of the First Element not Less than the Key, or high if there is none.
+     */
+
+    private static <T> int lowerBound(T[] array, Comparator<? super T> comparator, int low, int high, T key) {
+        while (low < high) {int mid = (low + high) >>> 1; if (less(comparator, array[mid], key)) low = mid + 1; else high = mid;} return low;
+    }
+
+    /**
+     * This method finds the First Index in a Sorted Range whose Element is Greater than the Key.
+     * @param array is the Array Holding the Range.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param low is the Lower Bound Index of the Range (inclusive).
+     * @param high is the Upper Bound Index of the Range (exclusive).
+     * @param key is the Key to Search for.
+     * @return the Index of the First Element Greater than the Key, or high if there is none.
+     */
+
+    private static <T> int upperBound(T[] array, Comparator<? super T> comparator, int low, int high, T key) {
+        while (low < high) {int mid = (low + high) >>> 1; if (less(comparator, key, array[mid])) high = mid; else low = mid + 1;} return low;
     }
 
     /**
@@ -162,7 +484,7 @@ public class MergeSort {
      */
 
     private static <T> boolean isSorted(T[] array, Comparator<? super T> comparator, int low, int high) {
-        for (int i = low + 1; i <= high; i++) {if (less(comparator, array[i], array[i - 1])) {return false;}} return true;
+        return SortStats.uncounted(() -> {for (int i = low + 1; i <= high; i++) {if (less(comparator, array[i], array[i - 1])) {return false;}} return true;});
     }
 
     /**
@@ -192,6 +514,54 @@ public class MergeSort {
         // Testing the Sort Method with an Array of Strings which Sorts the Array with a Customised Comparator which Sorts the Strings based on their Length.
         Comparator<String> byLength = Comparator.comparingInt(String::length); MergeSort.sort(stringArray, byLength); show(stringArray);
 
+        // Testing the Parallel Sort Methods against the JDK's Sort, with a Small Granularity so that the Parallel Merge is Exercised, and Checking Stability by Sorting on the Tens Digit only.
+        java.util.Random random = new java.util.Random(11); Integer[] parallel = new Integer[100000]; for (int i = 0; i < parallel.length; i++) {parallel[i] = random.nextInt(1000);}
+        Integer[] expected = parallel.clone(); java.util.Arrays.sort(expected); Integer[] copy = parallel.clone(); MergeSort.parallelSort(copy, 64); assert java.util.Arrays.equals(copy, expected);
+        Comparator<Integer> byTens = Comparator.comparingInt(value -> value / 10 % 10); copy = parallel.clone(); MergeSort.parallelSort(copy, byTens, 64); expected = parallel.clone();
+        java.util.Arrays.sort(expected, byTens); assert java.util.Arrays.equals(copy, expected); MergeSort.parallelSort(parallel); MergeSort.parallelSort(new Integer[0]);
+        new ForkJoinPool(3).submit(() -> MergeSort.parallelSort(parallel, descending, 100)).join(); assert isSorted(parallel, descending);
+        for (int n = 0; n <= 64; n++) { // Testing a Granularity of 1 on Sorted, Reversed and all-Equal Inputs, where a Split can Leave the First Half of a Merge Empty.
+            Integer[] sorted = new Integer[n], reversed = new Integer[n], equal = new Integer[n]; for (int i = 0; i < n; i++) {sorted[i] = i; reversed[i] = n - i; equal[i] = 7;}
+            MergeSort.parallelSort(sorted, 1); MergeSort.parallelSort(reversed, 1); MergeSort.parallelSort(equal, 1); assert isSorted(sorted) && isSorted(reversed) && isSorted(equal);
+        } Integer[] four = {1, 2, 3, 4}; MergeSort.parallelSort(four, 1); assert java.util.Arrays.equals(four, new Integer[] {1, 2, 3, 4});
+
+        // Testing the Bottom-Up Sort Methods on Random, Sorted, Reversed, Mostly-Sorted and Tiny Inputs, Reusing One Buffer and Checking Stability by Sorting on the Tens Digit only.
+        Integer[] buffer = new Integer[100000]; for (int length : new int[] {0, 1, 31, 33, 1000, 100000}) {
+            Integer[] randomInput = new Integer[length], sortedInput = new Integer[length], reversedInput = new Integer[length], mostlySorted = new Integer[length];
+            for (int i = 0; i < length; i++) {randomInput[i] = random.nextInt(1000); sortedInput[i] = i; reversedInput[i] = length - i; mostlySorted[i] = i;}
+            for (int i = 0; i < length / 100; i++) {int j = random.nextInt(length); mostlySorted[j] = random.nextInt(length);}
+            for (Integer[] input : new Integer[][] {randomInput, sortedInput, reversedInput, mostlySorted}) {
+                expected = input.clone(); java.util.Arrays.sort(expected); copy = input.clone(); MergeSort.sortBottomUp(copy, buffer); assert java.util.Arrays.equals(copy, expected);
+                expected = input.clone(); java.util.Arrays.sort(expected, byTens); copy = input.clone(); MergeSort.sortBottomUp(copy, byTens, buffer); assert java.util.Arrays.equals(copy, expected);
+            }
+        }
+        MergeSort.sortBottomUp(stringArray); MergeSort.sortBottomUp(stringArray, byLength); show(stringArray);
+        try {MergeSort.sortBottomUp(integerArray, new Integer[1]); assert false;} catch (IllegalArgumentException e) {System.out.println(e.getMessage());}
+        java.util.Random randomCutoff = new java.util.Random(13); Integer[] cutoffInput = randomCutoff.ints(5000, 0, 100).boxed().toArray(Integer[]::new); Comparator<Integer> byTensOnly = Comparator.comparingInt(x -> x / 10);
+        Integer[] cutoffExpected = cutoffInput.clone(); java.util.Arrays.sort(cutoffExpected, byTensOnly); for (int cutoff : new int[] {1, 2, 7, 64, 5000, Integer.MAX_VALUE}) {
+            Integer[] blocks = cutoffInput.clone(); MergeSort.sortBottomUp(blocks, byTensOnly, new Integer[blocks.length], cutoff); assert java.util.Arrays.equals(blocks, cutoffExpected); // Checking it is still Stable.
+        }
+        // Testing the Bottom-Up Sort on Rotated, Offset, Sawtooth and Organ-Pipe Inputs, whose Runs Join Out of Order, for every Cutoff.
+        for (int length : new int[] {2, 33, 128, 1000, 100000}) {for (int shift : new int[] {1, length / 2, 64, 512, 1024}) {
+            Integer[] rotated = new Integer[length], offset = new Integer[length], sawtooth = new Integer[length], organPipe = new Integer[length];
+            for (int i = 0; i < length; i++) {rotated[i] = (i + shift) % length; offset[i] = i < shift ? i + length : i; sawtooth[i] = i % (shift + 1); organPipe[i] = Math.min(i, length - i);}
+            for (Integer[] input : new Integer[][] {rotated, offset, sawtooth, organPipe}) {for (int cutoff : new int[] {1, 32, 100}) {
+                expected = input.clone(); java.util.Arrays.sort(expected); copy = input.clone(); MergeSort.sortBottomUp(copy, Comparator.naturalOrder(), buffer, cutoff); assert java.util.Arrays.equals(copy, expected) : length + " " + shift;
+            }}
+        }}
+        try {MergeSort.sortBottomUp(integerArray, Comparator.<Integer>naturalOrder(), new Integer[integerArray.length], 0); assert false;} catch (IllegalArgumentException e) {System.out.println(e.getMessage());}
+
+        // Testing that Repeated Bottom-Up Sorts with the Caller's Buffer Allocate Nothing, the Run Stack being the Thread's own, and that a Sort inside the Comparator gets a Stack of its own.
+        Integer[] reused = new Integer[4096], reusedInput = random.ints(4096).boxed().toArray(Integer[]::new); Comparator<Integer> natural = Comparator.naturalOrder();
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean(); long allocated = 0;
+        for (int round = 0; round < 200; round++) {
+            java.util.Collections.shuffle(java.util.Arrays.asList(reusedInput), random); long before = threads.getCurrentThreadAllocatedBytes(); MergeSort.sortBottomUp(reusedInput, natural, reused, 1);
+            if (round >= 100) allocated += threads.getCurrentThreadAllocatedBytes() - before; // Counting only once the JIT Compiler has Warmed Up.
+        } System.out.println("Bytes Allocated by 100 Bottom-Up Sorts: " + allocated); // Printing 0, or with Assertions Enabled only the Lambda of the Sortedness Check.
+        assert allocated / 100 < 4 * RUN_STACK_SIZE : allocated; // Checking each Sort Allocated less than a Single Array of the Run Stack.
+        Integer[] outer = random.ints(200, 0, 50).boxed().toArray(Integer[]::new), outerBuffer = new Integer[200], innerBuffer = new Integer[3];
+        MergeSort.sortBottomUp(outer, (x, y) -> {Integer[] inner = {y, x, 0}; MergeSort.sortBottomUp(inner, natural, innerBuffer, 1); return Integer.compare(x, y);}, outerBuffer, 1); assert isSorted(outer);
+
         System.out.println("\n\n All Tests Passed Successfully!!!");
 
     }
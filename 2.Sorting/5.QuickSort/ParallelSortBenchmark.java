@@ -0,0 +1,56 @@
+import java.util.Arrays; // Importing Arrays from the java.util Package to Compare against the JDK's Parallel Sort and to Copy the Input before each Run.
+import java.util.List; // Importing the List Interface from the java.util Package to Hold the Sorts to Benchmark.
+import java.util.Random; // Importing Random from the java.util Package to Generate the Benchmark Input.
+import java.util.concurrent.ForkJoinPool; // Importing the ForkJoinPool Class from the java.util.concurrent Package to Run each Sort on a Pool with a Chosen Number of Threads.
+import java.util.function.Consumer; // Importing Consumer from the java.util.function Package to pass each Sort to the Benchmark Driver.
+
+/**
+ * @author LewisThackeray
+ * @date 17/10/2026
+ *
+ * {@code ParallelSortBenchmark} is a Scaling Benchmark for {@link QuickSort#parallelSort} and {@link MergeSort#parallelSort}.  Each Sort is Run inside a {@link ForkJoinPool} of 1, 2, 4, ... Threads
+ * up to the Number of Available Processors (the Parallel Sorts Fork into the Pool they are Called from), and the Best Measured Time is Reported together with the Speedup over One Thread.
+ * {@link Arrays#parallelSort} is Included as a Reference.  The Granularity can be Tuned from the Command Line.
+ */
+
+public class ParallelSortBenchmark {
+
+    private static final int WARMUP_ROUNDS = 2, MEASURED_ROUNDS = 3; // Creating Fewer Rounds than the Harness's Default, as every Thread Count of every Sort is a Case.
+
+    /**
+     * This is the Class Constructor.  The Class Constructor is Private to Prevent Instantiations of the Class, as the Class only Sweeps the Thread Counts through the Shared Harness.
+     */
+
+    private ParallelSortBenchmark() {}
+
+    /**
+     * This method Sorts a Fresh Copy of the Input inside a Pool with the Given Number of Threads for the Warm-Up and Measured Rounds and Returns the Best Measured Time.
+     * @param threads is the Number of Threads in the Pool.
+     * @param input is the Array to Copy and Sort in each Round, which is never Modified.
+     * @param sort is the Sort to Benchmark.
+     * @return the Best Measured Time in Nanoseconds.
+     */
+
+    static long run(int threads, Integer[] input, Consumer<Integer[]> sort) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {return Benchmark.best(WARMUP_ROUNDS, MEASURED_ROUNDS, () -> {Integer[] array = input.clone(); return () -> pool.submit(() -> sort.accept(array)).join();});} finally {pool.shutdown();}
+    }
+
+    /**
+     * This method runs the Benchmark, the First Command-Line Argument Optionally Overrides the Number of Elements and the Second the Granularity.
+     * @param args the Command-Line Arguments.
+     */
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000, granularity = args.length > 1 ? Integer.parseInt(args[1]) : QuickSort.PARALLEL_GRANULARITY;
+        Integer[] input = new Random(42).ints(n).boxed().toArray(Integer[]::new); int processors = Runtime.getRuntime().availableProcessors();
+        String[] names = {"QuickSort.parallelSort", "MergeSort.parallelSort", "Arrays.parallelSort"};
+        List<Consumer<Integer[]>> sorts = List.of(array -> QuickSort.parallelSort(array, granularity), array -> MergeSort.parallelSort(array, granularity), Arrays::parallelSort);
+        System.out.printf("n = %,d, granularity = %,d, processors = %d%n", n, granularity, processors); for (int s = 0; s < sorts.size(); s++) {
+            long single = 0; for (int threads = 1; ; threads = Math.min(threads * 2, processors)) {
+                long time = run(threads, input, sorts.get(s)); if (threads == 1) single = time;
+                System.out.printf("%-24s threads=%-3d %10.2f ms %6.2fx%n", names[s], threads, time / 1e6, (double) single / time); if (threads == processors) break;
+            }
+        }
+    }
+}
@@ -1,4 +1,11 @@
+import java.util.ArrayList; // Importing the ArrayList Class from the java.util Package to Collect the Fork-Join Tasks of a Parallel Loop.
 import java.util.Comparator; // Importing the Comparator Class from the java.util Package to Compare Two Objects and Determine which should come First in an Ordered Sequence.
+import java.util.List; // Importing the List Interface from the java.util Package to Hold the Fork-Join Tasks of a Parallel Loop.
+import java.util.concurrent.ForkJoinPool; // Importing the ForkJoinPool Class from the java.util.concurrent Package to Run the Parallel Sort.
+import java.util.concurrent.ForkJoinTask; // Importing the ForkJoinTask Class from the java.util.concurrent Package to Fork the Blocks of a Parallel Partition.
+import java.util.concurrent.RecursiveAction; // Importing the RecursiveAction Class from the java.util.concurrent Package to Represent the Sort of a Segment as a Fork-Join Task.
+import java.util.function.IntConsumer; // Importing the IntConsumer Interface from the java.util.function Package to Represent the Body of a Parallel Loop.
+import java.util.function.Predicate; // Importing the Predicate Interface from the java.util.function Package to Decide which Side of a Partition an Element Belongs to.
 
 /**
  * @author LewisThackeray
@@ -27,10 +34,36 @@ import java.util.Comparator; // Importing the Comparator Class from the java.uti
  *  <p><b>Space Complexity of Quick Sort:</b> The Space Complexity is O(log(n)) in the Best and Average Cases due to the recursive call stack when the partitions are balanced, requiring a
  *  recursion tree of height <i>log(n)</i>. In the Worst Case, the Space Complexity becomes O(n) when the recursion tree height reaches <i>n</i> due to unbalanced partitions (e.g., when the pivot
  *  is always the smallest or largest element). No additional data structures are used beyond the call stack, making it an in-place sorting algorithm with respect to auxiliary space.</p>
+
+ *
+ *  <p><b>Primitive Arrays:</b> The int[], long[], double[] and float[] Overloads sort the Primitive Values directly rather than Boxing them, and use <i>Dual-Pivot</i> Partitioning: Two Pivots
+ *  p &lt;= q, chosen as the Second and Fourth of Five Evenly Spaced Samples, split each Segment into Three Parts (less than p, between p and q, greater than q), and Segments Shorter than
+ *  INSERTION_SORT_CUTOFF are finished with Insertion Sort.</p>
+ *
+ *  <p><b>Introsort:</b> The introSort Methods Guard the Generic Path against the Worst Case: the Pivot is the Median of Three (or Tukey's Ninther on Larger Segments), the Smaller Partition is
+ *  Sorted Recursively and the Larger one Iteratively so the Stack Depth is O(log(n)), and a Segment that is still being Partitioned 2log<sub>2</sub>(n) Levels Deep is Finished with
+ *  {@link HeapSort}, so the Time Complexity is O(nlog(n)) in the Worst Case.  Segments of at most INTROSORT_CUTOFF Elements (or a Cutoff given by the Caller) are Finished with
+ *  {@link InsertionSort#binarySort} rather than Partitioned.</p>
+ *
+ *  <p><b>Three-Way Partitioning:</b> The sort3Way Methods Split each Segment into Keys Less than, Equal to and Greater than the Pivot in One Pass, so Runs of Equal Keys are Placed once and
+ *  never Partitioned again, which makes Low-Cardinality Input (such as Status or Country Codes) Close to Linear Time.</p>
+ *
+ *  <p><b>Parallel Sort:</b> The parallelSort Methods run on the Current {@link ForkJoinPool} (or the Common Pool when Called from Outside one).  Each Segment Longer than the Granularity is
+ *  Partitioned in Parallel: its Blocks are Partitioned Independently, then the Misplaced Elements either side of the Final Boundary are Swapped Pairwise in Parallel, once for Less than the Pivot
+ *  and once for Equal to it, and the Less and Greater Parts are Forked as New Tasks.  Segments at or below the Granularity are Finished with the Sequential Introsort.</p>
+ *
+ *  <p><b>Selection and Partial Sort:</b> The select Methods find the Element of Rank k with <em>Quickselect</em>, which Partitions like Introsort but only Carries on into the Side containing k,
+ *  so the Expected Time is O(n), and Falls Back to {@link HeapSort} on the Remaining Segment at the Same Depth Limit (<em>Introselect</em>).  The partialSort Methods Select the k Smallest
+ *  Elements and then Sort only those, in O(n + klog(k)), for when only the Top of a Large Array is Wanted.</p>
  */
 
 public class QuickSort {
 
+    private static final int INSERTION_SORT_CUTOFF = 32; // Creating a Constant for the Segment Length below which the Primitive Sorts use Insertion Sort.
+    public static final int INTROSORT_CUTOFF = 16; // Creating a Constant for the Default Segment Length at or below which Introsort Finishes with Binary Insertion Sort.
+    private static final int NINTHER_CUTOFF = 40; // Creating a Constant for the Segment Length from which Introsort uses Tukey's Ninther rather than a Median of Three.
+    public static final int PARALLEL_GRANULARITY = 1 << 13; // Creating a Constant for the Default Segment Length below which the Parallel Sort stops Forking and Sorts Sequentially.
+
     /**
      * This is the Class Constructor.  The Class Constructor is Private to Prevent Instantiations of the Class, as the Class is Designed as a Utility Class with only Static Methods for performing
      * Quick Sort Operations.  Direct Instantiation is NOT Supported.
@@ -73,10 +106,446 @@ public class QuickSort {
      */
 
     private static <T> void sort(T[] array, Comparator<? super T> comparator, int low, int high) {
-        if (high <= low) return; int pivotIndex = partition(array, comparator, low, high); sort(array, comparator, low, pivotIndex - 1); sort(array, comparator, pivotIndex + 1, high);
+        if (high <= low) return; SortStats.enter(); int pivotIndex = partition(array, comparator, low, high); sort(array, comparator, low, pivotIndex - 1); sort(array, comparator, pivotIndex + 1, high); SortStats.exit();
         assert isSorted(array, comparator, low, high);
     }
 
+    /**
+     * This method rearranges the Array in Ascending Order using <em>Introsort</em>, which is Quick Sort with a Median-of-Three (or Ninther) Pivot that Falls Back to {@link HeapSort} once
+     * the Recursion is Deeper than 2log<sub>2</sub>(n), so the Worst Case is O(nlog(n)) even on Sorted, Reversed or Organ-Pipe Input.
+     * @param array is the Array to be Sorted.
+     */
+
+    public static <T extends Comparable<? super T>> void introSort(T[] array) {introSort(array, INTROSORT_CUTOFF);}
+
+    /**
+     * This method rearranges the Array in Ascending Order using Introsort, Finishing Segments of at most cutoff Elements with {@link InsertionSort#binarySort}.
+     * @param array is the Array to be Sorted.
+     * @param cutoff is the Segment Length at or below which Insertion Sort is used, where 1 Partitions all the way Down.
+     * @throws IllegalArgumentException if the Cutoff is less than 1.
+     */
+
+    public static <T extends Comparable<? super T>> void introSort(T[] array, int cutoff) {
+        checkCutoff(cutoff); introSort(array, 0, array.length - 1, 2 * log2(array.length), cutoff); assert isSorted(array);
+    }
+
+    /**
+     * This method rearranges a Segment of the Array in Ascending Order using Introsort, Recursing into the Smaller Partition and Looping on the Larger one so the Stack Depth is O(log(n)).
+     * @param array is the Array to be Sorted.
+     * @param low is the Lower Bound Index of the Segment of the Array to Sort (inclusive).
+     * @param high is the Upper Bound Index of the Segment of the Array to Sort (inclusive).
+     * @param depthLimit is the Number of Partitioning Levels Left before Switching to Heap Sort.
+     * @param cutoff is the Segment Length at or below which Insertion Sort is used.
+     */
+
+    private static <T extends Comparable<? super T>> void introSort(T[] array, int low, int high, int depthLimit, int cutoff) {
+        while (high - low >= cutoff) {
+            if (depthLimit-- == 0) {HeapSort.sort(array, low, high); return;} swap(array, low, choosePivot(array, low, high)); int pivotIndex = partition(array, low, high);
+            if (pivotIndex - low < high - pivotIndex) {introSort(array, low, pivotIndex - 1, depthLimit, cutoff); low = pivotIndex + 1;} else {introSort(array, pivotIndex + 1, high, depthLimit, cutoff); high = pivotIndex - 1;}
+        } InsertionSort.binarySort(array, low, high);
+    }
+
+    /**
+     * This method rearranges the Array where the Order is Specified by the Comparator using Introsort, which Falls Back to {@link HeapSort} once the Recursion is Deeper than 2log<sub>2</sub>(n).
+     * @param array is the Array to be Sorted.
+     * @param comparator is the Comparator Specifying the Order.
+     */
+
+    public static <T> void introSort(T[] array, Comparator<? super T> comparator) {introSort(array, comparator, INTROSORT_CUTOFF);}
+
+    /**
+     * This method rearranges the Array where the Order is Specified by the Comparator using Introsort, Finishing Segments of at most cutoff Elements with {@link InsertionSort#binarySort},
+     * which Saves Comparator Calls.
+     * @param array is the Array to be Sorted.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param cutoff is the Segment Length at or below which Insertion Sort is used, where 1 Partitions all the way Down.
+     * @throws IllegalArgumentException if the Cutoff is less than 1.
+     */
+
+    public static <T> void introSort(T[] array, Comparator<? super T> comparator, int cutoff) {
+        checkCutoff(cutoff); introSort(array, comparator, 0, array.length - 1, 2 * log2(array.length), cutoff); assert isSorted(array, comparator);
+    }
+
+    /**
+     * This method checks that an Insertion Sort Cutoff is at least 1.
+     * @param cutoff is the Cutoff.
+     * @throws IllegalArgumentException if the Cutoff is less than 1.
+     */
+
+    private static void checkCutoff(int cutoff) {if (cutoff < 1) throw new IllegalArgumentException("The Cutoff must be at least 1!");}
+
+    /**
+     * This method rearranges a Segment of the Array where the Order is Specified by the Comparator using Introsort, Recursing into the Smaller Partition and Looping on the Larger one.
+     * @param array is the Array to be Sorted.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param low is the Lower Bound Index of the Segment of the Array to Sort (inclusive).
+     * @param high is the Upper Bound Index of the Segment of the Array to Sort (inclusive).
+     * @param depthLimit is the Number of Partitioning Levels Left before Switching to Heap Sort.
+     * @param cutoff is the Segment Length at or below which Insertion Sort is used.
+     */
+
+    private static <T> void introSort(T[] array, Comparator<? super T> comparator, int low, int high, int depthLimit, int cutoff) {
+        SortStats.enter(); while (high - low >= cutoff) {
+            if (depthLimit-- == 0) {HeapSort.sort(array, comparator, low, high); SortStats.exit(); return;} swap(array, low, choosePivot(array, comparator, low, high)); int pivotIndex = partition(array, comparator, low, high);
+            if (pivotIndex - low < high - pivotIndex) {introSort(array, comparator, low, pivotIndex - 1, depthLimit, cutoff); low = pivotIndex + 1;}
+            else {introSort(array, comparator, pivotIndex + 1, high, depthLimit, cutoff); high = pivotIndex - 1;}
+        } InsertionSort.binarySort(array, comparator, low, high); SortStats.exit();
+    }
+
+    /**
+     * This method rearranges the Array in Ascending Order using <em>Three-Way Partitioning</em> (Dijkstra's Dutch National Flag), which Groups every Key Equal to the Pivot in the Middle in a
+     * Single Pass and never Recurses into them, so an Array with only k Distinct Keys is Sorted in O(nlog(k)) Compares.
+     * @param array is the Array to be Sorted.
+     */
+
+    public static <T extends Comparable<? super T>> void sort3Way(T[] array) {sort3Way(array, 0, array.length - 1); assert isSorted(array);}
+
+    /**
+     * This method rearranges a Segment of the Array in Ascending Order using Three-Way Partitioning into a[low..lt - 1] &lt; pivot = a[lt..gt] &lt; a[gt + 1..high], Recursing into the Smaller
+     * Outer Part and Looping on the Larger one.
+     * @param array is the Array to be Sorted.
+     * @param low is the Lower Bound Index of the Segment of the Array to Sort (inclusive).
+     * @param high is the Upper Bound Index of the Segment of the Array to Sort (inclusive).
+     */
+
+    private static <T extends Comparable<? super T>> void sort3Way(T[] array, int low, int high) {
+        while (high > low) {
+            swap(array, low, choosePivot(array, low, high)); T pivot = array[low]; int lt = low, gt = high, i = low + 1; // Creating the Bounds of the Less-Than and Greater-Than Parts.
+            while (i <= gt) {int compare = array[i].compareTo(pivot); if (compare < 0) swap(array, lt++, i++); else if (compare > 0) swap(array, i, gt--); else i++;}
+            if (lt - low < high - gt) {sort3Way(array, low, lt - 1); low = gt + 1;} else {sort3Way(array, gt + 1, high); high = lt - 1;}
+        }
+    }
+
+    /**
+     * This method rearranges the Array where the Order is Specified by the Comparator using Three-Way Partitioning, so Keys the Comparator considers Equal are Grouped and never Recursed into.
+     * @param array is the Array to be Sorted.
+     * @param comparator is the Comparator Specifying the Order.
+     */
+
+    public static <T> void sort3Way(T[] array, Comparator<? super T> comparator) {sort3Way(array, comparator, 0, array.length - 1); assert isSorted(array, comparator);}
+
+    /**
+     * This method rearranges a Segment of the Array where the Order is Specified by the Comparator using Three-Way Partitioning, Recursing into the Smaller Outer Part and Looping on the Larger one.
+     * @param array is the Array to be Sorted.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param low is the Lower Bound Index of the Segment of the Array to Sort (inclusive).
+     * @param high is the Upper Bound Index of the Segment of the Array to Sort (inclusive).
+     */
+
+    private static <T> void sort3Way(T[] array, Comparator<? super T> comparator, int low, int high) {
+        while (high > low) {
+            swap(array, low, choosePivot(array, comparator, low, high)); T pivot = array[low]; int lt = low, gt = high, i = low + 1; // Creating the Bounds of the Less-Than and Greater-Than Parts.
+            while (i <= gt) {int compare = comparator.compare(array[i], pivot); if (compare < 0) swap(array, lt++, i++); else if (compare > 0) swap(array, i, gt--); else i++;}
+            if (lt - low < high - gt) {sort3Way(array, comparator, low, lt - 1); low = gt + 1;} else {sort3Way(array, comparator, gt + 1, high); high = lt - 1;}
+        }
+    }
+
+    /**
+     * This method rearranges the Array so that the Element of Rank k (the one which would be at Index k if the Array were Sorted) is at Index k, with no Greater Element before it and no
+     * Smaller Element after it, using Introselect, in Expected O(n).
+     * @param array is the Array to Select from.
+     * @param k is the Rank of the Element, from 0 for the Smallest.
+     * @return the Element of Rank k.
+     * @throws IllegalArgumentException if k is not between 0 and array.length - 1.
+     */
+
+    public static <T extends Comparable<? super T>> T select(T[] array, int k) {checkRank(k, array.length - 1); select(array, 0, array.length - 1, k, 2 * log2(array.length)); return array[k];}
+
+    /**
+     * This method moves the Element of Rank k to Index k within a Segment, Partitioning only the Side which contains k each time until the Pivot Lands on k, and Heap Sorting whatever
+     * Segment is Left once the Depth Limit is Reached.
+     * @param array is the Array to Select from.
+     * @param low is the Lower Bound Index of the Segment (inclusive).
+     * @param high is the Upper Bound Index of the Segment (inclusive).
+     * @param k is the Index the Element of Rank k must End up at, between low and high.
+     * @param depthLimit is the Number of Partitioning Levels Left before Switching to Heap Sort.
+     */
+
+    private static <T extends Comparable<? super T>> void select(T[] array, int low, int high, int k, int depthLimit) {
+        while (high > low) {
+            if (depthLimit-- == 0) {HeapSort.sort(array, low, high); return;} swap(array, low, choosePivot(array, low, high)); int pivotIndex = partition(array, low, high);
+            if (pivotIndex == k) return; if (k < pivotIndex) high = pivotIndex - 1; else low = pivotIndex + 1;
+        }
+    }
+
+    /**
+     * This method rearranges the Array so that the Element of Rank k is at Index k, where the Order is Specified by the Comparator, using Introselect, in Expected O(n).
+     * @param array is the Array to Select from.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param k is the Rank of the Element, from 0 for the First in the Order.
+     * @return the Element of Rank k.
+     * @throws IllegalArgumentException if k is not between 0 and array.length - 1.
+     */
+
+    public static <T> T select(T[] array, Comparator<? super T> comparator, int k) {
+        checkRank(k, array.length - 1); select(array, comparator, 0, array.length - 1, k, 2 * log2(array.length)); return array[k];
+    }
+
+    /**
+     * This method moves the Element of Rank k to Index k within a Segment, where the Order is Specified by the Comparator, Heap Sorting whatever is Left once the Depth Limit is Reached.
+     * @param array is the Array to Select from.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param low is the Lower Bound Index of the Segment (inclusive).
+     * @param high is the Upper Bound Index of the Segment (inclusive).
+     * @param k is the Index the Element of Rank k must End up at, between low and high.
+     * @param depthLimit is the Number of Partitioning Levels Left before Switching to Heap Sort.
+     */
+
+    private static <T> void select(T[] array, Comparator<? super T> comparator, int low, int high, int k, int depthLimit) {
+        while (high > low) {
+            if (depthLimit-- == 0) {HeapSort.sort(array, comparator, low, high); return;} swap(array, low, choosePivot(array, comparator, low, high)); int pivotIndex = partition(array, comparator, low, high);
+            if (pivotIndex == k) return; if (k < pivotIndex) high = pivotIndex - 1; else low = pivotIndex + 1;
+        }
+    }
+
+    /**
+     * This method moves the k Smallest Elements to the Front of the Array in Ascending Order, by Selecting the Element of Rank k - 1 and then Introsorting only the Elements before it, in
+     * O(n + klog(k)).  The Order of the Remaining Elements is Unspecified.
+     * @param array is the Array to Partially Sort.
+     * @param k is the Number of Smallest Elements Wanted.
+     * @throws IllegalArgumentException if k is not between 0 and array.length.
+     */
+
+    public static <T extends Comparable<? super T>> void partialSort(T[] array, int k) {
+        checkRank(k, array.length); if (k == 0) return; select(array, 0, array.length - 1, k - 1, 2 * log2(array.length)); introSort(array, 0, k - 2, 2 * log2(k), INTROSORT_CUTOFF); assert isSorted(array, 0, k - 1);
+    }
+
+    /**
+     * This method moves the First k Elements in the Order Specified by the Comparator to the Front of the Array in that Order, in O(n + klog(k)).  The Order of the Remaining Elements is Unspecified.
+     * @param array is the Array to Partially Sort.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param k is the Number of Elements Wanted.
+     * @throws IllegalArgumentException if k is not between 0 and array.length.
+     */
+
+    public static <T> void partialSort(T[] array, Comparator<? super T> comparator, int k) {
+        checkRank(k, array.length); if (k == 0) return; select(array, comparator, 0, array.length - 1, k - 1, 2 * log2(array.length)); introSort(array, comparator, 0, k - 2, 2 * log2(k), INTROSORT_CUTOFF);
+        assert isSorted(array, comparator, 0, k - 1);
+    }
+
+    /**
+     * This method checks that a Rank or a Count is between 0 and the Given Bound.
+     * @param k is the Rank or Count.
+     * @param bound is the Largest Allowed Value (inclusive).
+     * @throws IllegalArgumentException if k is out of Range.
+     */
+
+    private static void checkRank(int k, int bound) {if (k < 0 || k > bound) throw new IllegalArgumentException("k = " + k + " is not between 0 and " + bound + "!");}
+
+    /**
+     * This method rearranges the Array in Ascending Order using all the Threads of the Current Fork-Join Pool, Forking Segments Longer than {@link #PARALLEL_GRANULARITY}.
+     * @param array is the Array to be Sorted.
+     */
+
+    public static <T extends Comparable<? super T>> void parallelSort(T[] array) {parallelSort(array, PARALLEL_GRANULARITY);}
+
+    /**
+     * This method rearranges the Array in Ascending Order using all the Threads of the Current Fork-Join Pool.
+     * @param array is the Array to be Sorted.
+     * @param granularity is the Segment Length at or below which a Task Sorts Sequentially rather than Forking.
+     * @throws IllegalArgumentException if the Granularity is not Positive.
+     */
+
+    public static <T extends Comparable<? super T>> void parallelSort(T[] array, int granularity) {parallelSort(array, Comparator.<T>naturalOrder(), granularity); assert isSorted(array);}
+
+    /**
+     * This method rearranges the Array where the Order is Specified by the Comparator using all the Threads of the Current Fork-Join Pool, Forking Segments Longer than
+     * {@link #PARALLEL_GRANULARITY}.
+     * @param array is the Array to be Sorted.
+     * @param comparator is the Comparator Specifying the Order.
+     */
+
+    public static <T> void parallelSort(T[] array, Comparator<? super T> comparator) {parallelSort(array, comparator, PARALLEL_GRANULARITY);}
+
+    /**
+     * This method rearranges the Array where the Order is Specified by the Comparator using all the Threads of the Current Fork-Join Pool.
+     * @param array is the Array to be Sorted.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param granularity is the Segment Length at or below which a Task Sorts Sequentially rather than Forking.
+     * @throws IllegalArgumentException if the Granularity is not Positive.
+     */
+
+    public static <T> void parallelSort(T[] array, Comparator<? super T> comparator, int granularity) {
+        if (granularity < 1) throw new IllegalArgumentException("Granularity must be Positive!"); ParallelSort<T> task = new ParallelSort<>(array, comparator, 0, array.length - 1, granularity, 2 * log2(array.length));
+        if (ForkJoinTask.inForkJoinPool()) task.invoke(); else ForkJoinPool.commonPool().invoke(task); assert isSorted(array, comparator);
+    }
+
+    /**
+     * This Inner-Class is the Fork-Join Task which Sorts One Segment of the Array, Partitioning it Three Ways in Parallel and Forking the Less and Greater Parts.
+     */
+
+    @SuppressWarnings("serial") private static final class ParallelSort<T> extends RecursiveAction {
+
+        private final T[] array; // Creating the Array being Sorted.
+        private final Comparator<? super T> comparator; // Creating the Comparator Specifying the Order.
+        private final int low, high, granularity, depthLimit; // Creating the Bounds of the Segment (inclusive), the Granularity and the Partitioning Levels Left.
+
+        /**
+         * This is the Class Constructor which Describes the Segment to Sort.
+         * @param array is the Array to be Sorted.
+         * @param comparator is the Comparator Specifying the Order.
+         * @param low is the Lower Bound Index of the Segment (inclusive).
+         * @param high is the Upper Bound Index of the Segment (inclusive).
+         * @param granularity is the Segment Length at or below which the Task Sorts Sequentially.
+         * @param depthLimit is the Number of Parallel Partitioning Levels Left before the Segment is Handed to the Sequential Introsort.
+         */
+
+        ParallelSort(T[] array, Comparator<? super T> comparator, int low, int high, int granularity, int depthLimit) {
+            this.array = array; this.comparator = comparator; this.low = low; this.high = high; this.granularity = granularity; this.depthLimit = depthLimit;
+        }
+
+        /**
+         * This method Sorts the Segment: Sequentially if it is Short (or the Pivots have been Poor for too long), otherwise by a Parallel Three-Way Partition around a Ninther Pivot whose
+         * Less and Greater Parts are Sorted as Two Forked Tasks.
+         */
+
+        @Override protected void compute() {
+            if (high - low + 1 <= granularity || depthLimit == 0) {introSort(array, comparator, low, high, 2 * log2(high - low + 1), INTROSORT_CUTOFF); return;}
+            swap(array, low, choosePivot(array, comparator, low, high)); T pivot = array[low]; int blocks = Math.max(2, Math.min((high - low) / granularity, 4 * (inForkJoinPool() ? getPool().getParallelism() : ForkJoinPool.getCommonPoolParallelism())));
+            int lt = partition(array, low + 1, high + 1, element -> comparator.compare(element, pivot) < 0, blocks); // Creating the Boundary after the Elements Less than the Pivot.
+            int gt = partition(array, lt, high + 1, element -> comparator.compare(element, pivot) == 0, Math.max(2, (int) ((long) blocks * (high + 1 - lt) / (high - low)))); // Creating the Boundary after the Equal Elements.
+            swap(array, low, lt - 1); invokeAll(new ParallelSort<>(array, comparator, low, lt - 2, granularity, depthLimit - 1), new ParallelSort<>(array, comparator, gt, high, granularity, depthLimit - 1));
+        }
+    }
+
+    /**
+     * This method partitions a Range of the Array in Parallel so that the Elements Satisfying the Predicate come First.  Each Block is Partitioned Independently, and then every Element which is on
+     * the Wrong Side of the Final Boundary is Swapped with One on the Other Side, the k<sup>th</sup> Misplaced Element Left of the Boundary with the k<sup>th</sup> Misplaced Element Right of it.
+     * @param array is the Array to Partition.
+     * @param from is the Lower Bound Index of the Range (inclusive).
+     * @param to is the Upper Bound Index of the Range (exclusive).
+     * @param left is the Predicate which is true for the Elements that Belong Left of the Boundary.
+     * @param blocks is the Number of Blocks to Split the Range into.
+     * @return the Index of the Boundary, the First Element which does not Satisfy the Predicate.
+     */
+
+    private static <T> int partition(T[] array, int from, int to, Predicate<? super T> left, int blocks) {
+        int size = to - from, boundary = from; int[] starts = new int[blocks + 1], splits = new int[blocks]; // Creating the Block Bounds and the Boundary within each Block.
+        for (int b = 0; b <= blocks; b++) {starts[b] = from + (int) ((long) size * b / blocks);} parallelFor(blocks, b -> splits[b] = partition(array, starts[b], starts[b + 1], left));
+        for (int b = 0; b < blocks; b++) {boundary += splits[b] - starts[b];} int[] wrongLeft = new int[blocks], wrongRight = new int[blocks], leftOffsets = new int[blocks + 1], rightOffsets = new int[blocks + 1];
+        for (int b = 0; b < blocks; b++) { // Creating the Runs of Misplaced Elements: Non-Matching ones Left of the Boundary and Matching ones Right of it.
+            wrongLeft[b] = splits[b]; leftOffsets[b + 1] = leftOffsets[b] + Math.max(0, Math.min(starts[b + 1], boundary) - splits[b]);
+            wrongRight[b] = Math.max(starts[b], boundary); rightOffsets[b + 1] = rightOffsets[b] + Math.max(0, splits[b] - wrongRight[b]);
+        }
+        int misplaced = leftOffsets[blocks]; assert misplaced == rightOffsets[blocks]; int chunks = Math.max(1, Math.min(blocks, misplaced / 4096));
+        parallelFor(chunks, c -> swapMisplaced(array, wrongLeft, leftOffsets, wrongRight, rightOffsets, (int) ((long) misplaced * c / chunks), (int) ((long) misplaced * (c + 1) / chunks)));
+        return boundary;
+    }
+
+    /**
+     * This method sequentially partitions a Range of the Array so that the Elements Satisfying the Predicate come First.
+     * @param array is the Array to Partition.
+     * @param from is the Lower Bound Index of the Range (inclusive).
+     * @param to is the Upper Bound Index of the Range (exclusive).
+     * @param left is the Predicate which is true for the Elements that Belong First.
+     * @return the Index of the First Element which does not Satisfy the Predicate.
+     */
+
+    private static <T> int partition(T[] array, int from, int to, Predicate<? super T> left) {int i = from; for (int j = from; j < to; j++) {if (left.test(array[j])) swap(array, i++, j);} return i;}
+
+    /**
+     * This method Swaps the Misplaced Elements numbered first to last (exclusive) on each Side of a Parallel Partition's Boundary, where each Side is a List of Runs given by their Start Indices
+     * and the Running Total of their Lengths.
+     * @param array is the Array being Partitioned.
+     * @param leftStarts is the Start Index of each Run of Misplaced Elements Left of the Boundary.
+     * @param leftOffsets is the Number of Misplaced Elements Left of the Boundary before each Run.
+     * @param rightStarts is the Start Index of each Run of Misplaced Elements Right of the Boundary.
+     * @param rightOffsets is the Number of Misplaced Elements Right of the Boundary before each Run.
+     * @param first is the Number of the First Misplaced Pair to Swap.
+     * @param last is the Number after the Last Misplaced Pair to Swap.
+     */
+
+    private static <T> void swapMisplaced(T[] array, int[] leftStarts, int[] leftOffsets, int[] rightStarts, int[] rightOffsets, int first, int last) {
+        int l = run(leftOffsets, first), r = run(rightOffsets, first), i = leftStarts[l] + first - leftOffsets[l], j = rightStarts[r] + first - rightOffsets[r]; // Creating the Cursors into each Side.
+        for (int k = first; k < last; k++) {
+            while (k == leftOffsets[l + 1]) {l++; i = leftStarts[l];} while (k == rightOffsets[r + 1]) {r++; j = rightStarts[r];} swap(array, i++, j++); // Creating the Swap after Skipping Finished Runs.
+        }
+    }
+
+    /**
+     * This method finds the Run containing the Misplaced Element with the Given Number using a Binary Search over the Running Totals of the Run Lengths.
+     * @param offsets is the Number of Misplaced Elements before each Run, Ending with the Total.
+     * @param k is the Number of the Misplaced Element.
+     * @return the Index of the Last Run whose Offset is at most k.
+     */
+
+    private static int run(int[] offsets, int k) {int low = 0, high = offsets.length - 2; while (low < high) {int mid = (low + high + 1) >>> 1; if (offsets[mid] <= k) low = mid; else high = mid - 1;} return low;}
+
+    /**
+     * This method runs the Body for each Index from 0 to count (exclusive) as Fork-Join Tasks in the Current Pool and Waits for them all to Finish.
+     * @param count is the Number of Indices.
+     * @param body is the Body of the Loop.
+     */
+
+    private static void parallelFor(int count, IntConsumer body) {
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(count); for (int i = 0; i < count; i++) {int index = i; tasks.add(ForkJoinTask.adapt(() -> body.accept(index)));} ForkJoinTask.invokeAll(tasks);
+    }
+
+    /**
+     * This method returns the Floor of the Base-2 Logarithm of a Length.
+     * @param n is the Length.
+     * @return an Integer representing log<sub>2</sub>(n) Rounded Down, or 0 if n is less than 2.
+     */
+
+    private static int log2(int n) {return n < 2 ? 0 : 31 - Integer.numberOfLeadingZeros(n);}
+
+    /**
+     * This method chooses a Pivot for a Segment of the Array using the Natural Order: the Median of the First, Middle and Last Elements, or for Segments of at least NINTHER_CUTOFF Elements
+     * the Median of the Medians of Three Evenly Spaced Triples (Tukey's Ninther).
+     * @param array is the Array to be Sorted.
+     * @param low is the Lower Bound Index of the Segment (inclusive).
+     * @param high is the Upper Bound Index of the Segment (inclusive).
+     * @return the Index of the Chosen Pivot.
+     */
+
+    private static <T extends Comparable<? super T>> int choosePivot(T[] array, int low, int high) {
+        int mid = (low + high) >>> 1; if (high - low + 1 < NINTHER_CUTOFF) return median3(array, low, mid, high); int eighth = (high - low + 1) / 8;
+        return median3(array, median3(array, low, low + eighth, low + 2 * eighth), median3(array, mid - eighth, mid, mid + eighth), median3(array, high - 2 * eighth, high - eighth, high));
+    }
+
+    /**
+     * This method chooses a Pivot for a Segment of the Array where the Order is Specified by the Comparator, using a Median of Three or Tukey's Ninther.
+     * @param array is the Array to be Sorted.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param low is the Lower Bound Index of the Segment (inclusive).
+     * @param high is the Upper Bound Index of the Segment (inclusive).
+     * @return the Index of the Chosen Pivot.
+     */
+
+    private static <T> int choosePivot(T[] array, Comparator<? super T> comparator, int low, int high) {
+        int mid = (low + high) >>> 1; if (high - low + 1 < NINTHER_CUTOFF) return median3(array, comparator, low, mid, high); int eighth = (high - low + 1) / 8;
+        return median3(array, comparator, median3(array, comparator, low, low + eighth, low + 2 * eighth), median3(array, comparator, mid - eighth, mid, mid + eighth),
+                median3(array, comparator, high - 2 * eighth, high - eighth, high));
+    }
+
+    /**
+     * This method returns the Index of the Median of Three Elements using the Natural Order.
+     * @param array is the Array Containing the Elements.
+     * @param i is the Index of the First Element.
+     * @param j is the Index of the Second Element.
+     * @param k is the Index of the Third Element.
+     * @return the Index of the Median Element.
+     */
+
+    private static <T extends Comparable<? super T>> int median3(T[] array, int i, int j, int k) {
+        return less(array[i], array[j]) ? (less(array[j], array[k]) ? j : less(array[i], array[k]) ? k : i) : (less(array[k], array[j]) ? j : less(array[k], array[i]) ? k : i);
+    }
+
+    /**
+     * This method returns the Index of the Median of Three Elements where the Order is Specified by the Comparator.
+     * @param array is the Array Containing the Elements.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param i is the Index of the First Element.
+     * @param j is the Index of the Second Element.
+     * @param k is the Index of the Third Element.
+     * @return the Index of the Median Element.
+     */
+
+    private static <T> int median3(T[] array, Comparator<? super T> comparator, int i, int j, int k) {
+        return less(comparator, array[i], array[j]) ? (less(comparator, array[j], array[k]) ? j : less(comparator, array[i], array[k]) ? k : i)
+                : (less(comparator, array[k], array[j]) ? j : less(comparator, array[k], array[i]) ? k : i);
+    }
+
     /**
      * This method partitions the Array into Two Subarrays where the Objective is to Sort the Array into Ascending Order.
      * @param array is the Array to be Partitioned.
@@ -105,6 +574,312 @@ public class QuickSort {
         } swap(array, low, j); return j;
     }
 
+    /**
+     * This method rearranges the Array of ints in Ascending Order using Dual-Pivot Quick Sort, without Boxing the Elements.
+     * @param array is the Array to be Sorted.
+     */
+
+    public static void sort(int[] array) {sort(array, 0, array.length - 1); assert isSorted(array);}
+
+    /**
+     * This method recursively rearranges a Segment of the Array of ints in Ascending Order using Dual-Pivot Partitioning, Switching to Insertion Sort for Small Segments.
+     * @param array is the Array to be Sorted.
+     * @param low is the Lower Bound Index of the Segment of the Array to Sort (inclusive).
+     * @param high is the Upper Bound Index of the Segment of the Array to Sort (inclusive).
+     */
+
+    private static void sort(int[] array, int low, int high) {
+        if (high - low < INSERTION_SORT_CUTOFF) {insertionSort(array, low, high); return;} choosePivots(array, low, high); int p = array[low]; int q = array[high];
+        int lt = low + 1; int gt = high - 1; int i = low + 1; while (i <= gt) { // Partitioning into Elements < p, p <= Elements <= q and Elements > q.
+            if (array[i] < p) swap(array, i++, lt++); else if (array[i] > q) swap(array, i, gt--); else i++;
+        } swap(array, low, --lt); swap(array, high, ++gt); // Moving the Pivots into their Final Positions.
+        sort(array, low, lt - 1); if (p < q) sort(array, lt + 1, gt - 1); sort(array, gt + 1, high); // The Middle Segment is all Equal to the Pivots when p == q.
+    }
+
+    /**
+     * This method chooses the Two Pivots of a Segment of the Array of ints by Sorting Five Evenly Spaced Samples and Moving the Second Smallest to low and the Second Largest to high.
+     * @param array is the Array to be Sorted.
+     * @param low is the Lower Bound Index of the Segment (inclusive).
+     * @param high is the Upper Bound Index of the Segment (inclusive).
+     */
+
+    private static void choosePivots(int[] array, int low, int high) {
+        int seventh = (high - low + 1) / 7; int e3 = (low + high) >>> 1; int e2 = e3 - seventh; int e1 = e2 - seventh; int e4 = e3 + seventh; int e5 = e4 + seventh;
+        order(array, e1, e2); order(array, e4, e5); order(array, e3, e5); order(array, e3, e4); order(array, e1, e4); order(array, e1, e3); order(array, e2, e5); order(array, e2, e4);
+        order(array, e2, e3); swap(array, low, e2); swap(array, high, e4); // Sorting the Five Samples with a Nine-Comparator Sorting Network.
+    }
+
+    /**
+     * This method puts Two Elements of the Array of ints in Ascending Order.
+     * @param array is the Array Containing the Elements.
+     * @param i is the Index which should hold the Smaller Element.
+     * @param j is the Index which should hold the Larger Element.
+     */
+
+    private static void order(int[] array, int i, int j) {if (array[j] < array[i]) swap(array, i, j);}
+
+    /**
+     * This method rearranges a Small Segment of the Array of ints in Ascending Order using Insertion Sort, Shifting Larger Elements Right into a Hole rather than Swapping.
+     * @param array is the Array to be Sorted.
+     * @param low is the Lower Bound Index of the Segment (inclusive).
+     * @param high is the Upper Bound Index of the Segment (inclusive).
+     */
+
+    private static void insertionSort(int[] array, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {int item = array[i]; int j = i; while (j > low && item < array[j - 1]) {array[j] = array[j - 1]; j--;} array[j] = item;}
+    }
+
+    /**
+     * This method swaps Two Elements in the Array of ints.
+     * @param array is the Array in which the Swap Occurs.
+     * @param i is the Index of the First Element that we are Going to Swap.
+     * @param j is the Index of the Second Element that we are Going to Swap.
+     */
+
+    private static void swap(int[] array, int i, int j) {int swap = array[i]; array[i] = array[j]; array[j] = swap;}
+
+    /**
+     * This method checks that an Entire Array of ints is Sorted in Ascending Order.
+     * @param array is the Array to Check.
+     * @return true if the Array is Sorted, false Otherwise.
+     */
+
+    private static boolean isSorted(int[] array) {for (int i = 1; i < array.length; i++) {if (Integer.compare(array[i], array[i - 1]) < 0) {return false;}} return true;}
+
+    /**
+     * This method rearranges the Array of longs in Ascending Order using Dual-Pivot Quick Sort, without Boxing the Elements.
+     * @param array is the Array to be Sorted.
+     */
+
+    public static void sort(long[] array) {sort(array, 0, array.length - 1); assert isSorted(array);}
+
+    /**
+     * This method recursively rearranges a Segment of the Array of longs in Ascending Order using Dual-Pivot Partitioning, Switching to Insertion Sort for Small Segments.
+     * @param array is the Array to be Sorted.
+     * @param low is the Lower Bound Index of the Segment of the Array to Sort (inclusive).
+     * @param high is the Upper Bound Index of the Segment of the Array to Sort (inclusive).
+     */
+
+    private static void sort(long[] array, int low, int high) {
+        if (high - low < INSERTION_SORT_CUTOFF) {insertionSort(array, low, high); return;} choosePivots(array, low, high); long p = array[low]; long q = array[high];
+        int lt = low + 1; int gt = high - 1; int i = low + 1; while (i <= gt) { // Partitioning into Elements < p, p <= Elements <= q and Elements > q.
+            if (array[i] < p) swap(array, i++, lt++); else if (array[i] > q) swap(array, i, gt--); else i++;
+        } swap(array, low, --lt); swap(array, high, ++gt); // Moving the Pivots into their Final Positions.
+        sort(array, low, lt - 1); if (p < q) sort(array, lt + 1, gt - 1); sort(array, gt + 1, high); // The Middle Segment is all Equal to the Pivots when p == q.
+    }
+
+    /**
+     * This method chooses the Two Pivots of a Segment of the Array of longs by Sorting Five Evenly Spaced Samples and Moving the Second Smallest to low and the Second Largest to high.
+     * @param array is the Array to be Sorted.
+     * @param low is the Lower Bound Index of the Segment (inclusive).
+     * @param high is the Upper Bound Index of the Segment (inclusive).
+     */
+
+    private static void choosePivots(long[] array, int low, int high) {
+        int seventh = (high - low + 1) / 7; int e3 = (low + high) >>> 1; int e2 = e3 - seventh; int e1 = e2 - seventh; int e4 = e3 + seventh; int e5 = e4 + seventh;
+        order(array, e1, e2); order(array, e4, e5); order(array, e3, e5); order(array, e3, e4); order(array, e1, e4); order(array, e1, e3); order(array, e2, e5); order(array, e2, e4);
+        order(array, e2, e3); swap(array, low, e2); swap(array, high, e4); // Sorting the Five Samples with a Nine-Comparator Sorting Network.
+    }
+
+    /**
+     * This method puts Two Elements of the Array of longs in Ascending Order.
+     * @param array is the Array Containing the Elements.
+     * @param i is the Index which should hold the Smaller Element.
+     * @param j is the Index which should hold the Larger Element.
+     */
+
+    private static void order(long[] array, int i, int j) {if (array[j] < array[i]) swap(array, i, j);}
+
+    /**
+     * This method rearranges a Small Segment of the Array of longs in Ascending Order using Insertion Sort, Shifting Larger Elements Right into a Hole rather than Swapping.
+     * @param array is the Array to be Sorted.
+     * @param low is the Lower Bound Index of the Segment (inclusive).
+     * @param high is the Upper Bound Index of the Segment (inclusive).
+     */
+
+    private static void insertionSort(long[] array, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {long item = array[i]; int j = i; while (j > low && item < array[j - 1]) {array[j] = array[j - 1]; j--;} array[j] = item;}
+    }
+
+    /**
+     * This method swaps Two Elements in the Array of longs.
+     * @param array is the Array in which the Swap Occurs.
+     * @param i is the Index of the First Element that we are Going to Swap.
+     * @param j is the Index of the Second Element that we are Going to Swap.
+     */
+
+    private static void swap(long[] array, int i, int j) {long swap = array[i]; array[i] = array[j]; array[j] = swap;}
+
+    /**
+     * This method checks that an Entire Array of longs is Sorted in Ascending Order.
+     * @param array is the Array to Check.
+     * @return true if the Array is Sorted, false Otherwise.
+     */
+
+    private static boolean isSorted(long[] array) {for (int i = 1; i < array.length; i++) {if (Long.compare(array[i], array[i - 1]) < 0) {return false;}} return true;}
+
+    /**
+     * This method rearranges the Array of doubles in Ascending Order using Dual-Pivot Quick Sort, in the Same Order as {@link Double#compare}: NaNs are Moved to the End before Partitioning
+     * (as every Comparison with a NaN is false) and -0.0 is Placed before 0.0 afterwards (as the Two Compare as Equal).
+     * @param array is the Array to be Sorted.
+     */
+
+    public static void sort(double[] array) {
+        int high = array.length - 1; int negativeZeros = 0; for (int k = high; k >= 0; k--) { // Moving the NaNs to the End and Counting the Negative Zeros.
+            if (Double.isNaN(array[k])) {array[k] = array[high]; array[high--] = Double.NaN;} else if (Double.doubleToRawLongBits(array[k]) == Double.doubleToRawLongBits(-0.0)) negativeZeros++;
+        }
+        sort(array, 0, high); if (negativeZeros > 0) {
+            int zero = 0, top = high + 1; while (zero < top) {int mid = (zero + top) >>> 1; if (array[mid] < 0.0) zero = mid + 1; else top = mid;} // Binary Searching for the First Zero.
+            for (int k = zero; k <= high && array[k] == 0.0; k++) {array[k] = k - zero < negativeZeros ? -0.0 : 0.0;}
+        } assert isSorted(array);
+    }
+
+    /**
+     * This method recursively rearranges a Segment of the Array of doubles in Ascending Order using Dual-Pivot Partitioning, Switching to Insertion Sort for Small Segments.
+     * @param array is the Array to be Sorted.
+     * @param low is the Lower Bound Index of the Segment of the Array to Sort (inclusive).
+     * @param high is the Upper Bound Index of the Segment of the Array to Sort (inclusive).
+     */
+
+    private static void sort(double[] array, int low, int high) {
+        if (high - low < INSERTION_SORT_CUTOFF) {insertionSort(array, low, high); return;} choosePivots(array, low, high); double p = array[low]; double q = array[high];
+        int lt = low + 1; int gt = high - 1; int i = low + 1; while (i <= gt) { // Partitioning into Elements < p, p <= Elements <= q and Elements > q.
+            if (array[i] < p) swap(array, i++, lt++); else if (array[i] > q) swap(array, i, gt--); else i++;
+        } swap(array, low, --lt); swap(array, high, ++gt); // Moving the Pivots into their Final Positions.
+        sort(array, low, lt - 1); if (p < q) sort(array, lt + 1, gt - 1); sort(array, gt + 1, high); // The Middle Segment is all Equal to the Pivots when p == q.
+    }
+
+    /**
+     * This method chooses the Two Pivots of a Segment of the Array of doubles by Sorting Five Evenly Spaced Samples and Moving the Second Smallest to low and the Second Largest to high.
+     * @param array is the Array to be Sorted.
+     * @param low is the Lower Bound Index of the Segment (inclusive).
+     * @param high is the Upper Bound Index of the Segment (inclusive).
+     */
+
+    private static void choosePivots(double[] array, int low, int high) {
+        int seventh = (high - low + 1) / 7; int e3 = (low + high) >>> 1; int e2 = e3 - seventh; int e1 = e2 - seventh; int e4 = e3 + seventh; int e5 = e4 + seventh;
+        order(array, e1, e2); order(array, e4, e5); order(array, e3, e5); order(array, e3, e4); order(array, e1, e4); order(array, e1, e3); order(array, e2, e5); order(array, e2, e4);
+        order(array, e2, e3); swap(array, low, e2); swap(array, high, e4); // Sorting the Five Samples with a Nine-Comparator Sorting Network.
+    }
+
+    /**
+     * This method puts Two Elements of the Array of doubles in Ascending Order.
+     * @param array is the Array Containing the Elements.
+     * @param i is the Index which should hold the Smaller Element.
+     * @param j is the Index which should hold the Larger Element.
+     */
+
+    private static void order(double[] array, int i, int j) {if (array[j] < array[i]) swap(array, i, j);}
+
+    /**
+     * This method rearranges a Small Segment of the Array of doubles in Ascending Order using Insertion Sort, Shifting Larger Elements Right into a Hole rather than Swapping.
+     * @param array is the Array to be Sorted.
+     * @param low is the Lower Bound Index of the Segment (inclusive).
+     * @param high is the Upper Bound Index of the Segment (inclusive).
+     */
+
+    private static void insertionSort(double[] array, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {double item = array[i]; int j = i; while (j > low && item < array[j - 1]) {array[j] = array[j - 1]; j--;} array[j] = item;}
+    }
+
+    /**
+     * This method swaps Two Elements in the Array of doubles.
+     * @param array is the Array in which the Swap Occurs.
+     * @param i is the Index of the First Element that we are Going to Swap.
+     * @param j is the Index of the Second Element that we are Going to Swap.
+     */
+
+    private static void swap(double[] array, int i, int j) {double swap = array[i]; array[i] = array[j]; array[j] = swap;}
+
+    /**
+     * This method checks that an Entire Array of doubles is Sorted in Ascending Order, in the Order of Double.compare.
+     * @param array is the Array to Check.
+     * @return true if the Array is Sorted, false Otherwise.
+     */
+
+    private static boolean isSorted(double[] array) {for (int i = 1; i < array.length; i++) {if (Double.compare(array[i], array[i - 1]) < 0) {return false;}} return true;}
+
+    /**
+     * This method rearranges the Array of floats in Ascending Order using Dual-Pivot Quick Sort, in the Same Order as {@link Float#compare}: NaNs are Moved to the End before Partitioning
+     * (as every Comparison with a NaN is false) and -0.0 is Placed before 0.0 afterwards (as the Two Compare as Equal).
+     * @param array is the Array to be Sorted.
+     */
+
+    public static void sort(float[] array) {
+        int high = array.length - 1; int negativeZeros = 0; for (int k = high; k >= 0; k--) { // Moving the NaNs to the End and Counting the Negative Zeros.
+            if (Float.isNaN(array[k])) {array[k] = array[high]; array[high--] = Float.NaN;} else if (Float.floatToRawIntBits(array[k]) == Float.floatToRawIntBits(-0.0f)) negativeZeros++;
+        }
+        sort(array, 0, high); if (negativeZeros > 0) {
+            int zero = 0, top = high + 1; while (zero < top) {int mid = (zero + top) >>> 1; if (array[mid] < 0.0f) zero = mid + 1; else top = mid;} // Binary Searching for the First Zero.
+            for (int k = zero; k <= high && array[k] == 0.0f; k++) {array[k] = k - zero < negativeZeros ? -0.0f : 0.0f;}
+        } assert isSorted(array);
+    }
+
+    /**
+     * This method recursively rearranges a Segment of the Array of floats in Ascending Order using Dual-Pivot Partitioning, Switching to Insertion Sort for Small Segments.
+     * @param array is the Array to be Sorted.
+     * @param low is the Lower Bound Index of the Segment of the Array to Sort (inclusive).
+     * @param high is the Upper Bound Index of the Segment of the Array to Sort (inclusive).
+     */
+
+    private static void sort(float[] array, int low, int high) {
+        if (high - low < INSERTION_SORT_CUTOFF) {insertionSort(array, low, high); return;} choosePivots(array, low, high); float p = array[low]; float q = array[high];
+        int lt = low + 1; int gt = high - 1; int i = low + 1; while (i <= gt) { // Partitioning into Elements < p, p <= Elements <= q and Elements > q.
+            if (array[i] < p) swap(array, i++, lt++); else if (array[i] > q) swap(array, i, gt--); else i++;
+        } swap(array, low, --lt); swap(array, high, ++gt); // Moving the Pivots into their Final Positions.
+        sort(array, low, lt - 1); if (p < q) sort(array, lt + 1, gt - 1); sort(array, gt + 1, high); // The Middle Segment is all Equal to the Pivots when p == q.
+    }
+
+    /**
+     * This method chooses the Two Pivots of a Segment of the Array of floats by Sorting Five Evenly Spaced Samples and Moving the Second Smallest to low and the Second Largest to high.
+     * @param array is the Array to be Sorted.
+     * @param low is the Lower Bound Index of the Segment (inclusive).
+     * @param high is the Upper Bound Index of the Segment (inclusive).
+     */
+
+    private static void choosePivots(float[] array, int low, int high) {
+        int seventh = (high - low + 1) / 7; int e3 = (low + high) >>> 1; int e2 = e3 - seventh; int e1 = e2 - seventh; int e4 = e3 + seventh; int e5 = e4 + seventh;
+        order(array, e1, e2); order(array, e4, e5); order(array, e3, e5); order(array, e3, e4); order(array, e1, e4); order(array, e1, e3); order(array, e2, e5); order(array, e2, e4);
+        order(array, e2, e3); swap(array, low, e2); swap(array, high, e4); // Sorting the Five Samples with a Nine-Comparator Sorting Network.
+    }
+
+    /**
+     * This method puts Two Elements of the Array of floats in Ascending Order.
+     * @param array is the Array Containing the Elements.
+     * @param i is the Index which should hold the Smaller Element.
+     * @param j is the Index which should hold the Larger Element.
+     */
+
+    private static void order(float[] array, int i, int j) {if (array[j] < array[i]) swap(array, i, j);}
+
+    /**
+     * This method rearranges a Small Segment of the Array of floats in Ascending Order using Insertion Sort, Shifting Larger Elements Right into a Hole rather than Swapping.
+     * @param array is the Array to be Sorted.
+     * @param low is the Lower Bound Index of the Segment (inclusive).
+     * @param high is the Upper Bound Index of the Segment (inclusive).
+     */
+
+    private static void insertionSort(float[] array, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {float item = array[i]; int j = i; while (j > low && item < array[j - 1]) {array[j] = array[j - 1]; j--;} array[j] = item;}
+    }
+
+    /**
+     * This method swaps Two Elements in the Array of floats.
+     * @param array is the Array in which the Swap Occurs.
+     * @param i is the Index of the First Element that we are Going to Swap.
+     * @param j is the Index of the Second Element that we are Going to Swap.
+     */
+
+    private static void swap(float[] array, int i, int j) {float swap = array[i]; array[i] = array[j]; array[j] = swap;}
+
+    /**
+     * This method checks that an Entire Array of floats is Sorted in Ascending Order, in the Order of Float.compare.
+     * @param array is the Array to Check.
+     * @return true if the Array is Sorted, false Otherwise.
+     */
+
+    private static boolean isSorted(float[] array) {for (int i = 1; i < array.length; i++) {if (Float.compare(array[i], array[i - 1]) < 0) {return false;}} return true;}
+
     /**
      * This method compares Two Objects to Determine if the First Object is Less than the Second Object.
      * @param v is the First Comparable Object.
@@ -131,7 +906,7 @@ public class QuickSort {
      * @param j is the Index of the Second Element that we are Going to Swap.
      */
 
-    private static <T> void swap(T[] array, int i, int j) {T swap = array[i]; array[i] = array[j]; array[j] = swap;}
+    private static <T> void swap(T[] array, int i, int j) {T swap = array[i]; array[i] = array[j]; array[j] = swap; SortStats.swap();}
 
     /**
      * This method checks that an Entire Array is Sorted in Ascending Order.
@@ -172,7 +947,7 @@ public class QuickSort {
      */
 
     private static <T> boolean isSorted(T[] array, Comparator<? super T> comparator, int low, int high) {
-        for (int i = low + 1; i <= high; i++) {if (less(comparator, array[i], array[i - 1])) {return false;}} return true;
+        return SortStats.uncounted(() -> {for (int i = low + 1; i <= high; i++) {if (less(comparator, array[i], array[i - 1])) {return false;}} return true;});
     }
 
     /**
@@ -202,6 +977,54 @@ public class QuickSort {
         // Testing the Sort Method with an Array of Strings which Sorts the Array with a Customised Comparator which Sorts the Strings based on their Length.
         Comparator<String> byLength = Comparator.comparingInt(String::length); QuickSort.sort(stringArray, byLength); show(stringArray);
 
+        // Testing the Introsort Methods on Adversarial Inputs which would make the Plain Sort Quadratic (and Overflow the Stack at this Size).
+        Integer[] sorted = new Integer[200000]; for (int i = 0; i < sorted.length; i++) {sorted[i] = i;} QuickSort.introSort(sorted); assert isSorted(sorted);
+        QuickSort.introSort(sorted, descending); assert isSorted(sorted, descending); for (int cutoff : new int[] {1, 8, 64, Integer.MAX_VALUE}) {
+            Integer[] cut = new java.util.Random(cutoff).ints(cutoff == Integer.MAX_VALUE ? 2000 : 50000).boxed().toArray(Integer[]::new); Integer[] expected = cut.clone(); java.util.Arrays.sort(expected);
+            QuickSort.introSort(cut, cutoff); assert java.util.Arrays.equals(cut, expected); QuickSort.introSort(cut, descending, cutoff); assert isSorted(cut, descending);
+        }
+        try {QuickSort.introSort(sorted, 0); assert false;} catch (IllegalArgumentException e) {System.out.println(e.getMessage());} Integer[] equal = new Integer[200000]; java.util.Arrays.fill(equal, 7); QuickSort.introSort(equal);
+        Integer[] organPipe = new Integer[200000]; for (int i = 0; i < organPipe.length; i++) {organPipe[i] = Math.min(i, organPipe.length - i);} QuickSort.introSort(organPipe); assert isSorted(organPipe);
+
+        // Testing the Three-Way Partitioning Methods on Duplicate-Heavy Input.
+        java.util.Random random3Way = new java.util.Random(3); for (int distinct : new int[] {1, 2, 3, 10, 1000}) {
+            Integer[] duplicates = new Integer[50000]; for (int i = 0; i < duplicates.length; i++) {duplicates[i] = random3Way.nextInt(distinct);} Integer[] expected = duplicates.clone();
+            java.util.Arrays.sort(expected); QuickSort.sort3Way(duplicates); assert java.util.Arrays.equals(duplicates, expected); QuickSort.sort3Way(duplicates, descending); assert isSorted(duplicates, descending);
+        }
+        QuickSort.sort3Way(sorted); assert isSorted(sorted); QuickSort.sort3Way(new Integer[0]);
+
+        // Testing the Parallel Sort Methods against the JDK's Sort, with a Small Granularity so that the Parallel Partition is Exercised.
+        java.util.Random randomParallel = new java.util.Random(11); for (int distinct : new int[] {1, 3, 100, Integer.MAX_VALUE}) {
+            Integer[] parallel = new Integer[100000]; for (int i = 0; i < parallel.length; i++) {parallel[i] = randomParallel.nextInt(distinct);} Integer[] expected = parallel.clone(); java.util.Arrays.sort(expected);
+            Integer[] copy = parallel.clone(); QuickSort.parallelSort(copy, 64); assert java.util.Arrays.equals(copy, expected); QuickSort.parallelSort(parallel); assert java.util.Arrays.equals(parallel, expected);
+            QuickSort.parallelSort(copy, descending, 64); assert isSorted(copy, descending); QuickSort.parallelSort(expected, 64); assert isSorted(expected);
+        }
+        new ForkJoinPool(3).submit(() -> QuickSort.parallelSort(sorted, descending, 100)).join(); assert isSorted(sorted, descending);
+
+        // Testing the Primitive Sort Methods against java.util.Arrays.sort on Random Arrays, Arrays with Few Distinct Values and Arrays containing NaNs and Signed Zeros.
+        java.util.Random random = new java.util.Random(8); for (int n : new int[] {0, 1, 31, 32, 33, 1000, 100000}) {
+            int[] ints = random.ints(n, 0, n % 7 + 2).toArray(); int[] intsCopy = ints.clone(); QuickSort.sort(ints); java.util.Arrays.sort(intsCopy); assert java.util.Arrays.equals(ints, intsCopy);
+            long[] longs = random.longs(n).toArray(); long[] longsCopy = longs.clone(); QuickSort.sort(longs); java.util.Arrays.sort(longsCopy); assert java.util.Arrays.equals(longs, longsCopy);
+            double[] doubles = random.doubles(n).map(x -> x < 0.1 ? Double.NaN : x < 0.2 ? -0.0 : x < 0.3 ? 0.0 : x - 0.5).toArray(); double[] doublesCopy = doubles.clone();
+            QuickSort.sort(doubles); java.util.Arrays.sort(doublesCopy); assert java.util.Arrays.equals(doubles, doublesCopy);
+            float[] floats = new float[n]; for (int i = 0; i < n; i++) {floats[i] = (float) doubles[n - 1 - i];} float[] floatsCopy = floats.clone(); QuickSort.sort(floats); java.util.Arrays.sort(floatsCopy);
+            assert java.util.Arrays.equals(floats, floatsCopy);
+        }
+
+        // Testing Selection and Partial Sorting against a Sorted Copy, on Random, Duplicate-Heavy and Sorted Input, and the Errors for a Rank out of Range.
+        java.util.Random randomSelect = new java.util.Random(5); for (int distinct : new int[] {1, 5, Integer.MAX_VALUE}) {
+            Integer[] input = new Integer[20000]; for (int i = 0; i < input.length; i++) {input[i] = randomSelect.nextInt(distinct);} Integer[] expected = input.clone(); java.util.Arrays.sort(expected);
+            for (int k : new int[] {0, 1, 100, 9999, 19999}) {
+                Integer[] copy = input.clone(); assert QuickSort.select(copy, k).equals(expected[k]); for (int i = 0; i < copy.length; i++) {assert i < k ? copy[i] <= copy[k] : copy[i] >= copy[k];}
+                copy = input.clone(); assert QuickSort.select(copy, descending, k).equals(expected[expected.length - 1 - k]);
+                copy = input.clone(); QuickSort.partialSort(copy, k); assert java.util.Arrays.equals(copy, 0, k, expected, 0, k);
+                copy = input.clone(); QuickSort.partialSort(copy, descending, k); for (int i = 0; i < k; i++) {assert copy[i].equals(expected[expected.length - 1 - i]);}
+            }
+        }
+        QuickSort.partialSort(sorted, sorted.length); assert isSorted(sorted); assert QuickSort.select(sorted, 12345) == 12345; QuickSort.partialSort(new Integer[0], 0);
+        try {QuickSort.select(new Integer[3], 3); assert false;} catch (IllegalArgumentException e) {System.out.println(e.getMessage());}
+        try {QuickSort.partialSort(new Integer[3], -1); assert false;} catch (IllegalArgumentException e) {System.out.println(e.getMessage());}
+
         System.out.println("\n\n All Tests Passed Successfully!!!");
 
     }
@@ -0,0 +1,71 @@
+import java.util.Arrays; // Importing Arrays from the java.util Package to Compare against the JDK's Sorts and to Copy the Input before each Run.
+import java.util.Random; // Importing Random from the java.util Package to Generate the Benchmark Input.
+
+/**
+ * @author LewisThackeray
+ * @date 17/10/2026
+ *
+ * {@code QuickSortBenchmark} is a Micro-Benchmark which compares the Primitive Dual-Pivot Overloads of {@link QuickSort} with the Generic Object Path of {@link QuickSort} and with
+ * {@link Arrays#sort}, and compares {@link QuickSort#introSort} with the Plain Generic Sort on Sorted, Reversed, Organ-Pipe and All-Equal Input and {@link QuickSort#sort3Way} with the Plain Sort as the Number of Distinct Keys grows, and a Full Sort with {@link QuickSort#partialSort} and {@link PriorityQueue#topK} when only the Top k are Wanted.  Each Case Sorts a Fresh Copy of the Same Random Input for a number of Warm-Up Rounds, so that the JIT Compiler has Compiled the Hot Loops, and then the Best of the
+ * Measured Rounds is Reported in Millions of Elements Sorted per Second.
+ */
+
+public class QuickSortBenchmark {
+
+    /**
+     * This is the Class Constructor.  The Class Constructor is Private to Prevent Instantiations of the Class, as the Class only Runs the Quick Sort Cases through the Shared Harness.
+     */
+
+    private QuickSortBenchmark() {}
+
+    /**
+     * This method runs the Benchmark, the First Command-Line Argument Optionally Overrides the Number of Elements.
+     * @param args the Command-Line Arguments.
+     */
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000; Random random = new Random(42);
+
+        // Comparing the Sorts of ints.
+        int[] ints = random.ints(n).toArray(); Integer[] boxedInts = Arrays.stream(ints).boxed().toArray(Integer[]::new);
+        Benchmark.throughput("QuickSort.sort(int[])", ints, int[]::clone, QuickSort::sort); Benchmark.throughput("Arrays.sort(int[])", ints, int[]::clone, Arrays::sort);
+        Benchmark.throughput("QuickSort.sort(Integer[])", boxedInts, Integer[]::clone, QuickSort::sort);
+
+        // Comparing the Sorts of longs.
+        long[] longs = random.longs(n).toArray(); Long[] boxedLongs = Arrays.stream(longs).boxed().toArray(Long[]::new);
+        Benchmark.throughput("QuickSort.sort(long[])", longs, long[]::clone, QuickSort::sort); Benchmark.throughput("Arrays.sort(long[])", longs, long[]::clone, Arrays::sort);
+        Benchmark.throughput("QuickSort.sort(Long[])", boxedLongs, Long[]::clone, QuickSort::sort);
+
+        // Comparing the Sorts of doubles.
+        double[] doubles = random.doubles(n).toArray(); Double[] boxedDoubles = Arrays.stream(doubles).boxed().toArray(Double[]::new);
+        Benchmark.throughput("QuickSort.sort(double[])", doubles, double[]::clone, QuickSort::sort); Benchmark.throughput("Arrays.sort(double[])", doubles, double[]::clone, Arrays::sort);
+        Benchmark.throughput("QuickSort.sort(Double[])", boxedDoubles, Double[]::clone, QuickSort::sort);
+
+        // Comparing the Sorts of floats.
+        float[] floats = new float[n]; Float[] boxedFloats = new Float[n]; for (int i = 0; i < n; i++) {floats[i] = random.nextFloat(); boxedFloats[i] = floats[i];}
+        Benchmark.throughput("QuickSort.sort(float[])", floats, float[]::clone, QuickSort::sort); Benchmark.throughput("Arrays.sort(float[])", floats, float[]::clone, Arrays::sort);
+        Benchmark.throughput("QuickSort.sort(Float[])", boxedFloats, Float[]::clone, QuickSort::sort);
+
+        // Comparing Introsort with the Plain Sort on Adversarial Inputs, the Plain Sort only at a Small Size as it is Quadratic (and Recurses n Deep) on Sorted Input.
+        int small = Math.min(n, 5_000); for (int size : new int[] {small, n}) {
+            Integer[] sorted = new Integer[size], reversed = new Integer[size], organPipe = new Integer[size], equal = new Integer[size];
+            for (int i = 0; i < size; i++) {sorted[i] = i; reversed[i] = size - i; organPipe[i] = Math.min(i, size - i); equal[i] = 7;}
+            String[] names = {"sorted", "reversed", "organ-pipe", "all-equal"}; Integer[][] inputs = {sorted, reversed, organPipe, equal}; for (int i = 0; i < inputs.length; i++) {
+                if (size == small) Benchmark.throughput("QuickSort.sort(" + names[i] + ", n=" + size + ")", inputs[i], Integer[]::clone, QuickSort::sort);
+                Benchmark.throughput("QuickSort.introSort(" + names[i] + ", n=" + size + ")", inputs[i], Integer[]::clone, QuickSort::introSort);
+            }
+        }
+
+        // Comparing Two-Way with Three-Way Partitioning as the Number of Distinct Keys Sweeps from 2 to n.
+        for (int distinct : new int[] {2, 16, 256, 4096, 65536, n}) {if (distinct > n) continue;
+            Integer[] keys = new Integer[n]; for (int i = 0; i < n; i++) {keys[i] = random.nextInt(distinct);}
+            Benchmark.throughput("QuickSort.sort(distinct=" + distinct + ")", keys, Integer[]::clone, QuickSort::sort); Benchmark.throughput("QuickSort.sort3Way(distinct=" + distinct + ")", keys, Integer[]::clone, QuickSort::sort3Way);
+        }
+
+        // Comparing a Full Sort with Selecting the Top k, which is all that is Wanted when only the First Few Records are Shown.
+        for (int k : new int[] {100, 10_000}) {if (k > n) continue;
+            Benchmark.throughput("QuickSort.introSort (top " + k + ")", boxedInts, Integer[]::clone, QuickSort::introSort); Benchmark.throughput("QuickSort.partialSort(top " + k + ")", boxedInts, Integer[]::clone, array -> QuickSort.partialSort(array, k));
+            Benchmark.throughput("PriorityQueue.topK(top " + k + ")", boxedInts, Integer[]::clone, array -> PriorityQueue.topK(Arrays.asList(array).iterator(), k));
+        }
+    }
+}
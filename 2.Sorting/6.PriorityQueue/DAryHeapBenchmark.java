@@ -0,0 +1,46 @@
+import java.util.Random; // Importing Random from the java.util Package to Generate the Benchmark Input.
+
+/**
+ * @author LewisThackeray
+ * @date 17/10/2026
+ *
+ * {@code DAryHeapBenchmark} Sweeps the Heap Size and the Arity d of the {@link PriorityQueue} and {@link HeapSort} Heaps.  For the Priority Queue, a Heap of n Random Integers is Built and then
+ * Held at Size n by a Million replaceMin Operations, followed by n Inserts and n Deletes, and for Heap Sort an Array of n Random Integers is Sorted by {@link HeapSort#sort} (the Binary Heap) and
+ * {@link HeapSort#sortDAry}.  The Best of the Measured Rounds is Reported in Nanoseconds per Operation (or per Element Sorted), so the Sizes where a Wider Heap beats the Binary one Stand out.
+ */
+
+public class DAryHeapBenchmark {
+
+    private static final int WARMUP_ROUNDS = 2, MEASURED_ROUNDS = 3; // Creating Fewer Rounds than the Harness's Default, as every Size and Arity is a Case.
+    private static final int[] ARITIES = {2, 4, 8}; // Creating the Arities to Sweep.
+
+    /**
+     * This is the Class Constructor.  The Class Constructor is Private to Prevent Instantiations of the Class, as the Class only Sweeps the Sizes and Arities through the Shared Harness.
+     */
+
+    private DAryHeapBenchmark() {}
+
+    /**
+     * This method runs the Benchmark, the Command-Line Arguments Optionally Override the Heap Sizes to Sweep.
+     * @param args the Command-Line Arguments.
+     */
+
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0 ? java.util.Arrays.stream(args).mapToInt(Integer::parseInt).toArray() : new int[] {1 << 10, 1 << 14, 1 << 18, 1 << 21}; int operations = 1_000_000;
+        System.out.printf("%-10s %-4s %16s %16s %16s %16s%n", "n", "d", "replaceMin ns", "insert ns", "delete ns", "sort ns/elem"); for (int n : sizes) {
+            Integer[] items = new Random(n).ints(n).boxed().toArray(Integer[]::new); Integer[] replacements = new Random(-n).ints(operations).boxed().toArray(Integer[]::new);
+            for (int d : ARITIES) {
+                long replace = Benchmark.bestPhases(WARMUP_ROUNDS, MEASURED_ROUNDS, () -> {
+                    PriorityQueue<Integer> queue = new PriorityQueue<>(items, null, d); long start = System.nanoTime(); for (Integer item : replacements) {Benchmark.sink(queue.replaceMin(item));}
+                    return new long[] {System.nanoTime() - start};
+                })[0];
+                long[] insertDelete = Benchmark.bestPhases(WARMUP_ROUNDS, MEASURED_ROUNDS, () -> {
+                    PriorityQueue<Integer> queue = new PriorityQueue<>(n, null, d); long start = System.nanoTime(); for (Integer item : items) {queue.insert(item);} long middle = System.nanoTime();
+                    while (!queue.isEmpty()) {Benchmark.sink(queue.delete());} return new long[] {middle - start, System.nanoTime() - middle};
+                });
+                long sort = Benchmark.bestPhases(WARMUP_ROUNDS, MEASURED_ROUNDS, () -> {Integer[] array = items.clone(); long start = System.nanoTime(); if (d == 2) HeapSort.sort(array); else HeapSort.sortDAry(array, d); return new long[] {System.nanoTime() - start};})[0];
+                System.out.printf("%-10d %-4d %16.1f %16.1f %16.1f %16.1f%n", n, d, (double) replace / operations, (double) insertDelete[0] / n, (double) insertDelete[1] / n, (double) sort / n);
+            }
+        }
+    }
+}
@@ -0,0 +1,227 @@
+import java.util.Arrays; // Importing the Arrays Class from the java.util Package to Mark every Index as Absent when the Queue is Created.
+import java.util.NoSuchElementException; // Importing the NoSuchElementException from the java.util Package to Throw a Runtime Error when trying to Access a Non-Existent Item in the Priority Queue.
+
+/**
+ * @author LewisThackeray
+ * @date 17/10/2026
+ *
+ * {@code IndexMinPriorityQueue} represents a Minimum Priority Queue of the Integers 0 to capacity - 1, each with a Primitive double Key, implemented using a Binary Heap of Indices stored in an
+ * Array.  Alongside the Heap, a Position Array Records where each Index is in the Heap, so that an Index already in the Queue can be Found in Constant Time and its Key Changed, or the Index
+ * Deleted, by Swimming or Sinking it from there.  This is the Operation which Dijkstra's and Prim's Algorithms Need when they find a Shorter Edge to a Vertex already in the Queue.
+ *
+ * <p><b>Heap Property for a Min-Heap:</b> The Key of Each Node is Less Than or Equal to the Keys of its Children.  Keys are Compared with {@link Double#compare}, so -0.0 comes before 0.0 and
+ * NaN comes after every other Key.</p>
+ *
+ * <p><b>Time Complexity:</b> insert, deleteMin, delete, change, decreaseKey and increaseKey take O(log(n)), and contains, min, minKey and keyOf take O(1).</p>
+ *
+ * <p><b>Space Complexity:</b> Three Arrays of the Capacity, so O(capacity), and no Boxing of the Keys or Indices.</p>
+ */
+
+public class IndexMinPriorityQueue {
+
+    private final int[] heap; // Creating a Fixed-Size Array to Store the Binary Heap of Indices, from Position 1.
+    private final int[] position; // Creating an Array to Store the Position of each Index in the Heap, or -1 if the Index is not in the Queue.
+    private final double[] keys; // Creating an Array to Store the Key of each Index.
+    private int n; // Creating a Counter to Store the Number of Indices in the Priority Queue.
+
+    /**
+     * This is the Class Constructor which Initialises an Empty Indexed Minimum Priority Queue for the Indices 0 to capacity - 1.
+     * @param capacity specifies the Number of Indices.
+     * @throws IllegalArgumentException if the capacity is Negative.
+     */
+
+    public IndexMinPriorityQueue(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("The Capacity must not be Negative!"); heap = new int[capacity + 1]; position = new int[capacity]; keys = new double[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    /**
+     * This method tests whether the Indexed Minimum Priority Queue is Empty.
+     * @return a boolean value where true is returned if the Priority Queue is Empty, false otherwise.
+     */
+
+    public boolean isEmpty() {return n == 0;}
+
+    /**
+     * This method returns the number of Indices in the Indexed Minimum Priority Queue.
+     * @return an integer which is the number of Indices in the Priority Queue.
+     */
+
+    public int size() {return n;}
+
+    /**
+     * This method checks whether an Index is in the Indexed Minimum Priority Queue.
+     * @param i is the Index.
+     * @return true if the Index is in the Priority Queue, false otherwise.
+     * @throws IllegalArgumentException if the Index is not between 0 and capacity - 1.
+     */
+
+    public boolean contains(int i) {validate(i); return position[i] != -1;}
+
+    /**
+     * This method inserts an Index with the Given Key.
+     * @param i is the Index.
+     * @param key is the Key of the Index.
+     * @throws IllegalArgumentException if the Index is not between 0 and capacity - 1 or is already in the Priority Queue.
+     */
+
+    public void insert(int i, double key) {if (contains(i)) throw new IllegalArgumentException("The Index is already in the Priority Queue!"); n++; position[i] = n; heap[n] = i; keys[i] = key; swim(n);}
+
+    /**
+     * This method returns the Index with the Smallest Key but doesn't remove it from the Priority Queue.
+     * @return an Integer which is the Index with the Smallest Key.
+     * @throws NoSuchElementException if the Priority Queue is Empty.
+     */
+
+    public int min() {if (isEmpty()) {throw new NoSuchElementException("The Minimum Priority Queue is Empty!");} return heap[1];}
+
+    /**
+     * This method returns the Smallest Key in the Priority Queue.
+     * @return a Double which is the Key of the Index with the Smallest Key.
+     * @throws NoSuchElementException if the Priority Queue is Empty.
+     */
+
+    public double minKey() {return keys[min()];}
+
+    /**
+     * This method deletes the Index with the Smallest Key and also returns it.
+     * @return an Integer which is the Index with the Smallest Key.
+     * @throws NoSuchElementException if the Priority Queue is Empty.
+     */
+
+    public int deleteMin() {int min = min(); swap(1, n--); sink(1); position[min] = -1; return min;}
+
+    /**
+     * This method returns the Key of an Index in the Priority Queue.
+     * @param i is the Index.
+     * @return a Double which is the Key of the Index.
+     * @throws IllegalArgumentException if the Index is not between 0 and capacity - 1.
+     * @throws NoSuchElementException if the Index is not in the Priority Queue.
+     */
+
+    public double keyOf(int i) {requireContains(i); return keys[i];}
+
+    /**
+     * This method changes the Key of an Index in the Priority Queue to any New Key.
+     * @param i is the Index.
+     * @param key is the New Key.
+     * @throws IllegalArgumentException if the Index is not between 0 and capacity - 1.
+     * @throws NoSuchElementException if the Index is not in the Priority Queue.
+     */
+
+    public void change(int i, double key) {requireContains(i); keys[i] = key; swim(position[i]); sink(position[i]);}
+
+    /**
+     * This method decreases the Key of an Index in the Priority Queue, which only needs a Swim.
+     * @param i is the Index.
+     * @param key is the New Key, which must not be Greater than the Current Key.
+     * @throws IllegalArgumentException if the Index is not between 0 and capacity - 1 or the New Key is Greater than the Current Key.
+     * @throws NoSuchElementException if the Index is not in the Priority Queue.
+     */
+
+    public void decreaseKey(int i, double key) {
+        requireContains(i); if (Double.compare(key, keys[i]) > 0) throw new IllegalArgumentException("The New Key is Greater than the Current Key!"); keys[i] = key; swim(position[i]);
+    }
+
+    /**
+     * This method increases the Key of an Index in the Priority Queue, which only needs a Sink.
+     * @param i is the Index.
+     * @param key is the New Key, which must not be Less than the Current Key.
+     * @throws IllegalArgumentException if the Index is not between 0 and capacity - 1 or the New Key is Less than the Current Key.
+     * @throws NoSuchElementException if the Index is not in the Priority Queue.
+     */
+
+    public void increaseKey(int i, double key) {
+        requireContains(i); if (Double.compare(key, keys[i]) < 0) throw new IllegalArgumentException("The New Key is Less than the Current Key!"); keys[i] = key; sink(position[i]);
+    }
+
+    /**
+     * This method deletes an Index from the Priority Queue, by Moving the Last Index of the Heap into its Place and then Swimming or Sinking that.
+     * @param i is the Index.
+     * @throws IllegalArgumentException if the Index is not between 0 and capacity - 1.
+     * @throws NoSuchElementException if the Index is not in the Priority Queue.
+     */
+
+    public void delete(int i) {requireContains(i); int index = position[i]; swap(index, n--); if (index <= n) {swim(index); sink(index);} position[i] = -1;}
+
+    /**
+     * This method checks that an Index is between 0 and capacity - 1.
+     * @param i is the Index.
+     * @throws IllegalArgumentException if the Index is out of Range.
+     */
+
+    private void validate(int i) {if (i < 0 || i >= position.length) throw new IllegalArgumentException("The Index " + i + " is not between 0 and " + (position.length - 1) + "!");}
+
+    /**
+     * This method checks that an Index is in the Priority Queue.
+     * @param i is the Index.
+     * @throws IllegalArgumentException if the Index is out of Range.
+     * @throws NoSuchElementException if the Index is not in the Priority Queue.
+     */
+
+    private void requireContains(int i) {if (!contains(i)) throw new NoSuchElementException("The Index " + i + " is not in the Priority Queue!");}
+
+    /**
+     * This method restores the Heap Property by moving an Index up the Binary Heap.
+     * @param k is the Heap Position of the Index to Swim.
+     */
+
+    private void swim(int k) {while (k > 1 && greater(k / 2, k)) {swap(k, k / 2); k = k / 2;}}
+
+    /**
+     * This method restores the Heap Property by moving an Index down the Binary Heap.
+     * @param k is the Heap Position of the Index to Sink.
+     */
+
+    private void sink(int k) {while (2 * k <= n) {int j = 2 * k; if (j < n && greater(j, j + 1)) j++; if (!greater(k, j)) break; swap(k, j); k = j;}}
+
+    /**
+     * This method compares the Keys of the Indices at Two Heap Positions.
+     * @param i is the First Heap Position.
+     * @param j is the Second Heap Position.
+     * @return true if the Key at Position i is Greater than the Key at Position j, false otherwise.
+     */
+
+    private boolean greater(int i, int j) {return Double.compare(keys[heap[i]], keys[heap[j]]) > 0;}
+
+    /**
+     * This method swaps the Indices at Two Heap Positions and Updates their Positions.
+     * @param i is the First Heap Position.
+     * @param j is the Second Heap Position.
+     */
+
+    private void swap(int i, int j) {int temp = heap[i]; heap[i] = heap[j]; heap[j] = temp; position[heap[i]] = i; position[heap[j]] = j;}
+
+    /**
+     * This method tests the {@code IndexMinPriorityQueue} Class by Changing and Deleting Keys and Checking the Order the Indices are Removed in, and against a Sorted Array of Random Keys.
+     * @param args the Command Line Arguments.
+     */
+
+    public static void main(String[] args) {
+
+        // Testing the Basic Operations: the Indices must come out in the Order of their Final Keys.
+        IndexMinPriorityQueue queue = new IndexMinPriorityQueue(6); queue.insert(0, 5.0); queue.insert(1, 3.0); queue.insert(2, 8.0); queue.insert(3, 1.0); queue.insert(4, 7.0);
+        queue.decreaseKey(2, 0.5); queue.increaseKey(3, 9.0); queue.change(4, 2.0); queue.delete(0); assert queue.size() == 4 && !queue.contains(0) && queue.contains(3) && !queue.contains(5);
+        assert queue.min() == 2 && queue.minKey() == 0.5 && queue.keyOf(4) == 2.0; StringBuilder order = new StringBuilder(); while (!queue.isEmpty()) {order.append(queue.deleteMin());}
+        System.out.println(order); assert order.toString().equals("2413");
+
+        // Testing the Errors for an Index out of Range, a Duplicate Index, a Missing Index and a Key Moving the Wrong Way.
+        queue.insert(5, 1.0); try {queue.insert(5, 2.0); assert false;} catch (IllegalArgumentException e) {System.out.println(e.getMessage());}
+        try {queue.contains(6); assert false;} catch (IllegalArgumentException e) {System.out.println(e.getMessage());}
+        try {queue.keyOf(1); assert false;} catch (NoSuchElementException e) {System.out.println(e.getMessage());}
+        try {queue.decreaseKey(5, 2.0); assert false;} catch (IllegalArgumentException e) {System.out.println(e.getMessage());}
+        try {queue.increaseKey(5, 0.0); assert false;} catch (IllegalArgumentException e) {System.out.println(e.getMessage());}
+
+        // Testing the Deletion of the Index in the Last Heap Position, which must not be Swum back into the Heap.
+        queue.insert(0, 0.0); queue.insert(1, 2.0); queue.delete(5); assert queue.size() == 2 && queue.deleteMin() == 0 && queue.deleteMin() == 1 && queue.isEmpty();
+
+        // Testing Random Inserts, Changes and Deletes against the Expected Keys, which must be Removed in Sorted Order.
+        java.util.Random random = new java.util.Random(7); int n = 10000; IndexMinPriorityQueue randomQueue = new IndexMinPriorityQueue(n); double[] expected = new double[n];
+        for (int i = 0; i < n; i++) {expected[i] = random.nextDouble(); randomQueue.insert(i, expected[i]);}
+        for (int k = 0; k < 50000; k++) {int i = random.nextInt(n); double key = random.nextDouble(); if (key < expected[i]) randomQueue.decreaseKey(i, key); else randomQueue.increaseKey(i, key); expected[i] = key;}
+        for (int i = 0; i < n; i += 10) {randomQueue.delete(i); expected[i] = Double.NaN;} Arrays.sort(expected);
+        for (int k = 0; !randomQueue.isEmpty(); k++) {assert randomQueue.minKey() == expected[k]; int i = randomQueue.deleteMin(); assert !randomQueue.contains(i);}
+
+        System.out.println("\n\n All Tests Passed Successfully!!!");
+    }
+}
@@ -0,0 +1,63 @@
+import java.util.Random; // Importing Random from the java.util Package to Generate the Benchmark Operations.
+
+/**
+ * @author LewisThackeray
+ * @date 17/10/2026
+ *
+ * {@code IndexMinPriorityQueueBenchmark} is a Micro-Benchmark of a Million decreaseKey Operations on an {@link IndexMinPriorityQueue}, compared with the Two Ways of Decreasing a Key with
+ * {@link java.util.PriorityQueue}: Removing the Item and Adding it again, which is O(n) per Operation and so is only Run for a Sample of the Operations, and Adding a Duplicate Entry and Skipping
+ * Stale Entries when they are Polled, which keeps a Heap of up to n + m Entries and so Defers Part of the Cost to the Drain.  Each Case Reports the Nanoseconds per decreaseKey and the
+ * Milliseconds to then Drain the Queue.
+ */
+
+public class IndexMinPriorityQueueBenchmark {
+
+    private static final int WARMUP_ROUNDS = 2, MEASURED_ROUNDS = 3; // Creating Fewer Rounds than the Harness's Default, as each Round Builds and Drains a Queue.
+
+    /**
+     * This is the Class Constructor.  The Class Constructor is Private to Prevent Instantiations of the Class, as the Class only Times the Ways of Decreasing a Key through the Shared Harness.
+     */
+
+    private IndexMinPriorityQueueBenchmark() {}
+
+    /**
+     * This method runs the Case for the Warm-Up and Measured Rounds and Prints the Best Measured Time per Operation.
+     * @param name is the Name of the Case to Print.
+     * @param operations is the Number of decreaseKey Operations in each Round.
+     * @param round is the Case, which Returns the Nanoseconds its decreaseKey Operations Took and the Nanoseconds its Drain Took.
+     */
+
+    static void run(String name, int operations, java.util.function.Supplier<long[]> round) {
+        long[] best = Benchmark.bestPhases(WARMUP_ROUNDS, MEASURED_ROUNDS, round); System.out.printf("%-44s %10.1f ns/decreaseKey %10.1f ms drain%n", name, (double) best[0] / operations, best[1] / 1e6);
+    }
+
+    /**
+     * This method runs the Benchmark, the First Command-Line Argument Optionally Overrides the Number of Items and the Second the Number of decreaseKey Operations.
+     * @param args the Command-Line Arguments.
+     */
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 100_000, m = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000; Random random = new Random(42);
+        double[] initial = new double[n]; for (int i = 0; i < n; i++) {initial[i] = 1 + random.nextDouble();} int[] targets = random.ints(m, 0, n).toArray(); double[] factors = random.doubles(m).toArray();
+
+        run("IndexMinPriorityQueue.decreaseKey", m, () -> {
+            IndexMinPriorityQueue queue = new IndexMinPriorityQueue(n); for (int i = 0; i < n; i++) {queue.insert(i, initial[i]);} long start = System.nanoTime();
+            for (int k = 0; k < m; k++) {int i = targets[k]; queue.decreaseKey(i, queue.keyOf(i) * factors[k]);} long drain = System.nanoTime();
+            while (!queue.isEmpty()) {Benchmark.sink(queue.deleteMin());} return new long[] {drain - start, System.nanoTime() - drain};
+        });
+
+        run("java.util.PriorityQueue lazy duplicates", m, () -> {
+            double[] keys = initial.clone(); java.util.PriorityQueue<double[]> queue = new java.util.PriorityQueue<>((a, b) -> Double.compare(a[0], b[0]));
+            for (int i = 0; i < n; i++) {queue.add(new double[] {keys[i], i});} long start = System.nanoTime(); boolean[] done = new boolean[n];
+            for (int k = 0; k < m; k++) {int i = targets[k]; keys[i] *= factors[k]; queue.add(new double[] {keys[i], i});} long drain = System.nanoTime();
+            while (!queue.isEmpty()) {double[] entry = queue.poll(); int i = (int) entry[1]; if (done[i] || entry[0] != keys[i]) continue; done[i] = true; Benchmark.sink(i);}
+            return new long[] {drain - start, System.nanoTime() - drain};
+        });
+
+        int sample = Math.max(1, m / 1000); run("java.util.PriorityQueue remove+add (m/1000)", sample, () -> {
+            double[] keys = initial.clone(); java.util.PriorityQueue<Integer> queue = new java.util.PriorityQueue<>((a, b) -> Double.compare(keys[a], keys[b]));
+            for (int i = 0; i < n; i++) {queue.add(i);} long start = System.nanoTime(); for (int k = 0; k < sample; k++) {int i = targets[k]; queue.remove(i); keys[i] *= factors[k]; queue.add(i);}
+            long drain = System.nanoTime(); while (!queue.isEmpty()) {Benchmark.sink(queue.poll());} return new long[] {drain - start, System.nanoTime() - drain};
+        });
+    }
+}
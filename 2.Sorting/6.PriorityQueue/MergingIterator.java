@@ -0,0 +1,111 @@
+import java.util.ArrayList; // Importing the ArrayList Class from the java.util Package to Build the Sources in the Tests.
+import java.util.Comparator; // Importing the Comparator Class from the java.util Package to Compare Two Items and Determine which should come First in an Ordered Sequence.
+import java.util.Iterator; // Importing the Iterator Interface from the java.util Package to Read the Sorted Sources and to Emit the Merged Sequence.
+import java.util.List; // Importing the List Interface from the java.util Package to Accept the Sorted Sources.
+import java.util.NoSuchElementException; // Importing the NoSuchElementException from the java.util Package to Throw a Runtime Error when the Merged Sequence is Exhausted.
+
+/**
+ * @author LewisThackeray
+ * @date 17/10/2026
+ *
+ * {@code MergingIterator} is a Lazy <em>K-Way Merge</em> of Sorted Sources: it Holds the Current Item of each Source in a {@link PriorityQueue}, and each Call to {@link #next} Returns the
+ * Smallest of them and Replaces it with the Next Item from the Same Source.  Nothing is Read from a Source until it is Needed, so the Memory used is O(k) for k Sources however Long they are,
+ * and the First Item is Available as soon as each Source has Produced One.
+ *
+ * <p>Items the Comparator considers Equal are Returned in the Order of their Sources in the List (and in their Order within a Source), so the Merge is Stable.</p>
+ *
+ * <p><b>Time Complexity:</b> The Constructor takes O(klog(k)) and each Call to next takes O(log(k)), so Merging n Items takes O(nlog(k)).</p>
+ *
+ * @param <T> is the Generic Type of the Items.
+ */
+
+public class MergingIterator<T> implements Iterator<T> {
+
+    private final PriorityQueue<Head> heap; // Creating the Heap of the Sources' Current Items.
+    private final Comparator<? super T> comparator; // Creating the Comparator Specifying the Order.
+
+    /**
+     * This is the Class Constructor which Reads the First Item of each Source.
+     * @param sources is the List of Iterators, each of which Returns its Items in the Order Specified by the Comparator.
+     * @param comparator is the Comparator Specifying the Order.
+     */
+
+    public MergingIterator(List<? extends Iterator<? extends T>> sources, Comparator<? super T> comparator) {
+        this.comparator = comparator; heap = new PriorityQueue<>(Math.max(1, sources.size())); for (int i = 0; i < sources.size(); i++) {
+            Iterator<? extends T> source = sources.get(i); if (source.hasNext()) heap.insert(new Head(source, i, source.next()));
+        }
+    }
+
+    /**
+     * This method checks if any Source has Items Left.
+     * @return true if there are more Items in the Merged Sequence, false otherwise.
+     */
+
+    @Override public boolean hasNext() {return !heap.isEmpty();}
+
+    /**
+     * This method returns the Smallest Current Item and Advances its Source, Re-Positioning it in the Heap with a Single Sink (or Removing it if the Source is Exhausted).
+     * @return the Next Item in the Merged Sequence.
+     * @throws NoSuchElementException if every Source is Exhausted.
+     */
+
+    @Override public T next() {
+        if (!hasNext()) throw new NoSuchElementException("No More Items in the Merged Sources!"); Head head = heap.min(); T item = head.item;
+        if (head.source.hasNext()) {head.item = head.source.next(); heap.replaceMin(head);} else heap.delete(); return item;
+    }
+
+    /**
+     * This Inner-Class is an Entry of the Heap: a Source and its Current Item, Ordered by the Comparator and then by the Source's Position.
+     */
+
+    private final class Head implements Comparable<Head> {
+
+        private final Iterator<? extends T> source; // Creating the Source the Item came from.
+        private final int position; // Creating the Position of the Source in the List, which Breaks Ties so the Merge is Stable.
+        private T item; // Creating the Source's Current Item.
+
+        /**
+         * This is the Class Constructor.
+         * @param source is the Source.
+         * @param position is the Position of the Source in the List.
+         * @param item is the Source's First Item.
+         */
+
+        Head(Iterator<? extends T> source, int position, T item) {this.source = source; this.position = position; this.item = item;}
+
+        /**
+         * This method compares the Current Items of Two Sources, and their Positions if the Items are Equal.
+         * @param that is the Other Head.
+         * @return a Negative Integer, Zero or a Positive Integer as this Head's Item comes Before, with or After the Other's.
+         */
+
+        @Override public int compareTo(Head that) {int compare = comparator.compare(item, that.item); return compare != 0 ? compare : Integer.compare(position, that.position);}
+    }
+
+    /**
+     * This method tests the {@code MergingIterator} Class by Merging Sorted Lists of Different Lengths, including Empty Ones, and Checking the Result and its Stability.
+     * @param args the Command Line Arguments.
+     */
+
+    public static void main(String[] args) {
+
+        // Testing the Merge of Three Sorted Lists of Integers, One of them Empty.
+        List<Iterator<Integer>> sources = List.of(List.of(1, 4, 7, 10).iterator(), List.<Integer>of().iterator(), List.of(2, 3, 8).iterator());
+        MergingIterator<Integer> merged = new MergingIterator<>(sources, Comparator.naturalOrder()); List<Integer> result = new ArrayList<>(); merged.forEachRemaining(result::add);
+        System.out.println(result); assert result.equals(List.of(1, 2, 3, 4, 7, 8, 10));
+
+        // Testing the Stability of the Merge by Merging Strings on their Length only, so the Strings of Equal Length must come out in the Order of their Lists.
+        List<Iterator<String>> words = List.of(List.of("Fig", "Pear", "Apple").iterator(), List.of("Kiwi", "Lemon").iterator(), List.of("Yam", "Plum").iterator());
+        List<String> byLength = new ArrayList<>(); new MergingIterator<>(words, Comparator.comparingInt(String::length)).forEachRemaining(byLength::add);
+        System.out.println(byLength); assert byLength.equals(List.of("Fig", "Yam", "Pear", "Kiwi", "Plum", "Apple", "Lemon"));
+
+        // Testing the Merge of Many Random Sorted Lists against Sorting their Concatenation, and the Exception when the Merge is Exhausted.
+        java.util.Random random = new java.util.Random(3); List<Iterator<Integer>> lists = new ArrayList<>(); List<Integer> all = new ArrayList<>(); for (int k = 0; k < 100; k++) {
+            List<Integer> list = new ArrayList<>(); for (int i = random.nextInt(50); i > 0; i--) {list.add(random.nextInt(1000));} list.sort(null); all.addAll(list); lists.add(list.iterator());
+        }
+        all.sort(null); result.clear(); merged = new MergingIterator<>(lists, Comparator.naturalOrder()); merged.forEachRemaining(result::add); assert result.equals(all);
+        try {merged.next(); assert false;} catch (NoSuchElementException e) {System.out.println(e.getMessage());} assert !new MergingIterator<Integer>(List.of(), Comparator.naturalOrder()).hasNext();
+
+        System.out.println("\n\n All Tests Passed Successfully!!!");
+    }
+}
@@ -0,0 +1,63 @@
+import java.util.ArrayList; // Importing the ArrayList Class from the java.util Package to Build the Sorted Sources.
+import java.util.Arrays; // Importing the Arrays Class from the java.util Package to Sort each Source and to View it as a List.
+import java.util.Comparator; // Importing the Comparator Class from the java.util Package to Merge in the Natural Order.
+import java.util.Iterator; // Importing the Iterator Interface from the java.util Package to Read each Source.
+import java.util.List; // Importing the List Interface from the java.util Package to Hold the Sorted Sources.
+import java.util.Random; // Importing Random from the java.util Package to Generate the Benchmark Input.
+
+/**
+ * @author LewisThackeray
+ * @date 17/10/2026
+ *
+ * {@code MergingIteratorBenchmark} is a Micro-Benchmark which Merges k Sorted Sources of n / k Integers each, for k from 2 to 1024, by Draining a {@link MergingIterator} and by Concatenating
+ * the Sources and Sorting the Result with {@link MergeSort}.  The Best of the Measured Rounds is Reported in Millions of Elements per Second, together with the Time until the First Merged Element,
+ * which for the Iterator does not Depend on n.
+ */
+
+public class MergingIteratorBenchmark {
+
+    /**
+     * This is the Class Constructor.  The Class Constructor is Private to Prevent Instantiations of the Class, as the Class only Times the Two Ways of Merging through the Shared Harness.
+     */
+
+    private MergingIteratorBenchmark() {}
+
+    /**
+     * This method Merges the Sources by Draining a Merging Iterator.
+     * @param sources is the List of Sorted Sources.
+     * @param first is an Array whose First Element Receives the Nanoseconds until the First Merged Element.
+     */
+
+    static void merge(List<Integer[]> sources, long[] first) {
+        long start = System.nanoTime(); List<Iterator<Integer>> iterators = new ArrayList<>(sources.size()); for (Integer[] source : sources) {iterators.add(Arrays.asList(source).iterator());}
+        MergingIterator<Integer> merged = new MergingIterator<>(iterators, Comparator.naturalOrder()); Benchmark.sink(merged.next()); first[0] = System.nanoTime() - start; while (merged.hasNext()) {Benchmark.sink(merged.next());}
+    }
+
+    /**
+     * This method Merges the Sources by Concatenating them and Sorting the Result.
+     * @param sources is the List of Sorted Sources.
+     * @param first is an Array whose First Element Receives the Nanoseconds until the First Merged Element.
+     */
+
+    static void concatenateAndSort(List<Integer[]> sources, long[] first) {
+        long start = System.nanoTime(); int n = 0; for (Integer[] source : sources) {n += source.length;} Integer[] all = new Integer[n]; n = 0;
+        for (Integer[] source : sources) {System.arraycopy(source, 0, all, n, source.length); n += source.length;} MergeSort.sort(all); first[0] = System.nanoTime() - start; for (Integer element : all) {Benchmark.sink(element);}
+    }
+
+    /**
+     * This method runs the Benchmark, the First Command-Line Argument Optionally Overrides the Total Number of Elements.
+     * @param args the Command-Line Arguments.
+     */
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000; Random random = new Random(42); System.out.printf("%-6s %-20s %14s %16s%n", "k", "method", "M elements/s", "first (us)");
+        for (int k = 2; k <= 1024; k *= 2) {
+            List<Integer[]> sources = new ArrayList<>(k); for (int i = 0; i < k; i++) {Integer[] source = random.ints(n / k).boxed().toArray(Integer[]::new); Arrays.sort(source); sources.add(source);}
+            for (String method : new String[] {"MergingIterator", "concat+MergeSort"}) {
+                long[] first = new long[1], best = Benchmark.bestPhases(() -> {
+                    long start = System.nanoTime(); if (method.equals("MergingIterator")) merge(sources, first); else concatenateAndSort(sources, first); return new long[] {System.nanoTime() - start, first[0]};
+                }); System.out.printf("%-6d %-20s %14.2f %16.1f%n", k, method, (n / k * k) * 1000.0 / best[0], best[1] / 1e3);
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+import java.util.Comparator; // Importing the Comparator Class from the java.util Package to Compare Two Items when they have no Natural Order or a Different Order is Wanted.
+import java.util.NoSuchElementException; // Importing the NoSuchElementException from the java.util Package to Throw a Runtime Error when trying to Delete from an Empty Queue.
+import java.util.concurrent.ThreadLocalRandom; // Importing ThreadLocalRandom from the java.util.concurrent Package to Choose Random Shards without Sharing a Random Generator between Threads.
+import java.util.concurrent.atomic.AtomicInteger; // Importing AtomicInteger from the java.util.concurrent.atomic Package to Count the Items across all Shards.
+import java.util.concurrent.atomic.AtomicReferenceArray; // Importing AtomicReferenceArray from the java.util.concurrent.atomic Package to Publish the Smallest Item of each Shard to other Threads.
+import java.util.concurrent.locks.ReentrantLock; // Importing ReentrantLock from the java.util.concurrent.locks Package to Lock each Shard on its own.
+
+/**
+ * @author LewisThackeray
+ * @date 17/10/2026
+ *
+ * {@code MultiQueue} represents a Concurrent Minimum Priority Queue which is Safe to Insert into and Delete from by many Threads at once.  Rather than One Heap behind One Lock, the Items are
+ * Spread over several {@link PriorityQueue} Shards, each with its own Lock, so that Threads working on Different Shards never Wait for each other.
+ *
+ * <p><b>Relaxed Mode (the Default):</b> insert Try-Locks a Random Shard, Trying another one if it is Busy, and delete Looks at the Smallest Items of Two Random Shards and Deletes the Smaller one.
+ * The Item Deleted is therefore not always the Smallest in the whole Queue, but it is usually among the Smallest few (the Expected Rank is O(number of Shards)), which is what a Scheduler
+ * needs, and neither Operation ever Blocks while another Shard is Free.</p>
+ *
+ * <p><b>Strict Mode:</b> delete Locks every Shard in Order and Deletes the Smallest Item of them all, so Items come out in Exact Priority Order at the Cost of Serialising the Deletes, while
+ * Inserts still only Lock One Shard.</p>
+ *
+ * <p><b>Time Complexity:</b> insert and Relaxed delete take O(log(n / shards)), and Strict delete takes O(shards + log(n / shards)).</p>
+ *
+ * @param <Item> is the Generic Type of Items in the Queue.
+ */
+
+public class MultiQueue<Item> {
+
+    private final PriorityQueue<Item>[] shards; // Creating an Array of the Growable Priority Queues the Items are Spread over.
+    private final ReentrantLock[] locks; // Creating an Array of the Lock of each Shard.
+    private final AtomicReferenceArray<Item> tops; // Creating an Array of the Smallest Item of each Shard, or null if it is Empty, which is Read without Locking.
+    private final AtomicInteger size = new AtomicInteger(); // Creating a Counter of the Items in all Shards.
+    private final Comparator<? super Item> comparator; // Creating the Comparator Specifying the Order, or null for the Natural Order.
+    private final boolean strict; // Creating a Flag for whether delete Returns the Exact Smallest Item.
+
+    /**
+     * This is the Class Constructor which Initialises an Empty Relaxed Queue Ordered by the Natural Order, with Twice as many Shards as there are Processors.
+     */
+
+    public MultiQueue() {this(2 * Runtime.getRuntime().availableProcessors(), null, false);}
+
+    /**
+     * This is the Class Constructor which Initialises an Empty Queue with the Given Number of Shards.
+     * @param shards is the Number of Shards, usually a Small Multiple of the Number of Threads.
+     * @param comparator is the Comparator Specifying the Order, or null for the Natural Order.
+     * @param strict is true for delete to Return the Exact Smallest Item, false for the Relaxed Two-Choice delete.
+     * @throws IllegalArgumentException if the Number of Shards is less than 1.
+     */
+
+    @SuppressWarnings({"unchecked", "rawtypes"}) public MultiQueue(int shards, Comparator<? super Item> comparator, boolean strict) {
+        if (shards < 1) throw new IllegalArgumentException("There must be at least 1 Shard!"); this.shards = new PriorityQueue[shards]; locks = new ReentrantLock[shards];
+        for (int i = 0; i < shards; i++) {this.shards[i] = new PriorityQueue<>(comparator); locks[i] = new ReentrantLock();} tops = new AtomicReferenceArray<>(shards);
+        this.comparator = comparator; this.strict = strict;
+    }
+
+    /**
+     * This method tests whether the Queue is Empty, which may have Changed by the Time it Returns if other Threads are using the Queue.
+     * @return a boolean value where true is returned if the Queue is Empty, false otherwise.
+     */
+
+    public boolean isEmpty() {return size.get() == 0;}
+
+    /**
+     * This method returns the Number of Items in the Queue, which may have Changed by the Time it Returns if other Threads are using the Queue.
+     * @return an integer which is the Number of Items in the Queue.
+     */
+
+    public int size() {return size.get();}
+
+    /**
+     * This method inserts an Item into a Random Shard, Trying other Random Shards while the Chosen one is Locked and only Waiting for a Lock once every Shard has been Tried.
+     * @param item is the Item to Insert.
+     */
+
+    public void insert(Item item) {
+        ThreadLocalRandom random = ThreadLocalRandom.current(); int shard = random.nextInt(shards.length);
+        for (int attempt = 1; !locks[shard].tryLock(); attempt++) {if (attempt >= shards.length) {locks[shard].lock(); break;} shard = random.nextInt(shards.length);}
+        try {shards[shard].insert(item); size.incrementAndGet(); tops.set(shard, shards[shard].min());} finally {locks[shard].unlock();} // Counting the Item before it is Published, so a poll never Drives the Size below 0.
+    }
+
+    /**
+     * This method deletes and returns a Small Item, the Smallest of Two Random Shards in Relaxed Mode or the Smallest of all in Strict Mode.
+     * @return the Item Deleted.
+     * @throws NoSuchElementException if the Queue is Empty.
+     */
+
+    public Item delete() {Item item = poll(); if (item == null) throw new NoSuchElementException("The Multi-Queue is Empty!"); return item;}
+
+    /**
+     * This method deletes and returns a Small Item, or returns null if the Queue is Empty, which unlike checking isEmpty before delete cannot be Raced by another Thread.
+     * @return the Item Deleted, or null if the Queue is Empty.
+     */
+
+    public Item poll() {return strict ? pollStrict() : pollRelaxed();}
+
+    /**
+     * This method deletes the Smaller of the Smallest Items of Two Random Shards, Choosing again if that Shard is Locked or has Changed, and Scanning every Shard once Random Choices keep
+     * Finding Empty Shards, so that the Last few Items are still Found.
+     * @return the Item Deleted, or null if the Queue is Empty.
+     */
+
+    private Item pollRelaxed() {
+        ThreadLocalRandom random = ThreadLocalRandom.current(); for (int misses = 0; size.get() > 0; ) {
+            int i = random.nextInt(shards.length), j = random.nextInt(shards.length); Item a = tops.get(i), b = tops.get(j);
+            if (a == null && b == null) {if (++misses >= shards.length) {Item item = pollScan(); if (item != null) return item; misses = 0;} continue;}
+            int shard = b == null || a != null && compare(a, b) <= 0 ? i : j; if (!locks[shard].tryLock()) continue; Item item;
+            try {if (shards[shard].isEmpty()) continue; item = shards[shard].delete(); tops.set(shard, shards[shard].isEmpty() ? null : shards[shard].min());} finally {locks[shard].unlock();}
+            size.decrementAndGet(); return item;
+        } return null;
+    }
+
+    /**
+     * This method deletes the Smallest Item of the First Non-Empty Shard, Waiting for each Lock in turn.
+     * @return the Item Deleted, or null if every Shard was Empty.
+     */
+
+    private Item pollScan() {
+        for (int shard = 0; shard < shards.length; shard++) {
+            if (tops.get(shard) == null) continue; locks[shard].lock(); Item item;
+            try {if (shards[shard].isEmpty()) continue; item = shards[shard].delete(); tops.set(shard, shards[shard].isEmpty() ? null : shards[shard].min());} finally {locks[shard].unlock();}
+            size.decrementAndGet(); return item;
+        } return null;
+    }
+
+    /**
+     * This method Locks every Shard in Order, which cannot Deadlock since every other Operation Holds at most One Lock, and deletes the Smallest Item of them all.
+     * @return the Item Deleted, or null if the Queue is Empty.
+     */
+
+    private Item pollStrict() {
+        for (ReentrantLock lock : locks) {lock.lock();} Item item = null; try {
+            int best = -1; for (int shard = 0; shard < shards.length; shard++) {if (!shards[shard].isEmpty() && (best < 0 || compare(shards[shard].min(), shards[best].min()) < 0)) best = shard;}
+            if (best >= 0) {item = shards[best].delete(); tops.set(best, shards[best].isEmpty() ? null : shards[best].min());}
+        } finally {for (ReentrantLock lock : locks) {lock.unlock();}} if (item != null) size.decrementAndGet(); return item;
+    }
+
+    /**
+     * This method compares Two Items by the Comparator, or by their Natural Order if there is no Comparator.
+     * @param a is the First Item.
+     * @param b is the Second Item.
+     * @return a Negative Integer, Zero or a Positive Integer as a is Less than, Equal to or Greater than b.
+     */
+
+    @SuppressWarnings("unchecked") private int compare(Item a, Item b) {return comparator == null ? ((Comparable<? super Item>) a).compareTo(b) : comparator.compare(a, b);}
+
+    /**
+     * This method tests the {@code MultiQueue} Class by Inserting and Deleting from several Threads at once and Checking that every Item comes out Exactly Once, and that Strict Mode Deletes
+     * in Sorted Order.
+     * @param args the Command Line Arguments.
+     * @throws InterruptedException if the Main Thread is Interrupted while Waiting for the Test Threads.
+     */
+
+    public static void main(String[] args) throws InterruptedException {
+
+        // Testing Strict Mode on One Thread, where the Items must come out in Sorted Order, and the Errors for an Empty Queue and too few Shards.
+        java.util.Random random = new java.util.Random(3); int[] values = random.ints(5000, 0, 1000).toArray(); int[] sorted = values.clone(); java.util.Arrays.sort(sorted);
+        MultiQueue<Integer> strictQueue = new MultiQueue<>(8, null, true); for (int value : values) {strictQueue.insert(value);} assert strictQueue.size() == values.length;
+        for (int value : sorted) {assert strictQueue.delete() == value;} assert strictQueue.isEmpty() && strictQueue.poll() == null;
+        try {strictQueue.delete(); assert false;} catch (NoSuchElementException e) {System.out.println(e.getMessage());}
+        try {new MultiQueue<Integer>(0, null, false); assert false;} catch (IllegalArgumentException e) {System.out.println(e.getMessage());}
+
+        // Testing Relaxed Mode on One Thread with a Comparator, where every Item must come out, and should come out Close to Sorted Order.
+        MultiQueue<Integer> relaxedQueue = new MultiQueue<>(8, java.util.Comparator.reverseOrder(), false); for (int value : values) {relaxedQueue.insert(value);} int[] out = new int[values.length];
+        for (int k = 0; k < out.length; k++) {out[k] = relaxedQueue.delete();} assert relaxedQueue.poll() == null; long inversions = 0;
+        for (int k = 1; k < out.length; k++) {if (out[k] > out[k - 1]) inversions++;} java.util.Arrays.sort(out); assert java.util.Arrays.equals(out, sorted);
+        System.out.println("Relaxed Deletes Out of Order: " + inversions + " of " + out.length);
+
+        // Testing Concurrent Inserts and Deletes from several Threads, in both Modes, where every Item must be Deleted Exactly Once and the Size must never be Seen below 0.
+        for (boolean strict : new boolean[] {false, true}) {
+            MultiQueue<Integer> queue = new MultiQueue<>(4, null, strict); int threads = 8, perThread = 20000; java.util.concurrent.atomic.AtomicIntegerArray seen = new java.util.concurrent.atomic.AtomicIntegerArray(threads * perThread);
+            java.util.concurrent.atomic.AtomicBoolean negative = new java.util.concurrent.atomic.AtomicBoolean();            Thread[] workers = new Thread[threads]; for (int t = 0; t < threads; t++) {
+                int first = t * perThread; workers[t] = new Thread(() -> {
+                    for (int k = 0; k < perThread; k++) {queue.insert(first + k); if (k % 2 == 1) {Integer item = queue.poll(); if (item != null) seen.incrementAndGet(item); if (queue.size() < 0) negative.set(true);}}
+                }); workers[t].start();
+            }
+            for (Thread worker : workers) {worker.join();} for (Integer item; (item = queue.poll()) != null; ) {seen.incrementAndGet(item);}
+            for (int k = 0; k < seen.length(); k++) {assert seen.get(k) == 1 : k;} assert queue.isEmpty() && !negative.get();
+        }
+
+        System.out.println("All Tests Passed Successfully!");
+    }
+}
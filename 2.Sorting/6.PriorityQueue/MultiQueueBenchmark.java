@@ -0,0 +1,67 @@
+import java.util.concurrent.PriorityBlockingQueue; // Importing PriorityBlockingQueue from the java.util.concurrent Package to Compare against the JDK's Single-Lock Concurrent Priority Queue.
+import java.util.concurrent.ThreadLocalRandom; // Importing ThreadLocalRandom from the java.util.concurrent Package to Generate the Priorities on each Thread.
+import java.util.function.Consumer; // Importing the Consumer Interface from the java.util.function Package to pass the Insert of each Case to the Benchmark Driver.
+import java.util.function.Supplier; // Importing the Supplier Interface from the java.util.function Package to pass the Delete of each Case to the Benchmark Driver.
+
+/**
+ * @author LewisThackeray
+ * @date 17/10/2026
+ *
+ * {@code MultiQueueBenchmark} is a Contention Benchmark in which a Number of Threads each Alternate an Insert of a Random Integer with a Delete on One Shared, Pre-Filled Queue, Comparing the
+ * Relaxed and Strict {@link MultiQueue} with {@link PriorityBlockingQueue} and a {@link PriorityQueue} behind a single Lock.  The Best of the Measured Rounds is Reported as Millions of
+ * Operations per Second.
+ */
+
+public class MultiQueueBenchmark {
+
+    private static final int WARMUP_ROUNDS = 2, MEASURED_ROUNDS = 3; // Creating Fewer Rounds than the Harness's Default, as each Round Prefills a Million Items.
+
+    /**
+     * This is the Class Constructor.  The Class Constructor is Private to Prevent Instantiations of the Class, as the Class only Runs the Queues' Threads through the Shared Harness.
+     */
+
+    private MultiQueueBenchmark() {}
+
+    /**
+     * This Record Holds the Insert and the Delete of One Queue, so that Queues without a Common Interface can be Benchmarked the Same Way.
+     * @param insert Inserts an Item.
+     * @param delete Deletes an Item, or Returns null if the Queue is Empty.
+     */
+
+    private record Operations(Consumer<Integer> insert, Supplier<Integer> delete) {}
+
+    /**
+     * This method runs the Threads against a Queue for the Warm-Up and Measured Rounds and Prints the Best Measured Throughput.
+     * @param name is the Name of the Case to Print.
+     * @param threads is the Number of Threads.
+     * @param perThread is the Number of Inserts and Deletes each Thread Performs.
+     * @param prefill is the Number of Items Inserted before the Threads Start.
+     * @param queue Creates an Empty Queue for each Round and Returns its Operations.
+     * @throws InterruptedException if the Main Thread is Interrupted while Waiting for the Threads.
+     */
+
+    static void run(String name, int threads, int perThread, int prefill, Supplier<Operations> queue) throws InterruptedException {
+        long best = Benchmark.bestThreads(WARMUP_ROUNDS, MEASURED_ROUNDS, () -> {
+            Operations operations = queue.get(); Consumer<Integer> insert = operations.insert(); Supplier<Integer> delete = operations.delete();
+            for (int i = 0; i < prefill; i++) {insert.accept(ThreadLocalRandom.current().nextInt());} Runnable[] workers = new Runnable[threads];
+            java.util.Arrays.fill(workers, (Runnable) () -> {ThreadLocalRandom random = ThreadLocalRandom.current(); for (int k = 0; k < perThread; k += 2) {insert.accept(random.nextInt()); delete.get();}}); return workers;
+        }); System.out.printf("%-36s %8.2f Mops/s%n", name, (double) threads * perThread / best * 1e3);
+    }
+
+    /**
+     * This method runs the Benchmark, the First Command-Line Argument Optionally Overrides the Number of Threads and the Second the Number of Operations per Thread.
+     * @param args the Command-Line Arguments.
+     * @throws InterruptedException if the Main Thread is Interrupted while Waiting for the Threads.
+     */
+
+    public static void main(String[] args) throws InterruptedException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 32, operations = args.length > 1 ? Integer.parseInt(args[1]) : 200_000, prefill = 1_000_000, shards = 2 * threads;
+        System.out.printf("threads = %d, operations per thread = %,d, prefill = %,d, processors = %d%n", threads, operations, prefill, Runtime.getRuntime().availableProcessors());
+        run("MultiQueue relaxed (" + shards + " shards)", threads, operations, prefill, () -> {MultiQueue<Integer> queue = new MultiQueue<>(shards, null, false); return new Operations(queue::insert, queue::poll);});
+        run("MultiQueue strict (" + shards + " shards)", threads, operations, prefill, () -> {MultiQueue<Integer> queue = new MultiQueue<>(shards, null, true); return new Operations(queue::insert, queue::poll);});
+        run("PriorityBlockingQueue", threads, operations, prefill, () -> {PriorityBlockingQueue<Integer> queue = new PriorityBlockingQueue<>(); return new Operations(queue::add, queue::poll);});
+        run("synchronized PriorityQueue", threads, operations, prefill, () -> {
+            PriorityQueue<Integer> queue = new PriorityQueue<>(); return new Operations(item -> {synchronized (queue) {queue.insert(item);}}, () -> {synchronized (queue) {return queue.isEmpty() ? null : queue.delete();}});
+        });
+    }
+}
@@ -1,5 +1,12 @@
+import java.util.ArrayList; // Importing the ArrayList Class from the java.util Package to Return the Top k Items.
+import java.util.Arrays; // Importing the Arrays Class from the java.util Package to Resize the Binary Heap.
+import java.util.Collection; // Importing the Collection Interface from the java.util Package to Build the Priority Queue from, Insert and Drain Items in Bulk.
+import java.util.Comparator; // Importing the Comparator Class from the java.util Package to Compare Two Items when they have no Natural Order or a Different Order is Wanted.
+import java.util.ConcurrentModificationException; // Importing the ConcurrentModificationException from the java.util Package to Throw a Runtime Error when the Priority Queue Changes during an Iteration.
 import java.util.Iterator; // Importing the Iterator Class from the java.util Package to Loop through the Priority Queue.
+import java.util.List; // Importing the List Interface from the java.util Package to Return the Top k Items.
 import java.util.NoSuchElementException; // Importing the NoSuchElementException from the java.util Package to Throw a Runtime Error when trying to Access a Non-Existent Item in the Priority Queue.
+import java.util.function.Consumer; // Importing the Consumer Interface from the java.util.function Package to pass each Item to an Action without Ordering them.
 
 /**
  * @author LewisThackeray
@@ -11,14 +18,33 @@ import java.util.NoSuchElementException; // Importing the NoSuchElementException
  *
  * <p><b>Heap Property for a Min-Heap:</b> The Key of Each Node is Less Than or Equal to the Keys of its Children.</p>
  *
+ * <p>The Items are Ordered by their Natural Order, or by a Comparator given to the Constructor.  A Priority Queue Created with a Capacity is Fixed-Size and Throws an Exception when Full, while
+ * one Created without a Capacity (or from Existing Items) is Growable: its Array Doubles when Full and Halves when a Quarter Full, so it uses O(n) Space and each Operation takes Amortised
+ * O(log(n)).  Building a Priority Queue from an Array or Collection uses a Bottom-Up Heapify which takes O(n) rather than O(nlog(n)) for n Inserts.</p>
+ *
+ * <p>The Heap is Binary by default, and can instead be d-Ary: each Node has d Children Stored Next to each other, so the Heap is only log<sub>d</sub>(n) Levels Deep and a Sink reads each
+ * Level's Children from One or Two Cache Lines, at the Cost of d - 1 Comparisons per Level.  Inserts get Cheaper as d grows, and for d of 4 or 8 Deletes from a Heap Larger than the Cache
+ * usually do too.</p>
+ *
+ * <p>Iterating is Non-Destructive and Lazy: the Iterator Keeps a Small Frontier Heap of the Indices whose Parents it has already Returned, so the First k Items in Order take O(klog(k)) Time
+ * and O(k) Space (times the Arity) however Large the Priority Queue is, and Nothing is Copied.  When the Order does not Matter, {@link #forEachUnordered} just Scans the Array in O(n).</p>
+ *
+ * <p>The Static topK Methods find the First k Items of a Stream of any Length in O(nlog(k)) Time and O(k) Space, by Keeping the Best k so far in a Bounded Heap whose Root is the Worst of them.</p>
+ *
  * @param <Item> is the Generic Type of Items in the Minimum Priority Queue.
  *
  */
 
-public class PriorityQueue<Item extends Comparable<Item>> implements Iterable<Item> {
+public class PriorityQueue<Item> implements Iterable<Item> {
 
-    private Item[] heap; // Creating a Fixed-Size Array to Store the Binary Heap.
+    private static final int DEFAULT_CAPACITY = 16; // Creating a Constant for the Initial Capacity of a Growable Priority Queue, which it never Shrinks below.
+
+    private Item[] heap; // Creating an Array to Store the Binary Heap, from Index 1.
     private int n; // Creating a Counter to Store the Number of Items in the Priority Queue.
+    private final Comparator<? super Item> comparator; // Creating the Comparator Specifying the Order, or null for the Natural Order.
+    private final boolean growable; // Creating a Flag for whether the Array Grows and Shrinks with the Number of Items.
+    private final int arity; // Creating the Number of Children of each Node of the Heap.
+    private int modifications; // Creating a Counter of the Changes to the Heap, so that an Iterator can Detect the Priority Queue Changing underneath it.
 
     /**
      * This is the Class Constructor which Initialises a Mimimum Priority Queue with a given fixed capacity.
@@ -26,10 +52,97 @@ public class PriorityQueue<Item extends Comparable<Item>> implements Iterable<It
      * @throws IllegalArgumentException if the capacity is less than 1.
      */
 
-    @SuppressWarnings("unchecked") public PriorityQueue(int capacity) {
-        if (capacity < 1) throw new IllegalArgumentException("The Capacity must be at Least 1!"); heap = (Item[]) new Comparable[capacity + 1]; n = 0;
+    public PriorityQueue(int capacity) {this(capacity, null);}
+
+    /**
+     * This is the Class Constructor which Initialises a Mimimum Priority Queue with a given fixed capacity, Ordered by the Comparator.
+     * @param capacity specifies the fixed capacity of the Mimimum Priority Queue.
+     * @param comparator is the Comparator Specifying the Order, or null for the Natural Order.
+     * @throws IllegalArgumentException if the capacity is less than 1.
+     */
+
+    public PriorityQueue(int capacity, Comparator<? super Item> comparator) {this(capacity, comparator, 2);}
+
+    /**
+     * This is the Class Constructor which Initialises a Mimimum Priority Queue with a given fixed capacity, Ordered by the Comparator, using a d-Ary Heap.
+     * @param capacity specifies the fixed capacity of the Mimimum Priority Queue.
+     * @param comparator is the Comparator Specifying the Order, or null for the Natural Order.
+     * @param arity is the Number of Children of each Node of the Heap, such as 2, 4 or 8.
+     * @throws IllegalArgumentException if the capacity is less than 1 or the arity is less than 2.
+     */
+
+    @SuppressWarnings("unchecked") public PriorityQueue(int capacity, Comparator<? super Item> comparator, int arity) {
+        if (capacity < 1) throw new IllegalArgumentException("The Capacity must be at Least 1!"); heap = (Item[]) new Object[capacity + 1]; n = 0; this.comparator = comparator; growable = false;
+        this.arity = validArity(arity);
+    }
+
+    /**
+     * This is the Class Constructor which Initialises an Empty Growable Minimum Priority Queue Ordered by the Natural Order.
+     */
+
+    public PriorityQueue() {this((Comparator<? super Item>) null);}
+
+    /**
+     * This is the Class Constructor which Initialises an Empty Growable Minimum Priority Queue Ordered by the Comparator.
+     * @param comparator is the Comparator Specifying the Order, or null for the Natural Order.
+     */
+
+    public PriorityQueue(Comparator<? super Item> comparator) {this(comparator, 2);}
+
+    /**
+     * This is the Class Constructor which Initialises an Empty Growable Minimum Priority Queue Ordered by the Comparator, using a d-Ary Heap.
+     * @param comparator is the Comparator Specifying the Order, or null for the Natural Order.
+     * @param arity is the Number of Children of each Node of the Heap, such as 2, 4 or 8.
+     * @throws IllegalArgumentException if the arity is less than 2.
+     */
+
+    @SuppressWarnings("unchecked") public PriorityQueue(Comparator<? super Item> comparator, int arity) {
+        heap = (Item[]) new Object[DEFAULT_CAPACITY + 1]; n = 0; this.comparator = comparator; growable = true; this.arity = validArity(arity);
+    }
+
+    /**
+     * This is the Class Constructor which Builds a Growable Minimum Priority Queue of the Items in the Array, Ordered by the Natural Order, in O(n).  The Array is not Modified.
+     * @param items is the Array of Items.
+     */
+
+    public PriorityQueue(Item[] items) {this(items, null);}
+
+    /**
+     * This is the Class Constructor which Builds a Growable Minimum Priority Queue of the Items in the Array, Ordered by the Comparator, in O(n).  The Array is not Modified.
+     * @param items is the Array of Items.
+     * @param comparator is the Comparator Specifying the Order, or null for the Natural Order.
+     */
+
+    public PriorityQueue(Item[] items, Comparator<? super Item> comparator) {this(items, comparator, 2);}
+
+    /**
+     * This is the Class Constructor which Builds a Growable Minimum Priority Queue of the Items in the Array, Ordered by the Comparator, using a d-Ary Heap, in O(n).  The Array is not Modified.
+     * @param items is the Array of Items.
+     * @param comparator is the Comparator Specifying the Order, or null for the Natural Order.
+     * @param arity is the Number of Children of each Node of the Heap, such as 2, 4 or 8.
+     * @throws IllegalArgumentException if the arity is less than 2.
+     */
+
+    @SuppressWarnings("unchecked") public PriorityQueue(Item[] items, Comparator<? super Item> comparator, int arity) {
+        heap = (Item[]) new Object[Math.max(items.length, DEFAULT_CAPACITY) + 1]; System.arraycopy(items, 0, heap, 1, items.length); n = items.length; this.comparator = comparator; growable = true;
+        this.arity = validArity(arity); heapify();
     }
 
+    /**
+     * This is the Class Constructor which Builds a Growable Minimum Priority Queue of the Items in the Collection, Ordered by the Natural Order, in O(n).
+     * @param items is the Collection of Items.
+     */
+
+    public PriorityQueue(Collection<? extends Item> items) {this(items, null);}
+
+    /**
+     * This is the Class Constructor which Builds a Growable Minimum Priority Queue of the Items in the Collection, Ordered by the Comparator, in O(n).
+     * @param items is the Collection of Items.
+     * @param comparator is the Comparator Specifying the Order, or null for the Natural Order.
+     */
+
+    @SuppressWarnings("unchecked") public PriorityQueue(Collection<? extends Item> items, Comparator<? super Item> comparator) {this((Item[]) items.toArray(), comparator);}
+
     /**
      * This method tests whether the Mimimum Priority Queue is Empty.
      * @return a boolean value where true is returned if the Mimimum Priority Queue is Empty, false otherwise.
@@ -53,35 +166,166 @@ public class PriorityQueue<Item extends Comparable<Item>> implements Iterable<It
     public Item min() {if (isEmpty()) {throw new NoSuchElementException("The Minimum Priority Queue is Empty!");} return heap[1];}
 
     /**
-     * This method inserts an Item into the Minimum Priority Queue.
+     * This method inserts an Item into the Minimum Priority Queue, Doubling the Array first if it is Full and Growable.
      * @param item is the Item which is being inserted into the Minimum Priority Queue.
-     * @throws IllegalStateException if the Minimum Priority Queue is Full.
+     * @throws IllegalStateException if the Minimum Priority Queue is Full and not Growable.
+     */
+
+    public void insert(Item item) {ensureCapacity(n + 1); modifications++; n++; heap[n] = item; swim(n);}
+
+    /**
+     * This method inserts every Item in the Collection.  When there are at least as many New Items as Old Ones, they are Appended and the Whole Heap is Rebuilt Bottom-Up in O(n + k), otherwise
+     * they are Inserted One at a time in O(klog(n + k)).
+     * @param items is the Collection of Items to Insert.
+     * @throws IllegalStateException if the Items do not Fit in a Priority Queue which is not Growable, in which case none are Inserted.
+     */
+
+    @SuppressWarnings("unchecked") public void insertAll(Collection<? extends Item> items) {insertAll((Item[]) items.toArray());}
+
+    /**
+     * This method inserts every Item in the Array, Rebuilding the Heap Bottom-Up when there are at least as many New Items as Old Ones.
+     * @param items is the Array of Items to Insert.
+     * @throws IllegalStateException if the Items do not Fit in a Priority Queue which is not Growable, in which case none are Inserted.
      */
 
-    public void insert(Item item) {if (n == heap.length - 1) {throw new IllegalStateException("The Minimum Priority Queue is Full!");} n++; heap[n] = item; swim(n);}
+    public void insertAll(Item[] items) {
+        ensureCapacity(n + items.length); modifications++; if (items.length < n) {for (Item item : items) {n++; heap[n] = item; swim(n);} return;}
+        System.arraycopy(items, 0, heap, n + 1, items.length); n += items.length; heapify();
+    }
 
     /**
-     * This method deletes the Lowest Priority Item in the Minimum Priority Queue and also returns the Lowest Priority Item.
+     * This method deletes the Lowest Priority Item in the Minimum Priority Queue and also returns the Lowest Priority Item, Halving the Array if it is Growable and only a Quarter Full.
      * @throws NoSuchElementException if the Minimum Priority Queue is Empty.
      */
 
     public Item delete() {
-        if (isEmpty()) {throw new NoSuchElementException("The Minimum Priority Queue is Empty!");} Item min = heap[1]; swap(1, n); heap[n] = null; n--; if (n > 0) sink(1); return min;
+        if (isEmpty()) {throw new NoSuchElementException("The Minimum Priority Queue is Empty!");} modifications++; Item min = heap[1]; swap(1, n); heap[n] = null; n--; if (n > 0) sink(1);
+        if (growable && heap.length - 1 > DEFAULT_CAPACITY && n <= (heap.length - 1) / 4) heap = Arrays.copyOf(heap, Math.max(DEFAULT_CAPACITY, (heap.length - 1) / 2) + 1); return min;
     }
 
+    /**
+     * This method removes every Item in Order of Priority and Adds them to the Target Collection.
+     * @param target is the Collection the Items are Added to.
+     * @return the Number of Items Moved.
+     */
+
+    public int drainTo(Collection<? super Item> target) {return drainTo(target, Integer.MAX_VALUE);}
+
+    /**
+     * This method removes up to the Given Number of the Lowest Priority Items in Order and Adds them to the Target Collection.
+     * @param target is the Collection the Items are Added to.
+     * @param maxItems is the Largest Number of Items to Move.
+     * @return the Number of Items Moved.
+     */
+
+    public int drainTo(Collection<? super Item> target, int maxItems) {int moved = 0; while (moved < maxItems && !isEmpty()) {target.add(delete()); moved++;} return moved;}
+
+    /**
+     * This method replaces the Lowest Priority Item with a New Item and returns the Old One, using a Single Sink rather than a Delete followed by an Insert.
+     * @param item is the Item which Replaces the Lowest Priority Item.
+     * @return the Item which was the Lowest Priority Item.
+     * @throws NoSuchElementException if the Minimum Priority Queue is Empty.
+     */
+
+    public Item replaceMin(Item item) {if (isEmpty()) {throw new NoSuchElementException("The Minimum Priority Queue is Empty!");} modifications++; Item min = heap[1]; heap[1] = item; sink(1); return min;}
+
+    /**
+     * This method returns the k Smallest Items from the Iterator in Ascending Order, Reading each Item once and Keeping only k of them.
+     * @param items is the Iterator over the Items, which is Exhausted.
+     * @param k is the Number of Items Wanted.
+     * @return a List of the k Smallest Items in Ascending Order, or of every Item if there are Fewer than k.
+     * @throws IllegalArgumentException if k is Negative.
+     */
+
+    public static <Item extends Comparable<? super Item>> List<Item> topK(Iterator<? extends Item> items, int k) {return topK(items, k, Comparator.naturalOrder());}
+
+    /**
+     * This method returns the First k Items from the Iterator in the Order Specified by the Comparator, using a Heap of at most k Items Ordered the Other Way, so that its Root is the Worst
+     * Item Kept: each New Item which Comes before the Root Replaces it with a Single Sink, and the Rest are Discarded after One Comparison.  Kept Items are Tagged with their Arrival Index,
+     * which Breaks Ties, so of Equal Items the Earlier ones are Kept and they are Returned in the Order they Arrived.
+     * @param items is the Iterator over the Items, which is Exhausted.
+     * @param k is the Number of Items Wanted.
+     * @param comparator is the Comparator Specifying the Order.
+     * @return a List of the First k Items in Order, or of every Item if there are Fewer than k.
+     * @throws IllegalArgumentException if k is Negative.
+     */
+
+    public static <Item> List<Item> topK(Iterator<? extends Item> items, int k, Comparator<? super Item> comparator) {
+        if (k < 0) throw new IllegalArgumentException("k = " + k + " must not be Negative!"); Comparator<Arrival<Item>> byArrival = Comparator.comparingLong(Arrival::index);
+        Comparator<Arrival<Item>> order = ((Comparator<Arrival<Item>>) (a, b) -> comparator.compare(a.item(), b.item())).thenComparing(byArrival); // Creating the Order with Ties Broken by Arrival.
+        PriorityQueue<Arrival<Item>> worstFirst = new PriorityQueue<>(order.reversed()); for (long index = 0; items.hasNext(); index++) {
+            Item item = items.next(); if (worstFirst.size() < k) worstFirst.insert(new Arrival<>(item, index)); else if (k > 0 && comparator.compare(item, worstFirst.min().item()) < 0) worstFirst.replaceMin(new Arrival<>(item, index));
+        }
+        List<Item> top = new ArrayList<>(worstFirst.size()); while (!worstFirst.isEmpty()) {top.add(worstFirst.delete().item());} java.util.Collections.reverse(top); return top;
+    }
+
+    /**
+     * This Record Pairs an Item Kept by topK with the Index at which it Arrived from the Iterator.
+     * @param item is the Item.
+     * @param index is the Number of Items which Arrived before it.
+     */
+
+    private record Arrival<Item>(Item item, long index) {}
+
+    /**
+     * This method returns the Number of Items the Array can Hold before it has to Grow.
+     * @return an Integer which is the Current Capacity.
+     */
+
+    private int capacity() {return heap.length - 1;}
+
+    /**
+     * This method makes Room for the Given Number of Items, Doubling the Array as often as Needed if it is Growable.
+     * @param required is the Number of Items the Array must Hold.
+     * @throws IllegalStateException if the Array is too Small and not Growable.
+     */
+
+    private void ensureCapacity(int required) {
+        if (required <= heap.length - 1) return; if (!growable) throw new IllegalStateException("The Minimum Priority Queue is Full!");
+        long capacity = heap.length - 1; while (capacity < required) {capacity *= 2;} heap = Arrays.copyOf(heap, (int) Math.min(capacity, Integer.MAX_VALUE - 8) + 1);
+    }
+
+    /**
+     * This method restores the Heap Property for the Whole Array Bottom-Up, Sinking each Parent from the Last one to the Root, which takes O(n).
+     */
+
+    private void heapify() {for (int index = parent(n); index >= 1; index--) {sink(index);}}
+
+    /**
+     * This method checks that the Number of Children of each Node is at least 2.
+     * @param arity is the Number of Children of each Node.
+     * @return the Arity.
+     * @throws IllegalArgumentException if the Arity is less than 2.
+     */
+
+    private static int validArity(int arity) {if (arity < 2) throw new IllegalArgumentException("A Heap Node must have at least 2 Children!"); return arity;}
+
+    /**
+     * This method returns the Parent of a Node, where the Children of Node k are Stored Next to each other at arity*(k - 1) + 2 to arity*k + 1 (2k and 2k + 1 for a Binary Heap).
+     * @param index is the Index of the Node.
+     * @return the Index of its Parent, or 0 for the Root.
+     */
+
+    private int parent(int index) {return index < 2 ? 0 : (index - 2) / arity + 1;}
+
     /**
      * This method restores the Heap Property by moving an Item up the Binary Heap.
      * @param index is the Index of the Item to Swim.
      */
 
-    private void swim(int index) {while (index > 1 && greater(index / 2, index)) {swap(index, index / 2); index = index / 2;}}
+    private void swim(int index) {while (index > 1 && greater(parent(index), index)) {int parent = parent(index); swap(index, parent); index = parent;}}
 
     /**
-     * This method restores the Heap Property by moving an Item down the Binary Heap.
+     * This method restores the Heap Property by moving an Item down the Binary Heap, Swapping it with the Smallest of its Children, which are Stored Next to each other.
      * @param index is the Index of the Item to Sink.
      */
 
-    private void sink(int index) {while (2 * index <= n) {int j = 2 * index; if (j < n && greater(j, j + 1)) j++; if (!greater(index, j)) break; swap(index, j); index = j;}}
+    private void sink(int index) {
+        for (int lastParent = parent(n); index <= lastParent; ) {
+            int first = arity * (index - 1) + 2, last = Math.min(first + arity - 1, n), j = first; for (int child = first + 1; child <= last; child++) {if (greater(j, child)) j = child;}
+            if (!greater(index, j)) break; swap(index, j); index = j;
+        }
+    }
 
     /**
      * This method compares Two Items in the Binary Heap.
@@ -90,7 +334,18 @@ public class PriorityQueue<Item extends Comparable<Item>> implements Iterable<It
      * @return a boolean value where true is returned if the Item at i is greater than the Item at j, false otherwise.
      */
 
-    private boolean greater(int i, int j) {return heap[i].compareTo(heap[j]) > 0;}
+    private boolean greater(int i, int j) {return compare(i, j) > 0;}
+
+    /**
+     * This method compares Two Items in the Binary Heap by the Comparator, or by their Natural Order if there is no Comparator.
+     * @param i is the Index of the First Item.
+     * @param j is the Index of Second Item.
+     * @return a Negative Integer, Zero or a Positive Integer as the Item at i is Less than, Equal to or Greater than the Item at j.
+     */
+
+    @SuppressWarnings("unchecked") private int compare(int i, int j) {
+        return comparator == null ? ((Comparable<? super Item>) heap[i]).compareTo(heap[j]) : comparator.compare(heap[i], heap[j]);
+    }
 
     /**
      * This method swaps Two Items in the Binary Heap.
@@ -101,42 +356,56 @@ public class PriorityQueue<Item extends Comparable<Item>> implements Iterable<It
     private void swap(int i, int j) {Item temp = heap[i]; heap[i] = heap[j]; heap[j] = temp;}
 
     /**
-     * This method returns an Instance of the HeapIterator Class.
+     * This method returns an Instance of the HeapIterator Class, which Returns the Items in Order of Priority without Removing them or Copying the Heap.
      * @return an Iterator over the Items in the Minimum Priority Queue.
      */
 
     @Override public Iterator<Item> iterator() {return new HeapIterator();}
 
     /**
-     * This Inner-Class implements the Iterator Interface for the Minimum Priority Queue.
+     * This method performs the Action for every Item in the Minimum Priority Queue in the Order they are Stored in the Array, which is not the Order of Priority, in O(n) with no Allocation.
+     * @param action is the Action to Perform for each Item.
+     * @throws ConcurrentModificationException if the Action Changes the Priority Queue.
+     */
+
+    public void forEachUnordered(Consumer<? super Item> action) {
+        int expected = modifications; for (int index = 1; index <= n; index++) {action.accept(heap[index]); if (modifications != expected) throw new ConcurrentModificationException();}
+    }
+
+    /**
+     * This Inner-Class implements the Iterator Interface for the Minimum Priority Queue.  Since every Item is no Smaller than its Parent, the Next Item is always the Smallest of the Children
+     * of the Items already Returned, so the Iterator Keeps those Children in a Small Frontier Heap of Indices: each Call to next Removes the Smallest Index and Adds its Children.
      */
 
     private class HeapIterator implements Iterator<Item> {
 
-        private PriorityQueue<Item> copy; // Creating a Copy of the Minimum Priority Queue to Iterate Through.
+        private final PriorityQueue<Integer> frontier = new PriorityQueue<>((i, j) -> compare(i, j)); // Creating a Growable Heap of the Indices which could Hold the Next Item.
+        private final int expectedModifications = modifications; // Creating a Copy of the Modification Counter to Detect the Priority Queue Changing.
 
         /**
-         * This method populates the Copy of the Minimum Priority Queue with the Items for Iteration.
+         * This method Starts the Frontier at the Root of the Heap.
          */
 
-        @SuppressWarnings("unchecked") public HeapIterator() {
-            copy = new PriorityQueue<>(heap.length - 1); for (int i = 1; i <= n; i++) {copy.insert(heap[i]);}
-        }
+        public HeapIterator() {if (n > 0) frontier.insert(1);}
 
         /**
          * This method checks if there are more Items in the Minimum Priority Queue to Iterate Over.
          * @return a boolean value where true is returned if there are more Items in the Minimum Priority Queue to Iterate over, false otherwise.
          */
 
-        public boolean hasNext() {return !copy.isEmpty();}
+        public boolean hasNext() {return !frontier.isEmpty();}
 
         /**
-         * This method returns the next Item in the Iteration.
+         * This method returns the next Item in the Iteration and Adds the Children of its Node to the Frontier.
          * @returns an Item which is the Next Smallest Item in the Minimum Priority Queue.
          * @throws NoSuchElementException if there are no more Items in the Minimum Priority Queue.
+         * @throws ConcurrentModificationException if the Priority Queue has Changed since the Iterator was Created.
          */
 
-        public Item next() {if (!hasNext()) {throw new NoSuchElementException("No More Items in the Minimum Priority Queue!");} return copy.delete();}
+        public Item next() {
+            if (modifications != expectedModifications) throw new ConcurrentModificationException(); if (!hasNext()) {throw new NoSuchElementException("No More Items in the Minimum Priority Queue!");}
+            int index = frontier.delete(); for (int child = arity * (index - 1) + 2, last = Math.min(child + arity - 1, n); child <= last; child++) {frontier.insert(child);} return heap[index];
+        }
 
     }
 
@@ -159,6 +428,60 @@ public class PriorityQueue<Item extends Comparable<Item>> implements Iterable<It
         PriorityQueue<String> stringPriorityQueue = new PriorityQueue<>(10); stringPriorityQueue.insert("Pear"); stringPriorityQueue.insert("Tomato"); stringPriorityQueue.insert("Apple");
         stringPriorityQueue.insert("Banana"); stringPriorityQueue.insert("Orange"); while (!stringPriorityQueue.isEmpty()) {System.out.println(stringPriorityQueue.delete());}
 
+        // Testing the Replacement of the Minimum, which must Leave the Heap in Order whether the New Item is Smaller or Larger than the Others.
+        integerPriorityQueue.insert(5); integerPriorityQueue.insert(3); integerPriorityQueue.insert(8); assert integerPriorityQueue.replaceMin(9) == 3; assert integerPriorityQueue.replaceMin(1) == 5;
+        assert integerPriorityQueue.delete() == 1 && integerPriorityQueue.delete() == 8 && integerPriorityQueue.delete() == 9 && integerPriorityQueue.isEmpty();
+
+        // Testing a Growable Priority Queue with a Comparator, which must Grow past its Initial Capacity and Shrink again as Items are Deleted.
+        PriorityQueue<String> byLength = new PriorityQueue<>(java.util.Comparator.comparingInt(String::length).thenComparing(java.util.Comparator.naturalOrder()));
+        for (int i = 0; i < 1000; i++) {byLength.insert("x".repeat(i % 37) + i);} assert byLength.size() == 1000 && byLength.capacity() >= 1000; String previous = "";
+        for (int i = 0; i < 996; i++) {String item = byLength.delete(); assert item.length() > previous.length() || item.length() == previous.length() && item.compareTo(previous) >= 0; previous = item;}
+        assert byLength.size() == 4 && byLength.capacity() == DEFAULT_CAPACITY;
+
+        // Testing the Heapify Constructors, insertAll both Ways (Bulk Rebuild and Single Inserts) and drainTo against a Sorted List, and that the Source Array is not Modified.
+        java.util.Random random = new java.util.Random(1); Integer[] items = random.ints(5000, 0, 1000).boxed().toArray(Integer[]::new); Integer[] original = items.clone();
+        PriorityQueue<Integer> heapified = new PriorityQueue<>(items); assert java.util.Arrays.equals(items, original); java.util.List<Integer> expected = new java.util.ArrayList<>(java.util.List.of(items));
+        java.util.List<Integer> more = random.ints(8000, 0, 1000).boxed().collect(java.util.stream.Collectors.toList()); heapified.insertAll(more); expected.addAll(more);
+        heapified.insertAll(new Integer[] {-1, 5000, 7}); expected.addAll(java.util.List.of(-1, 5000, 7)); expected.sort(null); java.util.List<Integer> drained = new java.util.ArrayList<>();
+        assert heapified.drainTo(drained, 10) == 10 && heapified.drainTo(drained) == expected.size() - 10 && drained.equals(expected) && heapified.isEmpty();
+        PriorityQueue<Integer> descending = new PriorityQueue<>(java.util.List.of(3, 9, 1, 7), java.util.Comparator.reverseOrder()); StringBuilder order = new StringBuilder();
+        for (int item : descending) {order.append(item);} assert order.toString().equals("9731") && descending.size() == 4;
+
+        // Testing that a Fixed-Size Priority Queue still Rejects Items beyond its Capacity, including in Bulk without Inserting any of them.
+        PriorityQueue<Integer> fixed = new PriorityQueue<>(2); fixed.insert(1); try {fixed.insertAll(java.util.List.of(2, 3)); assert false;} catch (IllegalStateException e) {System.out.println(e.getMessage());}
+        assert fixed.size() == 1;
+
+        // Testing d-Ary Heaps of Several Arities, Fixed and Growable and Heapified, against a Sorted Array, and the Error for an Arity below 2.
+        for (int arity : new int[] {2, 3, 4, 8}) {
+            Integer[] values = random.ints(3000, 0, 500).boxed().toArray(Integer[]::new); Integer[] sorted = values.clone(); java.util.Arrays.sort(sorted);
+            PriorityQueue<Integer> growableQueue = new PriorityQueue<>(null, arity), fixedQueue = new PriorityQueue<>(values.length, null, arity), heapifiedQueue = new PriorityQueue<>(values, null, arity);
+            for (Integer value : values) {growableQueue.insert(value); fixedQueue.insert(value);} int k = 0; for (Integer value : heapifiedQueue) {assert value.equals(sorted[k++]);}
+            for (Integer value : sorted) {assert growableQueue.delete().equals(value) && fixedQueue.delete().equals(value) && heapifiedQueue.replaceMin(Integer.MAX_VALUE).equals(value);}
+        }
+        try {new PriorityQueue<Integer>(null, 1); assert false;} catch (IllegalArgumentException e) {System.out.println(e.getMessage());}
+
+        // Testing the Lazy Iterator, which must not Change the Priority Queue, must Visit only a Small Frontier for the First Few Items, and must Fail if the Priority Queue Changes.
+        for (int arity : new int[] {2, 4}) {
+            Integer[] values = random.ints(100000, 0, 1000000).boxed().toArray(Integer[]::new); Integer[] sorted = values.clone(); java.util.Arrays.sort(sorted);
+            PriorityQueue<Integer> queue = new PriorityQueue<>(values, null, arity); PriorityQueue<Integer>.HeapIterator iterator = queue.new HeapIterator();
+            for (int k = 0; k < 100; k++) {assert iterator.next().equals(sorted[k]);} assert iterator.frontier.size() <= 100 * (arity - 1) + 1 && queue.size() == values.length;
+            int k = 0; for (Integer value : queue) {assert value.equals(sorted[k++]);} assert k == values.length && queue.min().equals(sorted[0]);
+            long[] sum = new long[1]; queue.forEachUnordered(value -> sum[0] += value); assert sum[0] == java.util.Arrays.stream(values).mapToLong(Integer::longValue).sum();
+            Iterator<Integer> stale = queue.iterator(); stale.next(); queue.insert(-1); try {stale.next(); assert false;} catch (java.util.ConcurrentModificationException e) {System.out.println("Iterator Invalidated by insert");}
+        }
+        assert !new PriorityQueue<Integer>().iterator().hasNext();
+
+        // Testing topK against a Sorted List, with Fewer Items than k, with k = 0, with a Comparator, and that Earlier Items Win Ties.
+        java.util.List<Integer> stream = random.ints(100000, 0, 1000000).boxed().collect(java.util.stream.Collectors.toList()); java.util.List<Integer> ascending = new java.util.ArrayList<>(stream); ascending.sort(null);
+        assert topK(stream.iterator(), 100).equals(ascending.subList(0, 100)) && topK(stream.iterator(), 0).isEmpty() && topK(java.util.List.of(3, 1).iterator(), 5).equals(java.util.List.of(1, 3));
+        java.util.List<Integer> largest = topK(stream.iterator(), 10, java.util.Comparator.reverseOrder()); for (int i = 0; i < 10; i++) {assert largest.get(i).equals(ascending.get(ascending.size() - 1 - i));}
+        assert topK(java.util.List.of("bb", "a", "cc", "dd").iterator(), 2, java.util.Comparator.comparingInt(String::length)).equals(java.util.List.of("a", "bb"));
+        java.util.List<String> ties = java.util.List.of("x1", "x2", "x3", "x4", "x5", "y", "x6", "z"); for (int k = 1; k <= ties.size(); k++) { // Testing that the Latest of the Tied Items are the ones Evicted.
+            java.util.List<String> expectedTop = new java.util.ArrayList<>(java.util.List.of("y", "z")); for (String tie : ties) {if (tie.length() == 2) expectedTop.add(tie);}
+            assert topK(ties.iterator(), k, java.util.Comparator.comparingInt(String::length)).equals(expectedTop.subList(0, k)) : k;
+        }
+        try {topK(stream.iterator(), -1); assert false;} catch (IllegalArgumentException e) {System.out.println(e.getMessage());}
+
         System.out.println("All Tests Passed Successfully!");
     }
 
@@ -0,0 +1,63 @@
+import java.util.Arrays; // Importing the Arrays Class from the java.util Package to View the Input as a List.
+import java.util.List; // Importing the List Interface from the java.util Package to pass the Input to the Collection Constructors.
+import java.util.Random; // Importing Random from the java.util Package to Generate the Benchmark Input.
+import java.util.function.Supplier; // Importing the Supplier Interface from the java.util.function Package to pass each Case to the Benchmark Driver.
+
+/**
+ * @author LewisThackeray
+ * @date 17/10/2026
+ *
+ * {@code PriorityQueueBenchmark} is a Micro-Benchmark of Building a Priority Queue of n Random Integers and then Draining it, Comparing the Heapify Constructor, insertAll and n Single Inserts
+ * of the Growable {@link PriorityQueue} with the Collection Constructor and n Single Adds of {@link java.util.PriorityQueue}.  The Best of the Measured Rounds is Reported in Milliseconds for the
+ * Build and for the Drain.  The Iteration Cases Compare the First k Items from the Lazy Iterator with Copying and Deleting from the Copy (what the Iterator used to do) and with an Unordered
+ * Scan, Reporting the Iteration in Place of the Drain.
+ */
+
+public class PriorityQueueBenchmark {
+
+    /**
+     * This is the Class Constructor.  The Class Constructor is Private to Prevent Instantiations of the Class, as the Class only Times the Builds and Drains through the Shared Harness.
+     */
+
+    private PriorityQueueBenchmark() {}
+
+    /**
+     * This method Builds and Drains a Priority Queue for the Warm-Up and Measured Rounds and Prints the Best Measured Times.
+     * @param name is the Name of the Case to Print.
+     * @param build is the Case, which Builds the Priority Queue and Returns a Runnable which Drains it.
+     */
+
+    static void run(String name, Supplier<Runnable> build) {
+        long[] best = Benchmark.bestPhases(() -> {long start = System.nanoTime(); Runnable drain = build.get(); long middle = System.nanoTime(); drain.run(); return new long[] {middle - start, System.nanoTime() - middle};});
+        System.out.printf("%-44s %10.2f ms build %10.2f ms drain%n", name, best[0] / 1e6, best[1] / 1e6);
+    }
+
+    /**
+     * This method runs the Benchmark, the First Command-Line Argument Optionally Overrides the Number of Items.
+     * @param args the Command-Line Arguments.
+     */
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000; Integer[] items = new Random(42).ints(n).boxed().toArray(Integer[]::new); List<Integer> list = Arrays.asList(items);
+
+        run("PriorityQueue(Item[]) heapify", () -> {PriorityQueue<Integer> queue = new PriorityQueue<>(items); return () -> {while (!queue.isEmpty()) {Benchmark.sink(queue.delete());}};});
+        run("PriorityQueue.insertAll(Collection)", () -> {PriorityQueue<Integer> queue = new PriorityQueue<>(); queue.insertAll(list); return () -> {while (!queue.isEmpty()) {Benchmark.sink(queue.delete());}};});
+        run("PriorityQueue n x insert (growable)", () -> {
+            PriorityQueue<Integer> queue = new PriorityQueue<>(); for (Integer item : items) {queue.insert(item);} return () -> {while (!queue.isEmpty()) {Benchmark.sink(queue.delete());}};
+        });
+        run("PriorityQueue n x insert (fixed capacity)", () -> {
+            PriorityQueue<Integer> queue = new PriorityQueue<>(n); for (Integer item : items) {queue.insert(item);} return () -> {while (!queue.isEmpty()) {Benchmark.sink(queue.delete());}};
+        });
+        run("java.util.PriorityQueue(Collection)", () -> {java.util.PriorityQueue<Integer> queue = new java.util.PriorityQueue<>(list); return () -> {while (!queue.isEmpty()) {Benchmark.sink(queue.poll());}};});
+        run("java.util.PriorityQueue n x add", () -> {
+            java.util.PriorityQueue<Integer> queue = new java.util.PriorityQueue<>(); for (Integer item : items) {queue.add(item);} return () -> {while (!queue.isEmpty()) {Benchmark.sink(queue.poll());}};
+        });
+
+        // Iterating a Heapified Priority Queue: the Second Time is the Iteration, which must not Drain it.
+        int k = Math.min(100, n); run("PriorityQueue.iterator() first " + k, () -> {
+            PriorityQueue<Integer> queue = new PriorityQueue<>(items); return () -> {java.util.Iterator<Integer> iterator = queue.iterator(); for (int i = 0; i < k; i++) {Benchmark.sink(iterator.next());}};
+        });
+        run("PriorityQueue copy + delete first " + k, () -> () -> {PriorityQueue<Integer> copy = new PriorityQueue<>(items); for (int i = 0; i < k; i++) {Benchmark.sink(copy.delete());}});
+        run("PriorityQueue.forEachUnordered", () -> {PriorityQueue<Integer> queue = new PriorityQueue<>(items); return () -> queue.forEachUnordered(item -> Benchmark.sink(item));});
+    }
+}
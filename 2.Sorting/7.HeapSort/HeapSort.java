@@ -1,3 +1,4 @@
+import java.util.Arrays; // Importing the Arrays Class from the java.util Package, whose Sort Order the Primitive Overloads Match.
 import java.util.Comparator; // Importing the Comparator Class from the java.util Package to Compare Two Objects and Determine which should come First in an Ordered Sequence.
 
 /**
@@ -15,6 +16,16 @@ import java.util.Comparator; // Importing the Comparator Class from the java.uti
  * <p><b>Time Complexity of Heap Sort:</b> The Best, Average and Worst Case Time Complexity is O(nlog(n)), as it performs heapification and extraction in logarithmic time per element.</p>
  *
  * <p><b>Space Complexity of Heap Sort:</b> The Algorithm uses Constant Extra Space, making its Worst-Case Space Complexity O(1).</p>
+ *
+ * <p><b>d-Ary Heap Sort:</b> The sortDAry Methods build a Max-Heap where each Node has d Children Stored Next to each other (the Children of Node i are at d*i + 1 to d*i + d, from Index 0), so
+ * the Heap is log<sub>d</sub>(n) rather than log<sub>2</sub>(n) Levels Deep and each Sink Step Reads its Children from One or Two Cache Lines.  This takes more Comparisons per Level but Fewer
+ * Levels of Scattered Memory Accesses, which Pays off once the Array no longer fits in the Cache.  The Sinking Element is Held in a Hole which is Filled once it Stops, rather than Swapped at
+ * every Level.</p>
+ *
+ * <p><b>Bottom-Up Heap Sort:</b> Most Elements Sunk from the Root end up Back near the Leaves, so the sortBottomUp Methods and the int[], long[] and double[] Overloads use Floyd's
+ * <em>Bounce</em> Sift: the Hole at the Root is Walked Down to a Leaf along the Larger Children, which takes One Comparison per Level rather than Two, and the Element is then Sifted Up
+ * from the Leaf, which rarely takes more than a Level or Two.  This Halves the Comparisons to about nlog<sub>2</sub>(n), and every Move is a Single Write into the Hole rather than a Swap.
+ * The Primitive Overloads Sort in Place without Boxing or Allocating, in the Same Order as {@link Arrays#sort}.</p>
  */
 
 public class HeapSort {
@@ -31,9 +42,18 @@ public class HeapSort {
      * @param array is the Array to be Sorted.
      */
 
-    public static <T extends Comparable<? super T>> void sort(T[] array) {
-        for (int k = array.length / 2; k >= 1; k--) {sink(array, k, array.length);} assert isHeap(array, array.length); // Heapify Phase.
-        int k = array.length; while (k > 1) {swap(array, 1, k--); sink(array, 1, k); assert isSorted(array, k, array.length - 1);} assert isSorted(array); // Sortdown Phase.
+    public static <T extends Comparable<? super T>> void sort(T[] array) {sort(array, 0, array.length - 1); assert isSorted(array);}
+
+    /**
+     * This method rearranges a Segment of the Array (from low to high - inclusive) in Ascending Order, using the Natural Order, by building the Max-Heap inside the Segment.
+     * @param array is the Array to be Sorted.
+     * @param low is the Lower Bound Index of the Segment of the Array to Sort (inclusive).
+     * @param high is the Upper Bound Index of the Segment of the Array to Sort (inclusive).
+     */
+
+    public static <T extends Comparable<? super T>> void sort(T[] array, int low, int high) {
+        int n = high - low + 1; for (int k = n / 2; k >= 1; k--) {sink(array, low, k, n);} assert isHeap(array, low, n); // Heapify Phase.
+        int k = n; while (k > 1) {swap(array, low, 1, k--); sink(array, low, 1, k); assert isSorted(array, low + k, high);} assert isSorted(array, low, high); // Sortdown Phase.
     }
 
     /**
@@ -42,35 +62,203 @@ public class HeapSort {
      * @param comparator is the Comparator Specifying the Order.
      */
 
-    public static <T> void sort(T[] array, Comparator<? super T> comparator) {
-        for (int k = array.length / 2; k >= 1; k--) {sink(array, comparator, k, array.length);} assert isHeap(array, comparator, array.length); // Heapify Phase.
-        int k = array.length; while (k > 1) {swap(array, 1, k--); sink(array, comparator, 1, k); assert isSorted(array, comparator, k, array.length - 1);} assert isSorted(array, comparator); // Sortdown Phase.
+    public static <T> void sort(T[] array, Comparator<? super T> comparator) {sort(array, comparator, 0, array.length - 1); assert isSorted(array, comparator);}
+
+    /**
+     * This method rearranges a Segment of the Array (from low to high - inclusive) where the Order is Specified by the Comparator, by building the Max-Heap inside the Segment.
+     * @param array is the Array to be Sorted.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param low is the Lower Bound Index of the Segment of the Array to Sort (inclusive).
+     * @param high is the Upper Bound Index of the Segment of the Array to Sort (inclusive).
+     */
+
+    public static <T> void sort(T[] array, Comparator<? super T> comparator, int low, int high) {
+        int n = high - low + 1; for (int k = n / 2; k >= 1; k--) {sink(array, comparator, low, k, n);} assert isHeap(array, comparator, low, n); // Heapify Phase.
+        int k = n; while (k > 1) {swap(array, low, 1, k--); sink(array, comparator, low, 1, k); assert isSorted(array, comparator, low + k, high);} assert isSorted(array, comparator, low, high); // Sortdown Phase.
+    }
+
+    /**
+     * This method rearranges the Array in Ascending Order using a d-Ary Max-Heap, using the Natural Order.
+     * @param array is the Array to be Sorted.
+     * @param d is the Number of Children of each Node, such as 4 or 8.
+     * @throws IllegalArgumentException if d is less than 2.
+     */
+
+    public static <T extends Comparable<? super T>> void sortDAry(T[] array, int d) {sortDAry(array, Comparator.<T>naturalOrder(), d); assert isSorted(array);}
+
+    /**
+     * This method rearranges the Array using a d-Ary Max-Heap, where the Order is Specified by the Comparator.
+     * @param array is the Array to be Sorted.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param d is the Number of Children of each Node, such as 4 or 8.
+     * @throws IllegalArgumentException if d is less than 2.
+     */
+
+    public static <T> void sortDAry(T[] array, Comparator<? super T> comparator, int d) {
+        if (d < 2) throw new IllegalArgumentException("A Heap Node must have at least 2 Children!"); int n = array.length;
+        for (int k = n < 2 ? -1 : (n - 2) / d; k >= 0; k--) {sinkDAry(array, comparator, d, k, n);} // Heapify Phase, from the Parent of the Last Node.
+        for (int k = n - 1; k > 0; k--) {T max = array[0]; array[0] = array[k]; array[k] = max; SortStats.swap(); sinkDAry(array, comparator, d, 0, k);} assert isSorted(array, comparator); // Sortdown Phase.
+    }
+
+    /**
+     * This method rearranges the Array in Ascending Order using Bottom-Up Heap Sort, using the Natural Order.
+     * @param array is the Array to be Sorted.
+     */
+
+    public static <T extends Comparable<? super T>> void sortBottomUp(T[] array) {sortBottomUp(array, Comparator.<T>naturalOrder()); assert isSorted(array);}
+
+    /**
+     * This method rearranges the Array using Bottom-Up Heap Sort, where the Order is Specified by the Comparator.  The Heap is Built with the Bounce Sift from the Last Parent to the Root, and
+     * then the Largest Element is Repeatedly Swapped to the End by Taking the Last Element out and Bouncing it in from the Root.
+     * @param array is the Array to be Sorted.
+     * @param comparator is the Comparator Specifying the Order.
+     */
+
+    public static <T> void sortBottomUp(T[] array, Comparator<? super T> comparator) {
+        int n = array.length; for (int k = n / 2 - 1; k >= 0; k--) {bounce(array, comparator, k, n, array[k]);} // Heapify Phase.
+        for (int k = n - 1; k > 0; k--) {T last = array[k]; array[k] = array[0]; SortStats.write(1); bounce(array, comparator, 0, k, last);} assert isSorted(array, comparator); // Sortdown Phase.
+    }
+
+    /**
+     * This method Places an Element into the Hole at a Node of a Binary Max-Heap Stored from array[0], by Moving the Larger Child up into the Hole all the way Down to a Leaf and then Moving
+     * Parents back Down until the Element Fits, but never above the Starting Node.
+     * @param array is the Array Holding the Heap.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param index is the 0-Based Index of the Hole, whose Children are at 2*index + 1 and 2*index + 2.
+     * @param n is the Size of the Heap.
+     * @param element is the Element to Place.
+     */
+
+    private static <T> void bounce(T[] array, Comparator<? super T> comparator, int index, int n, T element) {
+        int start = index, moves = 1; while (index < (n - 1) / 2) {int child = 2 * index + 1; if (less(comparator, array[child], array[child + 1])) child++; array[index] = array[child]; index = child; moves++;} // Both Children Exist.
+        if (2 * index + 1 == n - 1) {array[index] = array[n - 1]; index = n - 1; moves++;} // Only a Left Child.
+        while (index > start) {int parent = (index - 1) / 2; if (!less(comparator, array[parent], element)) break; array[index] = array[parent]; index = parent; moves++;} array[index] = element;
+        SortStats.write(moves);
+    }
+
+    /**
+     * This method rearranges the Array of ints in Ascending Order using Bottom-Up Heap Sort, in Place and without Allocating.
+     * @param array is the Array to be Sorted.
+     */
+
+    public static void sort(int[] array) {
+        int n = array.length; for (int k = n / 2 - 1; k >= 0; k--) {bounce(array, k, n, array[k]);}
+        for (int k = n - 1; k > 0; k--) {int last = array[k]; array[k] = array[0]; bounce(array, 0, k, last);} assert isSorted(array);
+    }
+
+    /**
+     * This method Places an int into the Hole at a Node of a Binary Max-Heap Stored from array[0] using the Bounce Sift.
+     * @param array is the Array Holding the Heap.
+     * @param index is the 0-Based Index of the Hole.
+     * @param n is the Size of the Heap.
+     * @param element is the int to Place.
+     */
+
+    private static void bounce(int[] array, int index, int n, int element) {
+        int start = index; while (index < (n - 1) / 2) {int child = 2 * index + 1; if (array[child] < array[child + 1]) child++; array[index] = array[child]; index = child;}
+        if (2 * index + 1 == n - 1) {array[index] = array[n - 1]; index = n - 1;}
+        while (index > start) {int parent = (index - 1) / 2; if (array[parent] >= element) break; array[index] = array[parent]; index = parent;} array[index] = element;
+    }
+
+    /**
+     * This method rearranges the Array of longs in Ascending Order using Bottom-Up Heap Sort, in Place and without Allocating.
+     * @param array is the Array to be Sorted.
+     */
+
+    public static void sort(long[] array) {
+        int n = array.length; for (int k = n / 2 - 1; k >= 0; k--) {bounce(array, k, n, array[k]);}
+        for (int k = n - 1; k > 0; k--) {long last = array[k]; array[k] = array[0]; bounce(array, 0, k, last);} assert isSorted(array);
+    }
+
+    /**
+     * This method Places a long into the Hole at a Node of a Binary Max-Heap Stored from array[0] using the Bounce Sift.
+     * @param array is the Array Holding the Heap.
+     * @param index is the 0-Based Index of the Hole.
+     * @param n is the Size of the Heap.
+     * @param element is the long to Place.
+     */
+
+    private static void bounce(long[] array, int index, int n, long element) {
+        int start = index; while (index < (n - 1) / 2) {int child = 2 * index + 1; if (array[child] < array[child + 1]) child++; array[index] = array[child]; index = child;}
+        if (2 * index + 1 == n - 1) {array[index] = array[n - 1]; index = n - 1;}
+        while (index > start) {int parent = (index - 1) / 2; if (array[parent] >= element) break; array[index] = array[parent]; index = parent;} array[index] = element;
+    }
+
+    /**
+     * This method rearranges the Array of doubles in Ascending Order using Bottom-Up Heap Sort, in the Same Order as {@link Double#compare}: NaNs are Moved to the End first (as every
+     * Comparison with a NaN is false) and -0.0 is Placed before 0.0 afterwards (as the Two Compare as Equal).
+     * @param array is the Array to be Sorted.
+     */
+
+    public static void sort(double[] array) {
+        int n = array.length, negativeZeros = 0; for (int k = n - 1; k >= 0; k--) { // Moving the NaNs to the End and Counting the Negative Zeros.
+            if (Double.isNaN(array[k])) {array[k] = array[n - 1]; array[--n] = Double.NaN;} else if (Double.doubleToRawLongBits(array[k]) == Double.doubleToRawLongBits(-0.0)) negativeZeros++;
+        }
+        for (int k = n / 2 - 1; k >= 0; k--) {bounce(array, k, n, array[k]);} for (int k = n - 1; k > 0; k--) {double last = array[k]; array[k] = array[0]; bounce(array, 0, k, last);}
+        if (negativeZeros > 0) {
+            int zero = 0, top = n; while (zero < top) {int mid = (zero + top) >>> 1; if (array[mid] < 0.0) zero = mid + 1; else top = mid;} // Binary Searching for the First Zero.
+            for (int k = zero; k < n && array[k] == 0.0; k++) {array[k] = k - zero < negativeZeros ? -0.0 : 0.0;}
+        } assert isSorted(array);
+    }
+
+    /**
+     * This method Places a double, which is not a NaN, into the Hole at a Node of a Binary Max-Heap Stored from array[0] using the Bounce Sift.
+     * @param array is the Array Holding the Heap.
+     * @param index is the 0-Based Index of the Hole.
+     * @param n is the Size of the Heap.
+     * @param element is the double to Place.
+     */
+
+    private static void bounce(double[] array, int index, int n, double element) {
+        int start = index; while (index < (n - 1) / 2) {int child = 2 * index + 1; if (array[child] < array[child + 1]) child++; array[index] = array[child]; index = child;}
+        if (2 * index + 1 == n - 1) {array[index] = array[n - 1]; index = n - 1;}
+        while (index > start) {int parent = (index - 1) / 2; if (array[parent] >= element) break; array[index] = array[parent]; index = parent;} array[index] = element;
+    }
+
+    /**
+     * This method sinks an Element in a d-Ary Max-Heap Stored from array[0], where the Order is Specified by the Comparator, Moving the Largest Child up into the Hole at each Level.
+     * @param array is the Array Holding the Heap.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param d is the Number of Children of each Node.
+     * @param index is the 0-Based Index to Sink from, whose Children are at d*index + 1 to d*index + d.
+     * @param n is the Size of the Heap.
+     */
+
+    private static <T> void sinkDAry(T[] array, Comparator<? super T> comparator, int d, int index, int n) {
+        T element = array[index]; while (true) {
+            int first = d * index + 1; if (first >= n || first < 0) break; int last = Math.min(first + d, n), largest = first; // Creating the Range of Children (exclusive), Guarding Overflow.
+            for (int child = first + 1; child < last; child++) {if (less(comparator, array[largest], array[child])) largest = child;}
+            if (!less(comparator, element, array[largest])) break; array[index] = array[largest]; index = largest; SortStats.write(1);
+        } array[index] = element; SortStats.write(1);
     }
 
     /**
      * This method sinks an Element in the Heap to Restore the Heap Property for the Max-Heap, using Natural Ordering.
      * @param array is the Array to be Sorted.
+     * @param low is the Index of the Array which holds the Root of the Heap.
      * @param index is the Index to Sink from (where the Root of the Heap is at Index 1, therefore, for any node at Index k: the Left Child is at Index 2k, the Right Child is at Index 2k + 1 and the Parent is
      * at Index k/2.
      * @param n is the Size of the Heap.
      */
 
-    private static <T extends Comparable<? super T>> void sink(T[] array, int index, int n) {
-        while (2 * index <= n) {int j = 2 * index; if (j < n && less(array[j - 1], array[j])) {j++;} if (!less(array[index - 1], array[j - 1])) {break;} swap(array, index, j); index = j;}
+    private static <T extends Comparable<? super T>> void sink(T[] array, int low, int index, int n) {
+        int base = low - 1; // Node k of the Heap is Stored at array[base + k].
+        while (2 * index <= n) {int j = 2 * index; if (j < n && less(array[base + j], array[base + j + 1])) {j++;} if (!less(array[base + index], array[base + j])) {break;} swap(array, low, index, j); index = j;}
     }
 
     /**
      * This method sinks an Element in the Heap to Restore the Heap Property for the Max-Heap, where the Order is Specified by the Comparator.
      * @param array is the Array to be Sorted.
      * @param comparator is the Comparator Specifying the Order.
+     * @param low is the Index of the Array which holds the Root of the Heap.
      * @param index is the Index to Sink from (where the Root of the Heap is at Index 1, therefore, for any node at Index k: the Left Child is at Index 2k, the Right Child is at Index 2k + 1 and the Parent is
      * at Index k/2.
      * @param n is the Size of the Heap.
      */
 
-    private static <T> void sink(T[] array, Comparator<? super T> comparator, int index, int n) {
-        while (2 * index <= n) {
-            int j = 2 * index; if (j < n && less(comparator, array[j - 1], array[j])) {j++;} if (!less(comparator, array[index - 1], array[j - 1])) {break;} swap(array, index, j); index = j;
+    private static <T> void sink(T[] array, Comparator<? super T> comparator, int low, int index, int n) {
+        int base = low - 1; while (2 * index <= n) { // Node k of the Heap is Stored at array[base + k].
+            int j = 2 * index; if (j < n && less(comparator, array[base + j], array[base + j + 1])) {j++;} if (!less(comparator, array[base + index], array[base + j])) {break;} swap(array, low, index, j); index = j;
         }
     }
 
@@ -94,13 +282,38 @@ public class HeapSort {
     private static <T> boolean less(Comparator<? super T> comparator, T v, T w) {return comparator.compare(v, w) < 0;}
 
     /**
-     * This method swaps Two Elements in the Array.
+     * This method swaps Two Nodes of a Heap whose Root is Stored at array[low].
      * @param array is the Array in which the Swap Occurs.
-     * @param i is the Index of the First Element that we are Going to Swap.
-     * @param j is the Index of the Second Element that we are Going to Swap.
+     * @param low is the Index of the Array which holds the Root of the Heap.
+     * @param i is the 1-Based Heap Index of the First Element that we are Going to Swap.
+     * @param j is the 1-Based Heap Index of the Second Element that we are Going to Swap.
+     */
+
+    private static <T> void swap(T[] array, int low, int i, int j) {T swap = array[low + i - 1]; array[low + i - 1] = array[low + j - 1]; array[low + j - 1] = swap; SortStats.swap();}
+
+    /**
+     * This method checks that an Array of ints is Sorted in Ascending Order.
+     * @param array is the Array to Check.
+     * @return true if the Array is Sorted, false Otherwise.
      */
 
-    private static <T> void swap(T[] array, int i, int j) {T swap = array[i - 1]; array[i - 1] = array[j - 1]; array[j - 1] = swap;}
+    private static boolean isSorted(int[] array) {for (int i = 1; i < array.length; i++) {if (array[i] < array[i - 1]) {return false;}} return true;}
+
+    /**
+     * This method checks that an Array of longs is Sorted in Ascending Order.
+     * @param array is the Array to Check.
+     * @return true if the Array is Sorted, false Otherwise.
+     */
+
+    private static boolean isSorted(long[] array) {for (int i = 1; i < array.length; i++) {if (array[i] < array[i - 1]) {return false;}} return true;}
+
+    /**
+     * This method checks that an Array of doubles is Sorted in the Order of {@link Double#compare}.
+     * @param array is the Array to Check.
+     * @return true if the Array is Sorted, false Otherwise.
+     */
+
+    private static boolean isSorted(double[] array) {for (int i = 1; i < array.length; i++) {if (Double.compare(array[i], array[i - 1]) < 0) {return false;}} return true;}
 
     /**
      * This method checks that an Entire Array is Sorted in Ascending Order.
@@ -141,7 +354,7 @@ public class HeapSort {
      */
 
     private static <T> boolean isSorted(T[] array, Comparator<? super T> comparator, int low, int high) {
-        for (int i = low + 1; i <= high; i++) {if (less(comparator, array[i], array[i - 1])) {return false;}} return true;
+        return SortStats.uncounted(() -> {for (int i = low + 1; i <= high; i++) {if (less(comparator, array[i], array[i - 1])) {return false;}} return true;});
     }
 
     /**
@@ -152,31 +365,33 @@ public class HeapSort {
     private static <T> void show(T[] array) {for (int i = 0; i < array.length; i++) {System.out.println(array[i]);}}
 
     /**
-     * This method checks if an Array of Size n Satisfies the Max-Heap Property using a Natural Order.
+     * This method checks if a Heap of Size n whose Root is Stored at array[low] Satisfies the Max-Heap Property using a Natural Order.
      * @param array is the Array to Check.
+     * @param low is the Index of the Array which holds the Root of the Heap.
      * @param n is the Size of the Heap.
      * @return a boolean value where true is returned if the Max-Heap Property is Satisfied, false otherwise.
      */
 
-    private static <T extends Comparable<? super T>> boolean isHeap(T[] array, int n) {
-        for (int i = 1; i <= n / 2; i++) {
-            int left = 2 * i; int right = left + 1; if (left <= n && less(array[i - 1], array[left - 1])) {return false;} if (right <= n && less(array[i - 1], array[right - 1])) {return false;}
+    private static <T extends Comparable<? super T>> boolean isHeap(T[] array, int low, int n) {
+        int base = low - 1; for (int i = 1; i <= n / 2; i++) {
+            int left = 2 * i; int right = left + 1; if (left <= n && less(array[base + i], array[base + left])) {return false;} if (right <= n && less(array[base + i], array[base + right])) {return false;}
         } return true;
     }
 
     /**
-     * This method checks if an Array of Size n Satisfies the Max-Heap Property using a Comparator.
+     * This method checks if a Heap of Size n whose Root is Stored at array[low] Satisfies the Max-Heap Property using a Comparator.
      * @param array is the Array to Check.
      * @param comparator is the Comparator specifying the Order.
+     * @param low is the Index of the Array which holds the Root of the Heap.
      * @param n is the Size of the Heap.
      * @return a boolean value where true is returned if the Max-Heap Property is Satisfied, false otherwise.
      */
 
-    private static <T> boolean isHeap(T[] array, Comparator<? super T> comparator, int n) {
-        for (int i = 1; i <= n / 2; i++) {
+    private static <T> boolean isHeap(T[] array, Comparator<? super T> comparator, int low, int n) {
+        int base = low - 1; return SortStats.uncounted(() -> {for (int i = 1; i <= n / 2; i++) {
             int left = 2 * i; int right = left + 1;
-            if (left <= n && less(comparator, array[i - 1], array[left - 1])) {return false;} if (right <= n && less(comparator, array[i - 1], array[right - 1])) {return false;}
-        } return true;
+            if (left <= n && less(comparator, array[base + i], array[base + left])) {return false;} if (right <= n && less(comparator, array[base + i], array[base + right])) {return false;}
+        } return true;});
     }
 
     /**
@@ -199,6 +414,27 @@ public class HeapSort {
         // Testing the Sort Method with an Array of Strings which Sorts the Array with a Customised Comparator which Sorts the Strings based on their Length.
         Comparator<String> byLength = Comparator.comparingInt(String::length); HeapSort.sort(stringArray, byLength); show(stringArray);
 
+        // Testing the Range Sort Methods by Sorting only the Middle of an Array and Checking the Ends are Untouched.
+        Integer[] rangeArray = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0}; HeapSort.sort(rangeArray, 2, 7); assert java.util.Arrays.equals(rangeArray, new Integer[] {9, 8, 2, 3, 4, 5, 6, 7, 1, 0});
+        HeapSort.sort(rangeArray, descending, 2, 7); assert java.util.Arrays.equals(rangeArray, new Integer[] {9, 8, 7, 6, 5, 4, 3, 2, 1, 0});
+
+        // Testing the d-Ary Sort Methods for Several Arities and Lengths against the JDK's Sort, and the Error for an Arity below 2.
+        java.util.Random random = new java.util.Random(17); for (int d : new int[] {2, 3, 4, 8, 16}) {for (int length : new int[] {0, 1, 2, 5, 17, 1000}) {
+            Integer[] dAry = random.ints(length, 0, 100).boxed().toArray(Integer[]::new); Integer[] expected = dAry.clone(); java.util.Arrays.sort(expected);
+            HeapSort.sortDAry(dAry, d); assert java.util.Arrays.equals(dAry, expected); HeapSort.sortDAry(dAry, descending, d); assert isSorted(dAry, descending);
+        }}
+        try {HeapSort.sortDAry(integerArray, 1); assert false;} catch (IllegalArgumentException e) {System.out.println(e.getMessage());}
+
+        // Testing the Bottom-Up Sort Methods and the Primitive Overloads for Several Lengths (Odd and Even, so the Heap Ends both with and without a Lone Left Child) against the JDK's Sort.
+        for (int length : new int[] {0, 1, 2, 3, 4, 5, 16, 17, 1000, 1001, 100000}) {
+            Integer[] boxed = random.ints(length, 0, length / 3 + 1).boxed().toArray(Integer[]::new); Integer[] expected = boxed.clone(); Arrays.sort(expected);
+            HeapSort.sortBottomUp(boxed); assert Arrays.equals(boxed, expected); HeapSort.sortBottomUp(boxed, descending); assert isSorted(boxed, descending);
+            int[] ints = random.ints(length).toArray(); int[] intsCopy = ints.clone(); HeapSort.sort(ints); Arrays.sort(intsCopy); assert Arrays.equals(ints, intsCopy);
+            long[] longs = random.longs(length, -5, 5).toArray(); long[] longsCopy = longs.clone(); HeapSort.sort(longs); Arrays.sort(longsCopy); assert Arrays.equals(longs, longsCopy);
+            double[] doubles = random.doubles(length).map(x -> x < 0.1 ? Double.NaN : x < 0.2 ? -0.0 : x < 0.3 ? 0.0 : x - 0.5).toArray(); double[] doublesCopy = doubles.clone();
+            HeapSort.sort(doubles); Arrays.sort(doublesCopy); assert Arrays.equals(doubles, doublesCopy);
+        }
+
         System.out.println("\n\n All Tests Passed Successfully!!!");
 
     }
@@ -0,0 +1,48 @@
+import java.util.Arrays; // Importing Arrays from the java.util Package to Compare against the JDK's Sorts and to Copy the Input before each Run.
+import java.util.Comparator; // Importing the Comparator Class from the java.util Package to Count the Comparisons each Sort Makes.
+import java.util.Random; // Importing Random from the java.util Package to Generate the Benchmark Input.
+import java.util.function.Consumer; // Importing Consumer from the java.util.function Package to pass each Sort to the Benchmark Driver.
+
+/**
+ * @author LewisThackeray
+ * @date 17/10/2026
+ *
+ * {@code HeapSortBenchmark} is a Micro-Benchmark of the Bottom-Up (Bounce Sift) Engine of {@link HeapSort} against the Original Two-Comparisons-per-Level Sink.  It first Counts the
+ * Comparisons each Generic Sort Makes on the Same Random Input, and then Reports the Best Throughput of the Measured Rounds in Millions of Elements Sorted per Second, for Boxed Integers and
+ * for the Primitive Overloads against {@link Arrays#sort}.
+ */
+
+public class HeapSortBenchmark {
+
+    /**
+     * This is the Class Constructor.  The Class Constructor is Private to Prevent Instantiations of the Class, as the Class only Counts and Times the Heap Sorts through the Shared Harness.
+     */
+
+    private HeapSortBenchmark() {}
+
+    /**
+     * This method runs the Benchmark, the First Command-Line Argument Optionally Overrides the Number of Elements.
+     * @param args the Command-Line Arguments.
+     */
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000; Random random = new Random(42);
+        int[] ints = random.ints(n).toArray(); Integer[] boxed = Arrays.stream(ints).boxed().toArray(Integer[]::new);
+
+        // Counting the Comparisons, against the Information-Theoretic Lower Bound of log2(n!).
+        long[] count = new long[1]; Comparator<Integer> counting = (a, b) -> {count[0]++; return Integer.compare(a, b);}; double lowerBound = 0; for (int i = 2; i <= n; i++) {lowerBound += Math.log(i) / Math.log(2);}
+        System.out.printf("n = %,d, log2(n!) = %,.0f comparisons%n", n, lowerBound); String[] names = {"HeapSort.sort", "HeapSort.sortBottomUp", "HeapSort.sortDAry(d=4)"};
+        java.util.List<Consumer<Integer[]>> sorts = java.util.List.of(array -> HeapSort.sort(array, counting), array -> HeapSort.sortBottomUp(array, counting), array -> HeapSort.sortDAry(array, counting, 4));
+        for (int s = 0; s < sorts.size(); s++) {count[0] = 0; sorts.get(s).accept(boxed.clone()); System.out.printf("%-36s %,16d comparisons %6.2f x log2(n!)%n", names[s], count[0], count[0] / lowerBound);}
+
+        // Comparing the Throughput of the Generic Sorts.
+        Benchmark.throughput("HeapSort.sort(Integer[])", boxed, Integer[]::clone, HeapSort::sort); Benchmark.throughput("HeapSort.sortBottomUp(Integer[])", boxed, Integer[]::clone, HeapSort::sortBottomUp);
+        Benchmark.throughput("HeapSort.sortDAry(Integer[], d=4)", boxed, Integer[]::clone, array -> HeapSort.sortDAry(array, 4));
+
+        // Comparing the Primitive Overloads with the JDK's Sorts.
+        long[] longs = random.longs(n).toArray(); double[] doubles = random.doubles(n).toArray();
+        Benchmark.throughput("HeapSort.sort(int[])", ints, int[]::clone, HeapSort::sort); Benchmark.throughput("Arrays.sort(int[])", ints, int[]::clone, Arrays::sort);
+        Benchmark.throughput("HeapSort.sort(long[])", longs, long[]::clone, HeapSort::sort); Benchmark.throughput("Arrays.sort(long[])", longs, long[]::clone, Arrays::sort);
+        Benchmark.throughput("HeapSort.sort(double[])", doubles, double[]::clone, HeapSort::sort); Benchmark.throughput("Arrays.sort(double[])", doubles, double[]::clone, Arrays::sort);
+    }
+}
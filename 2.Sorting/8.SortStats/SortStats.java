@@ -0,0 +1,242 @@
+import java.util.Comparator; // Importing the Comparator Class from the java.util Package to Wrap the Comparator of the Sort being Measured and Count its Calls.
+import java.util.function.BiConsumer; // Importing BiConsumer from the java.util.function Package to pass the Sort being Measured with its Array and Counting Comparator.
+import java.util.function.BooleanSupplier; // Importing BooleanSupplier from the java.util.function Package to pass an Assertion's Check to be Run without Counting its Compares.
+import jdk.jfr.Category; // Importing the Category Annotation from the jdk.jfr Package to Group the Sort Events in JDK Mission Control.
+import jdk.jfr.DataAmount; // Importing the DataAmount Annotation from the jdk.jfr Package to Mark the Auxiliary Bytes as a Number of Bytes.
+import jdk.jfr.Event; // Importing the Event Class from the jdk.jfr Package to Record each Measured Sort in a Flight Recording.
+import jdk.jfr.Label; // Importing the Label Annotation from the jdk.jfr Package to Name the Sort Events and their Fields.
+import jdk.jfr.Name; // Importing the Name Annotation from the jdk.jfr Package to give the Sort Events a Stable Identifier.
+
+/**
+ * @author LewisThackeray
+ * @date 17/10/2026
+ *
+ * {@code SortStats} is an Opt-In Instrumentation Layer for the Sorting Classes, Reporting the Work a Sort does as well as how Long it Takes, so that it can be seen <em>why</em> one Sort is
+ * Slower than another on a Given Dataset.  {@link #measure} Runs a Sort with a Wrapping Comparator that Counts every Comparison, and Returns the Counts as a {@code SortStats} Object, which it
+ * also Records as a {@code sorting.Sort} Event in any Running Flight Recording (e.g. java -XX:StartFlightRecording ...).
+ *
+ * <p><b>Counters:</b> Compares are Counted by the Wrapping Comparator, except those of the Sorts' Assertions, which Check their Results through {@link #uncounted} so that Counts taken with
+ * -ea Match those taken without.  The Comparator Engines of {@link SelectionSort}, {@link InsertionSort}, {@link ShellSort}, {@link MergeSort}, {@link QuickSort} and {@link HeapSort} also
+ * Report their Swaps, Array Writes (a Swap is Two), Recursion Depth and Auxiliary Arrays through the Package-Private Hooks below, but only when the JVM is Started with -Dsorting.stats=true, as
+ * the Hooks are Guarded by the Constant {@link #ENABLED}.  When it is false the Just-In-Time Compiler Removes the Hooks altogether, so the Sorts cost Nothing Extra when the Instrumentation is
+ * Disabled.  Only the Comparator Engines can be Measured: a Natural Order is Measured by passing {@link Comparator#naturalOrder()}, which the Overload of {@link #measure} without a Comparator
+ * does, as the Comparable Overloads, like the Primitive ones, neither Call a Comparator nor Report to the Hooks.  Work Done on other Threads (such as the Parallel Merge Sort's) is not
+ * Collected.</p>
+ *
+ * <p><b>Auxiliary Bytes</b> are Estimated as a 16 Byte Array Header plus 4 Bytes per Reference (Compressed References), and only Count the Scratch Arrays of the Sorts themselves.</p>
+ */
+
+public final class SortStats {
+
+    public static final boolean ENABLED = Boolean.getBoolean("sorting.stats"); // Creating the Constant which Switches the Hooks on, Read once when the Class is Loaded.
+    private static final ThreadLocal<SortStats> CURRENT = new ThreadLocal<>(); // Creating the Statistics of the Sort being Measured on each Thread, or null if there is none.
+
+    private final String name; // Creating the Name of the Sort.
+    private final int length; // Creating the Length of the Array Sorted.
+    private long compares; // Creating the Number of Comparator Calls.
+    private long swaps; // Creating the Number of Swaps.
+    private long writes; // Creating the Number of Array Writes, including Two for each Swap.
+    private int depth; // Creating the Current Recursion Depth.
+    private int maxDepth; // Creating the Deepest Recursion Depth.
+    private long auxiliaryBytes; // Creating the Estimated Bytes of the Auxiliary Arrays.
+    private long nanos; // Creating the Elapsed Time of the Sort in Nanoseconds.
+    private int uncounted; // Creating the Number of Checks in Progress whose Compares are not Counted.
+
+    /**
+     * This is the Class Constructor, which is Private as the Statistics are only Created by {@link #measure}.
+     * @param name is the Name of the Sort.
+     * @param length is the Length of the Array Sorted.
+     */
+
+    private SortStats(String name, int length) {this.name = name; this.length = length;}
+
+    /**
+     * This Class is the Flight Recorder Event Committed for each Measured Sort.
+     */
+
+    @Name("sorting.Sort") @Label("Sort") @Category("Sorting") static final class SortEvent extends Event {
+        @Label("Sort") String sort; // Creating the Field for the Name of the Sort.
+        @Label("Length") int length; // Creating the Field for the Length of the Array.
+        @Label("Compares") long compares; // Creating the Field for the Number of Compares.
+        @Label("Swaps") long swaps; // Creating the Field for the Number of Swaps.
+        @Label("Writes") long writes; // Creating the Field for the Number of Array Writes.
+        @Label("Max Depth") int maxDepth; // Creating the Field for the Deepest Recursion.
+        @Label("Auxiliary") @DataAmount long auxiliaryBytes; // Creating the Field for the Estimated Auxiliary Bytes.
+    }
+
+    /**
+     * This method Runs a Sort in the Natural Order of the Elements, through a Counting {@link Comparator#naturalOrder()}, as {@link #measure(String, Object[], Comparator, BiConsumer)}.
+     * @param name is the Name of the Sort, used in the Event and by toString.
+     * @param array is the Array to be Sorted.
+     * @param sort is the Sort to Run, given the Array and the Counting Comparator, such as {@code MergeSort::sort}.
+     * @return the Statistics of the Sort.
+     */
+
+    public static <T extends Comparable<? super T>> SortStats measure(String name, T[] array, BiConsumer<T[], Comparator<T>> sort) {return measure(name, array, Comparator.<T>naturalOrder(), sort);}
+
+    /**
+     * This method Runs a Sort with a Comparator that Counts its Calls, Collecting the Counts Reported by the Hooks on this Thread meanwhile, and Records them as a Flight Recorder Event.
+     * Measurements can be Nested, each Collecting only its own Counts: while an Inner Measurement Runs, every Count on this Thread goes to it alone, Compares made through the Enclosing
+     * Measurement's Comparator included, as that Comparator stops Counting until the Inner Measurement Returns.  Only the Time is Inclusive, the Outer Time Containing the Inner.
+     * @param name is the Name of the Sort, used in the Event and by toString.
+     * @param array is the Array to be Sorted.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param sort is the Sort to Run, given the Array and the Counting Comparator, such as {@code MergeSort::sort}.
+     * @return the Statistics of the Sort.
+     */
+
+    public static <T> SortStats measure(String name, T[] array, Comparator<? super T> comparator, BiConsumer<T[], Comparator<T>> sort) {
+        SortStats outer = CURRENT.get(), stats = new SortStats(name, array.length); Comparator<T> counting = (v, w) -> {if (stats.uncounted == 0) stats.compares++; return comparator.compare(v, w);};
+        if (outer != null) outer.uncounted++; CURRENT.set(stats); SortEvent event = new SortEvent(); event.begin(); long start = System.nanoTime(); // Suspending the Enclosing Measurement's Counting.
+        try {sort.accept(array, counting);} finally {stats.nanos = System.nanoTime() - start; event.end(); if (outer == null) CURRENT.remove(); else {CURRENT.set(outer); outer.uncounted--;}}
+        if (event.shouldCommit()) {
+            event.sort = name; event.length = stats.length; event.compares = stats.compares; event.swaps = stats.swaps; event.writes = stats.writes; event.maxDepth = stats.maxDepth;
+            event.auxiliaryBytes = stats.auxiliaryBytes; event.commit();
+        } return stats;
+    }
+
+    /**
+     * This method is the Hook through which a Sort's Assertion Runs its Check without the Check's Compares being Counted by this Thread's Measurement, any Measurement Enclosing it having
+     * already Stopped Counting.  It is not Guarded by {@link #ENABLED}, as Compares are always Counted, but it is only Called with -ea.
+     * @param check is the Check to Run.
+     * @return the Result of the Check.
+     */
+
+    static boolean uncounted(BooleanSupplier check) {
+        SortStats stats = CURRENT.get(); if (stats == null) return check.getAsBoolean(); stats.uncounted++; try {return check.getAsBoolean();} finally {stats.uncounted--;}
+    }
+
+    /**
+     * This method is the Hook through which a Sort Reports a Swap, which is also Two Writes.
+     */
+
+    static void swap() {if (ENABLED) {SortStats stats = CURRENT.get(); if (stats != null) {stats.swaps++; stats.writes += 2;}}}
+
+    /**
+     * This method is the Hook through which a Sort Reports Writes to the Array or its Auxiliary Array, other than by Swaps.
+     * @param count is the Number of Writes.
+     */
+
+    static void write(long count) {if (ENABLED) {SortStats stats = CURRENT.get(); if (stats != null) stats.writes += count;}}
+
+    /**
+     * This method is the Hook through which a Sort Reports Entering a Recursive Call.
+     */
+
+    static void enter() {if (ENABLED) {SortStats stats = CURRENT.get(); if (stats != null) stats.maxDepth = Math.max(stats.maxDepth, ++stats.depth);}}
+
+    /**
+     * This method is the Hook through which a Sort Reports Returning from a Recursive Call.
+     */
+
+    static void exit() {if (ENABLED) {SortStats stats = CURRENT.get(); if (stats != null) stats.depth--;}}
+
+    /**
+     * This method is the Hook through which a Sort Reports Allocating an Auxiliary Array of References.
+     * @param length is the Length of the Auxiliary Array.
+     */
+
+    static void allocate(int length) {if (ENABLED) {SortStats stats = CURRENT.get(); if (stats != null) stats.auxiliaryBytes += 16 + 4L * length;}}
+
+    /**
+     * This method returns the Name of the Sort.
+     * @return the Name of the Sort.
+     */
+
+    public String name() {return name;}
+
+    /**
+     * This method returns the Length of the Array Sorted.
+     * @return the Length of the Array.
+     */
+
+    public int length() {return length;}
+
+    /**
+     * This method returns the Number of Comparator Calls.
+     * @return the Number of Compares.
+     */
+
+    public long compares() {return compares;}
+
+    /**
+     * This method returns the Number of Swaps, which is 0 unless {@link #ENABLED}.
+     * @return the Number of Swaps.
+     */
+
+    public long swaps() {return swaps;}
+
+    /**
+     * This method returns the Number of Array Writes, including Two for each Swap, which is 0 unless {@link #ENABLED}.
+     * @return the Number of Writes.
+     */
+
+    public long writes() {return writes;}
+
+    /**
+     * This method returns the Deepest Recursion of the Sort, which is 0 unless {@link #ENABLED} or if the Sort is not Recursive.
+     * @return the Maximum Recursion Depth.
+     */
+
+    public int maxDepth() {return maxDepth;}
+
+    /**
+     * This method returns the Estimated Bytes of the Auxiliary Arrays the Sort Allocated, which is 0 unless {@link #ENABLED}.
+     * @return the Auxiliary Bytes.
+     */
+
+    public long auxiliaryBytes() {return auxiliaryBytes;}
+
+    /**
+     * This method returns the Elapsed Time of the Sort.
+     * @return the Elapsed Time in Nanoseconds.
+     */
+
+    public long nanos() {return nanos;}
+
+    /**
+     * This method returns the Statistics on One Line.
+     * @return a String of the Statistics.
+     */
+
+    @Override public String toString() {
+        return String.format("%-24s n = %,d: %,d compares, %,d swaps, %,d writes, depth %d, %,d auxiliary bytes, %.3f ms", name, length, compares, swaps, writes, maxDepth, auxiliaryBytes, nanos / 1e6);
+    }
+
+    /**
+     * This method tests the {@code SortStats} Class by Measuring each Sort on the Same Input, Checking the Counts which are Known for Selection Sort, Checking that the Assertions' Compares
+     * are not Counted, and Checking that the Hooks only Report when Enabled (Run with java -ea -Dsorting.stats=true to Test the Hooks as well).
+     * @param args the Command Line Arguments.
+     */
+
+    public static void main(String[] args) {
+        java.util.Random random = new java.util.Random(24); Integer[] input = random.ints(2000).boxed().toArray(Integer[]::new); Integer[] expected = input.clone(); java.util.Arrays.sort(expected);
+        Comparator<Integer> natural = Comparator.naturalOrder(); int n = input.length; System.out.println("sorting.stats = " + ENABLED);
+
+        // Testing Selection Sort, which makes n(n - 1)/2 Compares, even with -ea as its Assertions' Compares are not Counted, and n Swaps.
+        Integer[] array = input.clone(); SortStats selection = measure("SelectionSort.sort", array, natural, SelectionSort::sort); System.out.println(selection);
+        assert java.util.Arrays.equals(array, expected) && selection.compares() == (long) n * (n - 1) / 2 && selection.length() == n;
+        assert selection.swaps() == (ENABLED ? n : 0) && selection.writes() == 2 * selection.swaps() && selection.maxDepth() == 0 && selection.auxiliaryBytes() == 0;
+
+        // Testing the other Sorts, where the Recursive ones must Report their Depth, and Merge Sort its Auxiliary Array.
+        java.util.List<SortStats> all = new java.util.ArrayList<>(); java.util.List<BiConsumer<Integer[], Comparator<Integer>>> sorts = java.util.List.of(
+            InsertionSort::sort, (a, c) -> InsertionSort.binarySort(a, c, 0, a.length - 1), ShellSort::sort, MergeSort::sort, MergeSort::sortBottomUp, QuickSort::sort, QuickSort::introSort,
+            HeapSort::sort, HeapSort::sortBottomUp);
+        String[] names = {"InsertionSort.sort", "InsertionSort.binarySort", "ShellSort.sort", "MergeSort.sort", "MergeSort.sortBottomUp", "QuickSort.sort", "QuickSort.introSort", "HeapSort.sort", "HeapSort.sortBottomUp"};
+        for (int s = 0; s < sorts.size(); s++) {array = input.clone(); SortStats stats = measure(names[s], array, natural, sorts.get(s)); System.out.println(stats); all.add(stats); assert java.util.Arrays.equals(array, expected);}
+        for (SortStats stats : all) {assert stats.compares() > 0 && (stats.writes() > 0) == ENABLED && stats.nanos() > 0;}
+        assert (all.get(3).maxDepth() > 0) == ENABLED && (all.get(5).maxDepth() > 0) == ENABLED && (all.get(6).maxDepth() > 0) == ENABLED;
+        assert all.get(3).auxiliaryBytes() == (ENABLED ? 16 + 4L * n : 0) && all.get(4).auxiliaryBytes() == (ENABLED ? 16 + 4L * n : 0) && all.get(7).auxiliaryBytes() == 0;
+        double nLogN = n * Math.log(n) / Math.log(2); assert all.get(7).compares() <= 2 * nLogN && all.get(8).compares() <= 2 * nLogN; // Heap Sort's Assertions Check the Heap after every Sink.
+
+        // Testing the Natural Order Overload, which Counts the Same Compares as the Natural Order Comparator.
+        array = input.clone(); SortStats natural2 = measure("MergeSort.sort", array, MergeSort::sort); assert java.util.Arrays.equals(array, expected) && natural2.compares() == all.get(3).compares();
+
+        // Testing that a Nested Measurement Collects every Count of its own, even Compares made through the Outer Comparator, and the Outer one only the Rest, but the Inner Time as well.
+        SortStats[] inner = new SortStats[1]; SortStats outer = measure("outer", input.clone(), natural, (a, c) -> {inner[0] = measure("inner", a.clone(), c, SelectionSort::sort); SelectionSort.sort(a, c);});
+        assert inner[0].compares() == (long) n * (n - 1) / 2 && outer.compares() == inner[0].compares() && outer.nanos() > inner[0].nanos();
+        assert inner[0].swaps() == (ENABLED ? n : 0) && outer.swaps() == (ENABLED ? n : 0) && inner[0].writes() == (ENABLED ? 2L * n : 0) && outer.writes() == (ENABLED ? 2L * n : 0);
+
+        System.out.println("All Tests Passed Successfully!");
+    }
+}
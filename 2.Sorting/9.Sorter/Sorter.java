@@ -0,0 +1,184 @@
+import java.util.Arrays; // Importing Arrays from the java.util Package to Copy the Sample of the Array.
+import java.util.Comparator; // Importing the Comparator Class from the java.util Package to Compare Two Objects and Determine which should come First in an Ordered Sequence.
+
+/**
+ * @author LewisThackeray
+ * @date 17/10/2026
+ *
+ * {@code Sorter} is a Front Door to the Sorting Classes, which Profiles any Array Longer than {@link #INSERTION_THRESHOLD} with a few Hundred Comparisons and then Dispatches to whichever Sort Suits it, so that Callers need not
+ * Choose one themselves.  The {@link Profile} Records the Length, the Proportion of Descents among Sampled Adjacent Pairs (0 for Sorted Input, 1 for Reversed, and about a Half for Random),
+ * the Proportion of Equal Neighbours in a Sorted Sample (which is High when there are few Distinct Keys), and the Type of the Keys.  {@link #choose} then Picks:
+ * <ol>
+ *     <li>{@link Algorithm#INSERTION} ({@link InsertionSort#binarySort}) for Arrays of at most {@link #INSERTION_THRESHOLD} Elements.</li>
+ *     <li>{@link Algorithm#MERGE} ({@link MergeSort#sortBottomUp}, a Natural Merge Sort which Finds the Runs, Reversing Descending ones, and Merges only where Runs Overlap) when
+ *     Almost every Sampled Pair is in Order, or Almost every one is out of Order.  This also Covers Input which is Sorted but Rotated or Offset, which the Sample rarely Catches, as the Merge
+ *     Sort Finds every Run whatever the Sample Saw.</li>
+ *     <li>{@link Algorithm#QUICK_3WAY} ({@link QuickSort#sort3Way}) when the Sample has many Duplicates.</li>
+ *     <li>Otherwise {@link Algorithm#INTRO} ({@link QuickSort#introSort}), whatever the Key Type: even for Strings, whose Comparisons are Dearer, Merge Sort's Fewer Comparisons did not make
+ *     up for its Extra Copying in {@link SorterBenchmark}, so the Key Type is only Recorded in the Profile.</li>
+ * </ol>
+ * Merge Sort needs a Buffer as Long as the Array, so whenever there is not Room for it in the Heap {@link Algorithm#HEAP} ({@link HeapSort#sortBottomUp}), which Sorts in Place in
+ * O(nlog(n)), is used instead.  Each Decision is Logged at the DEBUG Level of the "Sorter" {@link System.Logger}.
+ */
+
+public class Sorter {
+
+    public static final int INSERTION_THRESHOLD = 32; // Creating a Constant for the Longest Array Sorted by Insertion Sort.
+    private static final int PAIR_SAMPLES = 256; // Creating a Constant for the Number of Adjacent Pairs Compared to Estimate the Presortedness.
+    private static final int KEY_SAMPLES = 128; // Creating a Constant for the Number of Keys Sampled to Estimate the Duplicates.
+    private static final System.Logger LOGGER = System.getLogger("Sorter"); // Creating the Logger the Decisions are Logged to.
+
+    /**
+     * This is the Class Constructor.  The Class Constructor is Private to Prevent Instantiations of the Class, as the Class is Designed as a Utility Class with only Static Methods.
+     */
+
+    private Sorter() {}
+
+    /**
+     * This enum Represents the Sorts the Sorter can Dispatch to.
+     */
+
+    public enum Algorithm {INSERTION, MERGE, QUICK_3WAY, INTRO, HEAP}
+
+    /**
+     * This Record Holds what the Profile of an Array Found.
+     * @param length is the Length of the Array.
+     * @param pairs is the Number of Adjacent Pairs Compared.
+     * @param descents is the Number of those Pairs which were out of Order.
+     * @param keys is the Number of Keys Sampled.
+     * @param duplicates is the Number of Sampled Keys Equal to the Previous one once the Sample is Sorted.
+     * @param keyType is the Class of the First Key, or null if the Array is Empty or it is null.
+     */
+
+    public record Profile(int length, int pairs, int descents, int keys, int duplicates, Class<?> keyType) {
+
+        /**
+         * This method returns the Proportion of Sampled Adjacent Pairs which were out of Order.
+         * @return the Descent Ratio, between 0 and 1.
+         */
+
+        public double descentRatio() {return pairs == 0 ? 0 : (double) descents / pairs;}
+
+        /**
+         * This method returns the Proportion of Sampled Keys which Duplicate another.
+         * @return the Duplicate Ratio, between 0 and 1.
+         */
+
+        public double duplicateRatio() {return keys < 2 ? 0 : (double) duplicates / (keys - 1);}
+    }
+
+    /**
+     * This method rearranges the Array in Ascending Order, using the Natural Order and the Sort Chosen for it.
+     * @param array is the Array to be Sorted.
+     * @return the Sort which was used.
+     */
+
+    public static <T extends Comparable<? super T>> Algorithm sort(T[] array) {return sort(array, Comparator.<T>naturalOrder());}
+
+    /**
+     * This method rearranges the Array where the Order is Specified by the Comparator, using the Sort Chosen for it.
+     * @param array is the Array to be Sorted.
+     * @param comparator is the Comparator Specifying the Order.
+     * @return the Sort which was used.
+     */
+
+    public static <T> Algorithm sort(T[] array, Comparator<? super T> comparator) {
+        if (array.length <= INSERTION_THRESHOLD) {InsertionSort.binarySort(array, comparator, 0, array.length - 1); return Algorithm.INSERTION;} // Skipping the Profile, which would Cost more than the Sort.
+        Profile profile = profile(array, comparator); Algorithm algorithm = choose(profile, availableBytes());
+        LOGGER.log(System.Logger.Level.DEBUG, () -> String.format("%s -> %s", profile, algorithm)); sort(array, comparator, algorithm); return algorithm;
+    }
+
+    /**
+     * This method rearranges the Array where the Order is Specified by the Comparator, using the Given Sort.
+     * @param array is the Array to be Sorted.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param algorithm is the Sort to use.
+     */
+
+    public static <T> void sort(T[] array, Comparator<? super T> comparator, Algorithm algorithm) {
+        switch (algorithm) {
+            case INSERTION -> InsertionSort.binarySort(array, comparator, 0, array.length - 1);
+            case MERGE -> MergeSort.sortBottomUp(array, comparator);
+            case QUICK_3WAY -> QuickSort.sort3Way(array, comparator);
+            case INTRO -> QuickSort.introSort(array, comparator);
+            case HEAP -> HeapSort.sortBottomUp(array, comparator);
+        }
+    }
+
+    /**
+     * This method Profiles the Array by Comparing at most {@link #PAIR_SAMPLES} Evenly Spaced Adjacent Pairs and Sorting a Sample of at most {@link #KEY_SAMPLES} Evenly Spaced Keys.
+     * @param array is the Array to Profile, which is not Modified.
+     * @param comparator is the Comparator Specifying the Order.
+     * @return the Profile of the Array.
+     */
+
+    public static <T> Profile profile(T[] array, Comparator<? super T> comparator) {
+        int n = array.length, pairs = Math.min(Math.max(n - 1, 0), PAIR_SAMPLES), descents = 0, keys = Math.min(n, KEY_SAMPLES), duplicates = 0;
+        for (int k = 0; k < pairs; k++) {int i = (int) ((long) k * (n - 1) / pairs); if (comparator.compare(array[i], array[i + 1]) > 0) descents++;}
+        T[] sample = Arrays.copyOf(array, keys); for (int k = 0; k < keys; k++) {sample[k] = array[(int) ((long) k * n / keys)];} InsertionSort.binarySort(sample, comparator, 0, keys - 1);
+        for (int k = 1; k < keys; k++) {if (comparator.compare(sample[k - 1], sample[k]) == 0) duplicates++;}
+        return new Profile(n, pairs, descents, keys, duplicates, n == 0 || array[0] == null ? null : array[0].getClass());
+    }
+
+    /**
+     * This method Chooses the Sort for a Profiled Array.
+     * @param profile is the Profile of the Array.
+     * @param availableBytes is the Number of Bytes Free for a Buffer.
+     * @return the Sort to use.
+     */
+
+    public static Algorithm choose(Profile profile, long availableBytes) {
+        if (profile.length() <= INSERTION_THRESHOLD) return Algorithm.INSERTION; boolean roomForBuffer = 16 + 4L * profile.length() <= availableBytes / 2;
+        if (profile.descentRatio() <= 1.0 / 32 || profile.descentRatio() >= 31.0 / 32) return roomForBuffer ? Algorithm.MERGE : Algorithm.HEAP;
+        return profile.duplicateRatio() >= 1.0 / 16 ? Algorithm.QUICK_3WAY : Algorithm.INTRO;
+    }
+
+    /**
+     * This method returns the Number of Bytes the Heap can still Grow by, Counting both its Free Space and the Space it has not yet Claimed.
+     * @return the Available Bytes.
+     */
+
+    private static long availableBytes() {Runtime runtime = Runtime.getRuntime(); return runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());}
+
+    /**
+     * This method checks that an Array is Sorted where the Order is Specified by the Comparator.
+     * @param array is the Array to Check.
+     * @param comparator is the Comparator Specifying the Order.
+     * @return true if the Array is Sorted, false Otherwise.
+     */
+
+    private static <T> boolean isSorted(T[] array, Comparator<? super T> comparator) {for (int i = 1; i < array.length; i++) {if (comparator.compare(array[i], array[i - 1]) < 0) return false;} return true;}
+
+    /**
+     * This method tests the {@code Sorter} Class by Checking the Choice for each Kind of Input and that every Choice Sorts the Array.
+     * @param args the Command Line Arguments.
+     */
+
+    public static void main(String[] args) {
+        java.util.Random random = new java.util.Random(25); int n = 100000; Comparator<Integer> natural = Comparator.naturalOrder();
+        Integer[] randomInput = random.ints(n).boxed().toArray(Integer[]::new), sorted = new Integer[n], reversed = new Integer[n], nearlySorted = new Integer[n], fewKeys = new Integer[n];
+        for (int i = 0; i < n; i++) {sorted[i] = i; reversed[i] = n - i; nearlySorted[i] = i; fewKeys[i] = random.nextInt(10);}
+        for (int swaps = 0; swaps < n / 1000; swaps++) {int i = random.nextInt(n), j = random.nextInt(n); Integer swap = nearlySorted[i]; nearlySorted[i] = nearlySorted[j]; nearlySorted[j] = swap;}
+        String[] strings = random.ints(n).mapToObj(Integer::toString).toArray(String[]::new);
+
+        // Testing the Choice for each Kind of Input, and that the Array is then Sorted.
+        assert sort(randomInput.clone(), natural) == Algorithm.INTRO && sort(new Integer[] {3, 1, 2}, natural) == Algorithm.INSERTION && sort(new Integer[0], natural) == Algorithm.INSERTION;
+        assert sort(sorted.clone(), natural) == Algorithm.MERGE && sort(reversed.clone(), natural) == Algorithm.MERGE && sort(nearlySorted.clone(), natural) == Algorithm.MERGE;
+        assert sort(fewKeys.clone(), natural) == Algorithm.QUICK_3WAY && sort(strings.clone(), Comparator.<String>naturalOrder()) == Algorithm.INTRO;
+        for (Integer[] input : java.util.List.of(randomInput, sorted, reversed, nearlySorted, fewKeys)) {Integer[] array = input.clone(); sort(array); assert isSorted(array, natural);}
+
+        // Testing Sorted Input which is Rotated, or whose First Elements Belong at the End, where the Sample Misses the Join and Merge Sort must still Find it.
+        for (int shift : new int[] {1, 512, 1024, n / 2}) {
+            Integer[] rotated = new Integer[n], offset = new Integer[n]; for (int i = 0; i < n; i++) {rotated[i] = (i + shift) % n; offset[i] = i < shift ? i + n : i;}
+            for (Integer[] input : java.util.List.of(rotated, offset)) {Integer[] array = input.clone(); assert sort(array, natural) == Algorithm.MERGE && isSorted(array, natural) : shift;}
+        }
+
+        // Testing that Heap Sort Replaces Merge Sort when there is no Room for the Buffer, and that every Algorithm Sorts the Array.
+        Profile profile = profile(sorted, natural); assert profile.descents() == 0 && profile.duplicates() == 0 && profile.keyType() == Integer.class;
+        assert choose(profile, 1 << 30) == Algorithm.MERGE && choose(profile, 1000) == Algorithm.HEAP && choose(profile(strings, Comparator.<String>naturalOrder()), 1000) == Algorithm.INTRO;
+        assert profile(strings, Comparator.<String>naturalOrder()).keyType() == String.class && profile(new Integer[0], natural).equals(new Profile(0, 0, 0, 0, 0, null));
+        for (Algorithm algorithm : Algorithm.values()) {Integer[] array = java.util.Arrays.copyOf(randomInput, algorithm == Algorithm.INSERTION ? 2000 : n); sort(array, natural, algorithm); assert isSorted(array, natural);}
+
+        System.out.println("All Tests Passed Successfully!");
+    }
+}
@@ -0,0 +1,93 @@
+import java.util.Arrays; // Importing Arrays from the java.util Package to Generate the Inputs and to Copy them before each Run.
+import java.util.Comparator; // Importing the Comparator Class from the java.util Package to Sort the Inputs by their Natural Order.
+import java.util.Random; // Importing Random from the java.util Package to Generate the Benchmark Input.
+import java.util.function.Consumer; // Importing Consumer from the java.util.function Package to pass each Sort to the Benchmark Driver.
+
+/**
+ * @author LewisThackeray
+ * @date 17/10/2026
+ *
+ * {@code SorterBenchmark} is a Benchmark Matrix of {@link Sorter} against each Sort it can Dispatch to, on each Class of Input it Distinguishes: Random Integers, Random Strings, Sorted,
+ * Reversed and Nearly Sorted Integers, Sorted Integers Rotated by 1024 or with their First 1024 Moved to the End, Integers with few Distinct Keys, and many Tiny Arrays.  For each Class it
+ * Checks that every Sort's Output is Sorted, and Prints the Best Time of the Measured Rounds of every Sort, the Time of the Sorter (Profile included) Relative to the Best Single Sort,
+ * which should be within 10%, and the Time of the Sort the Sorter Chose, Timed on its own, Relative to the Best.  The Last Ratio Judges the Choice apart from the Noise between Runs of the
+ * Same Sort, which on a Busy or Single-Core Machine can itself Exceed 10%.
+ */
+
+public class SorterBenchmark {
+
+    private static final int MEASURED_ROUNDS = 15; // Creating More Rounds than the Harness's Default, as the Candidates' Times are Compared with each other rather than Reported.
+    private static final int TINY_LENGTH = 16; // Creating a Constant for the Length of each Tiny Array.
+
+    /**
+     * This is the Class Constructor.  The Class Constructor is Private to Prevent Instantiations of the Class, as the Class only Holds the Interleaved Matrix Driver, which Shares the Harness's Warm-Up but not its One-Case-at-a-Time Rounds.
+     */
+
+    private SorterBenchmark() {}
+
+    /**
+     * This method Sorts a Fresh Copy of the Arrays with One Sort, Checks they are Sorted, and Returns the Time it Took.  Only the Sort is Timed, not the Copy, the Garbage Collection or the Check.
+     * @param inputs is the Arrays to Copy and Sort, which are never Modified.
+     * @param comparator is the Comparator Specifying the Order.
+     * @param sort is the Sort to Benchmark, which is Applied to each Array.
+     * @return the Time to Sort all the Arrays, in Nanoseconds.
+     * @throws IllegalStateException if the Sort did not Sort an Array.
+     */
+
+    static <T> long time(T[][] inputs, Comparator<? super T> comparator, Consumer<T[]> sort) {
+        T[][] arrays = inputs.clone(); for (int i = 0; i < arrays.length; i++) {arrays[i] = inputs[i].clone();} System.gc(); // Collecting the Garbage of the Last Run before the Timer Starts.
+        long start = System.nanoTime(); for (T[] array : arrays) {sort.accept(array);} long time = System.nanoTime() - start;
+        for (T[] array : arrays) {for (int i = 1; i < array.length; i++) {if (comparator.compare(array[i], array[i - 1]) < 0) throw new IllegalStateException("The Output is not Sorted at Index " + i + "!");}}
+        return time;
+    }
+
+    /**
+     * This method Times the Sorter and every Sort it can Dispatch to on One Class of Input, and Prints the Row of the Matrix.  Every Round Runs each of them once in turn, Starting from a
+     * Different one each Round, so that they all Share the State of the Just-In-Time Compiler and the Garbage Collector, and the Best Time of the Measured Rounds is Kept for each.
+     * @param name is the Name of the Input Class.
+     * @param inputs is the Arrays of the Input Class.
+     * @param comparator is the Comparator Specifying the Order.
+     * @return true if the Sorter was within 10% of the Best Single Sort.
+     */
+
+    static <T> boolean row(String name, T[][] inputs, Comparator<? super T> comparator) {
+        Sorter.Algorithm[] algorithms = Sorter.Algorithm.values(); long[] best = new long[algorithms.length + 1]; Arrays.fill(best, Long.MAX_VALUE); // Creating the Best Times, the Sorter's Last.
+        boolean quadratic = inputs[0].length > 4096; // Creating a Flag to Skip Insertion Sort where it would be Quadratic.
+        for (int round = 0; round < Benchmark.WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            for (int turn = 0; turn <= algorithms.length; turn++) {
+                int a = (turn + round) % (algorithms.length + 1); if (a < algorithms.length && algorithms[a] == Sorter.Algorithm.INSERTION && quadratic) continue; Sorter.Algorithm algorithm = a < algorithms.length ? algorithms[a] : null;
+                long time = time(inputs, comparator, algorithm == null ? array -> Sorter.sort(array, comparator) : array -> Sorter.sort(array, comparator, algorithm)); if (round >= Benchmark.WARMUP_ROUNDS) best[a] = Math.min(best[a], time);
+            }
+        }
+        StringBuilder line = new StringBuilder(); int fastest = 0; for (int a = 0; a < algorithms.length; a++) {
+            line.append(best[a] == Long.MAX_VALUE ? String.format(" %10s", "-") : String.format(" %10.2f", best[a] / 1e6)); if (best[a] < best[fastest]) fastest = a;
+        }
+        Sorter.Algorithm chosen = Sorter.sort(inputs[0].clone(), comparator); double ratio = (double) best[algorithms.length] / best[fastest], choice = (double) best[chosen.ordinal()] / best[fastest];
+        boolean within = ratio <= 1.10; System.out.printf("%-16s%s %10.2f  %-10s %-10s %5.2f %6.2f %s%n", name, line, best[algorithms.length] / 1e6, chosen, algorithms[fastest], ratio, choice, within ? "ok" : "SLOWER");
+        return within;
+    }
+
+    /**
+     * This method runs the Benchmark, the First Command-Line Argument Optionally Overrides the Number of Elements.
+     * @param args the Command-Line Arguments.
+     */
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000; Random random = new Random(42); Comparator<Integer> natural = Comparator.naturalOrder();
+        Integer[] randomIntegers = random.ints(n).boxed().toArray(Integer[]::new), sorted = new Integer[n], reversed = new Integer[n], nearlySorted = new Integer[n], fewKeys = new Integer[n];
+        Integer[] rotated = new Integer[n], offset = new Integer[n]; int shift = Math.min(1024, n / 2);
+        for (int i = 0; i < n; i++) {sorted[i] = i; reversed[i] = n - i; nearlySorted[i] = i; fewKeys[i] = random.nextInt(16); rotated[i] = (i + shift) % n; offset[i] = i < shift ? i + n : i;}
+        for (int swaps = 0; swaps < n / 1000; swaps++) {int i = random.nextInt(n), j = random.nextInt(n); Integer swap = nearlySorted[i]; nearlySorted[i] = nearlySorted[j]; nearlySorted[j] = swap;}
+        String[] strings = new String[n]; for (int i = 0; i < n; i++) {StringBuilder builder = new StringBuilder(); for (int length = 4 + random.nextInt(12); length > 0; length--) {builder.append((char) ('a' + random.nextInt(26)));} strings[i] = builder.toString();}
+        Integer[][] tiny = new Integer[n / TINY_LENGTH][]; for (int i = 0; i < tiny.length; i++) {tiny[i] = Arrays.copyOfRange(randomIntegers, i * TINY_LENGTH, (i + 1) * TINY_LENGTH);}
+
+        // Printing the Matrix, in Milliseconds.
+        System.out.printf("n = %,d (ms)%n%-16s", n, "input"); for (Sorter.Algorithm algorithm : Sorter.Algorithm.values()) {System.out.printf(" %10s", algorithm);}
+        System.out.printf(" %10s  %-10s %-10s %5s %6s%n", "SORTER", "chosen", "fastest", "ratio", "choice"); boolean within = true;
+        within &= row("random", new Integer[][] {randomIntegers}, natural); within &= row("strings", new String[][] {strings}, Comparator.<String>naturalOrder());
+        within &= row("sorted", new Integer[][] {sorted}, natural); within &= row("reversed", new Integer[][] {reversed}, natural);
+        within &= row("nearly sorted", new Integer[][] {nearlySorted}, natural); within &= row("rotated", new Integer[][] {rotated}, natural);
+        within &= row("offset", new Integer[][] {offset}, natural); within &= row("few keys", new Integer[][] {fewKeys}, natural);
+        within &= row("tiny x " + tiny.length, tiny, natural); System.out.println(within ? "The Sorter was within 10% of the Best Sort on every Input." : "The Sorter was Slower than 10% on some Input.");
+    }
+}
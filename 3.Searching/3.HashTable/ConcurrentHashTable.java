@@ -0,0 +1,306 @@
+import java.util.Random; // Importing Random from the java.util Package to Randomly Choose a Hash Function for each Segment from the Collection of Hash Functions.
+import java.util.concurrent.locks.StampedLock; // Importing StampedLock from the java.util.concurrent.locks Package to Guard each Segment with Optimistic Reads and Exclusive Writes.
+
+/**
+ * @author LewisThackeray
+ * @date 17/10/2026
+ *
+ * {@code ConcurrentHashTable} implements a Thread-Safe <em>Hash Table</em> which represents a Symbol Table of Generic Key: Value Pairs.  The Table is Partitioned into a Power of Two number of
+ * Independent Segments, and each Segment is a Linear Probing Hash Table in the style of {@link HashTable} with its own Parallel Arrays, its own Universal Hashing Parameters and its own Lock.
+ *
+ * <p><i>A Key is Routed to a Segment by the High Bits of its Hash Code, so Writers to Different Segments never Contend.  Each Segment is Guarded by a {@link StampedLock}: insert and delete take
+ * the Write Lock of a Single Segment, while search and contains take an Optimistic Read Stamp, Probe without Blocking and only fall back to the Read Lock if a Writer changed the Segment in
+ * the Meantime.</i></p>
+ *
+ * <p><i>A Resize is Incremental in the style of {@link HashTable.Resizing#INCREMENTAL}: the Segment's Old Arrays are kept alongside its New Arrays, and every insert and delete on the Segment
+ * Migrates at most MIGRATION_STEP Old Slots, so no single Write holds the Write Lock for a Rehash of the whole Segment.  While a Migration is in Progress a Key is Looked for in the New Arrays
+ * first and then in the Old Arrays, and a Key that is Updated moves to the New Arrays.  Searches never Migrate, as they do not take the Write Lock.</i></p>
+ *
+ * <p><i>size() Sums the Segment Counts without Locking, so it is only an Estimate while Writers are Active.</i></p>
+ *
+ * @param Key is the type of keys maintained by the Symbol Table, the keys must be Comparable.
+ * @param Value is the type of mapped values.
+ */
+
+public class ConcurrentHashTable<Key extends Comparable<Key>, Value> {
+
+    private static final int INITIAL_CAPACITY = 16; // Creating a Constant for the Initial Capacity of each Segment.
+    private static final int MIGRATION_STEP = 8; // Creating a Constant for the Number of Old Slots each Write Migrates during an Incremental Resize of its Segment.
+    private final Segment<Key, Value>[] segments; // Creating an Array to Store the Independently Locked Segments.
+    private final int segmentMask; // Creating a Mask to Select a Segment from the High Bits of a Hash Code.
+
+    /**
+     * This is an Overloaded Class Constructor which Initialises an Empty Hash Table with One Segment per Available Processor.
+     */
+
+    public ConcurrentHashTable() {this(Runtime.getRuntime().availableProcessors());}
+
+    /**
+     * This is an Overloaded Class Constructor which Initialises an Empty Hash Table with enough Segments for the Specified Number of Concurrent Writers.
+     * @param concurrencyLevel is the Expected Number of Concurrent Writers, which is Rounded up to a Power of Two to give the Number of Segments.
+     * @throws IllegalArgumentException if the concurrency level is less than 1.
+     */
+
+    @SuppressWarnings("unchecked") public ConcurrentHashTable(int concurrencyLevel) {
+        if (concurrencyLevel < 1) throw new IllegalArgumentException("The Concurrency Level must be at Least 1!");
+        int numberOfSegments = Integer.highestOneBit(concurrencyLevel); if (numberOfSegments < concurrencyLevel) numberOfSegments <<= 1; // Rounding up to a Power of Two.
+        segments = (Segment<Key, Value>[]) new Segment<?, ?>[numberOfSegments]; segmentMask = numberOfSegments - 1; for (int i = 0; i < numberOfSegments; i++) {segments[i] = new Segment<>(INITIAL_CAPACITY);}
+    }
+
+    /**
+     * This method returns the Segment Responsible for a Key, using the High Bits of the Hash Code so the Segment Choice is Independent of the Slot Choice within the Segment.
+     * @param key of type Key is the Key to Route.
+     * @return the Segment which Stores the Key.
+     */
+
+    private Segment<Key, Value> segmentFor(Key key) {int h = key.hashCode() * 0x9E3779B9; return segments[(h >>> 16) & segmentMask];}
+
+    /**
+     * This method inserts a Key: Value Pair into the Hash Table, however, if the Key already exists in the Hash Table, its Value is Updated with the New Value.
+     * @param key of type Key is the Key to be Inserted into the Hash Table.
+     * @param value of type Value is the corresponding Value to be Inserted into the Hash Table, a NULL Value Deletes the Key.
+     * @throws IllegalArgumentException if the Key to be Inserted into the Hash Table is NULL.
+     */
+
+    public void insert(Key key, Value value) {
+        if (key == null) throw new IllegalArgumentException("The Key cannot be NULL!"); if (value == null) {delete(key); return;} // Deleting the Key from the Hash Table if the Value is NULL.
+        Segment<Key, Value> segment = segmentFor(key); long stamp = segment.lock.writeLock(); try {segment.insert(key, value);} finally {segment.lock.unlockWrite(stamp);}
+    }
+
+    /**
+     * This method returns the Value associated with a Key without Blocking, unless a Writer Modified the Key's Segment during the Probe.  An Exception Thrown by the Lock-Free Probe, such
+     * as one from the equals Method of a Key Read while it was being Written, is Discarded and the Probe Retried under the Read Lock, unless no Writer Intervened, when it is Rethrown.
+     * @param key of type Key is the Key whose Value is to be Returned.
+     * @return a Value which corresponds to the Key passed into the method in the Key: Value Pair, or NULL is returned if the Key is not in the Hash Table.
+     * @throws IllegalArgumentException if the Key passed into the method is NULL.
+     */
+
+    public Value search(Key key) {
+        if (key == null) throw new IllegalArgumentException("The Key cannot be NULL!"); Segment<Key, Value> segment = segmentFor(key);
+        long stamp = segment.lock.tryOptimisticRead(); if (stamp != 0) { // Optimistic Lock-Free Probe.
+            try {Value value = segment.search(key); if (segment.lock.validate(stamp)) return value;} catch (RuntimeException e) {if (segment.lock.validate(stamp)) throw e;}
+        }
+        stamp = segment.lock.readLock(); try {return segment.search(key);} finally {segment.lock.unlockRead(stamp);} // Retrying under the Read Lock after a Concurrent Write.
+    }
+
+    /**
+     * This method removes the Specified Key and its associated Value from the Hash Table.
+     * @param key of type Key is the Key of the Key: Value Pair to be Removed from the Hash Table.
+     * @throws IllegalArgumentException if the Key passed into the method is NULL.
+     */
+
+    public void delete(Key key) {
+        if (key == null) throw new IllegalArgumentException("The Key cannot be NULL.");
+        Segment<Key, Value> segment = segmentFor(key); long stamp = segment.lock.writeLock(); try {segment.delete(key);} finally {segment.lock.unlockWrite(stamp);}
+    }
+
+    /**
+     * This method tests if a Specific Key is present within a Hash Table.
+     * @param key of type Key is the Key to Check Membership of in the Hash Table.
+     * @return a Boolean Value where true is returned if the Hash Table contains the Specified Key, false if the Specified Key is not present in the Hash Table.
+     * @throws IllegalArgumentException if the Key passed into the method is NULL.
+     */
+
+    public boolean contains(Key key) {if (key == null) throw new IllegalArgumentException("The Key cannot be NULL."); return search(key) != null;}
+
+    /**
+     * This method returns the Number of Key: Value Pairs in the Hash Table, which is only an Estimate while other Threads are Inserting or Deleting.
+     * @return an Integer representing the Number of Key: Value Pairs in the Hash Table.
+     */
+
+    public int size() {int size = 0; for (Segment<Key, Value> segment : segments) {size += segment.numberOfPairs;} return size;}
+
+    /**
+     * This method tests if the Hash Table is Empty.
+     * @return a Boolean Value where true is returned if the Hash Table is Empty, false otherwise.
+     */
+
+    public boolean isEmpty() {return size() == 0;}
+
+    /**
+     * This Nested Class implements one Segment of the Hash Table as a Linear Probing Hash Table with Backward-Shift Deletion and Incremental Resizing.  All Fields are only Written while
+     * holding the Write Lock; the search method reads them into Locals first so that an Optimistic Reader always sees Arrays and a Slot Count that belong together and never Indexes out of Bounds.
+     */
+
+    private static final class Segment<Key extends Comparable<Key>, Value> {
+
+        private final StampedLock lock = new StampedLock(); // Creating the Lock which Guards this Segment.
+        private Key keys[]; private Value values[]; // Creating Parallel Arrays to Store the Key: Value Pairs in this Segment.
+        private Key oldKeys[]; private Value oldValues[]; // Creating Parallel Arrays to Store the Pairs not yet Migrated by an Incremental Resize (NULL when no Resize is in Progress).
+        private int oldParam1, oldParam2, migrated; // Creating Variables to Store the Hashing Parameters of the Old Arrays and the Number of Old Slots already Migrated.
+        private volatile int numberOfPairs; // Creating a Variable to Store the Number of Pairs, Volatile so size() can Read it without the Lock.
+        private int param1, param2; // Creating Variables to Store this Segment's Parameters for Universal Hashing.
+
+        /**
+         * This is the Class Constructor which Initialises an Empty Segment with the Specified Capacity and Randomly Generates its Parameters for Universal Hashing.
+         * @param capacity is an Integer specifying the Number of Slots in the Segment.
+         */
+
+        @SuppressWarnings("unchecked") private Segment(int capacity) {
+            keys = (Key[]) new Comparable<?>[capacity]; values = (Value[]) new Object[capacity];
+            Random random = new Random(); param1 = random.nextInt(capacity - 1) + 1; param2 = random.nextInt(capacity); // Initialising the Universal Hashing Parameters.
+        }
+
+        /**
+         * This method returns the Hash Value for a Specified Key using Universal Hashing.
+         * @param key of type Key is the Key to be Hashed.
+         * @param a is the First Universal Hashing Parameter.
+         * @param b is the Second Universal Hashing Parameter.
+         * @param m is the Number of Slots.
+         * @return an Integer representing the Slot for the Key (between 0 and m - 1).
+         */
+
+        private static int hash(Object key, int a, int b, int m) {int primeNumber = 15485863; return (((a * key.hashCode() + b) % primeNumber) + primeNumber) % m;}
+
+        /**
+         * This method returns the Value associated with a Key in this Segment, it may be Called without the Lock so it Probes at most One Lap of a Consistent Snapshot of the New Arrays and
+         * then, during an Incremental Resize, of the Old Arrays.
+         * @param key of type Key is the Key whose Value is to be Returned.
+         * @return the Value for the Key, or NULL if the Key was not Found.
+         */
+
+        private Value search(Key key) {
+            Value value = probe(key, keys, values, param1, param2); if (value != null) return value; Key[] k = oldKeys; Value[] v = oldValues; // Snapshotting the Old Arrays into Locals.
+            return k == null || v == null ? null : probe(key, k, v, oldParam1, oldParam2); // Falling Back to the Old Arrays during an Incremental Resize.
+        }
+
+        /**
+         * This method Probes a Snapshot of One Pair of Parallel Arrays for a Key, for at most One Lap so that a Torn Snapshot never Loops or Indexes out of Bounds.
+         * @param key of type Key is the Key whose Value is to be Returned.
+         * @param k is the Array of Keys to Probe.
+         * @param v is the Array of Values which Parallels the Keys.
+         * @param a is the First Universal Hashing Parameter of the Arrays.
+         * @param b is the Second Universal Hashing Parameter of the Arrays.
+         * @return the Value for the Key, or NULL if the Key was not Found.
+         */
+
+        private static <Key, Value> Value probe(Key key, Key[] k, Value[] v, int a, int b) {
+            if (v.length != k.length) return null; int m = k.length; int i = hash(key, a, b, m);
+            for (int probes = 0; probes < m && k[i] != null; probes++) {if (k[i].equals(key)) return v[i]; i = (i + 1) % m;} return null;
+        }
+
+        /**
+         * This method inserts or updates a Key: Value Pair in this Segment, the Caller must hold the Write Lock.
+         * @param key of type Key is the Key to be Inserted.
+         * @param value of type Value is the corresponding Value to be Inserted.
+         */
+
+        private void insert(Key key, Value value) {
+            if (oldKeys == null && numberOfPairs >= keys.length / 2) resize(2 * keys.length); // If the Segment is 50% Full, Double its Size.
+            if (oldKeys != null) {migrate(MIGRATION_STEP); int old = findOld(key); if (old >= 0) {deleteOld(old); numberOfPairs--;}} // Moving an Updated Key out of the Old Arrays.
+            put(key, value);
+        }
+
+        /**
+         * This method inserts or updates a Key: Value Pair in the New Arrays of this Segment, the Caller must hold the Write Lock.
+         * @param key of type Key is the Key to be Inserted.
+         * @param value of type Value is the corresponding Value to be Inserted.
+         */
+
+        private void put(Key key, Value value) {
+            int m = keys.length; int i = hash(key, param1, param2, m); while (keys[i] != null) {if (keys[i].equals(key)) {values[i] = value; return;} i = (i + 1) % m;}
+            keys[i] = key; values[i] = value; numberOfPairs++;
+        }
+
+        /**
+         * This method removes a Key from this Segment using Backward-Shift Deletion, the Caller must hold the Write Lock.
+         * @param key of type Key is the Key to be Removed.
+         */
+
+        private void delete(Key key) {
+            if (oldKeys != null) migrate(MIGRATION_STEP); int m = keys.length; int hole = hash(key, param1, param2, m); while (keys[hole] != null && !keys[hole].equals(key)) {hole = (hole + 1) % m;}
+            if (keys[hole] == null) {int old = findOld(key); if (old >= 0) {deleteOld(old); numberOfPairs--;} return;} // Falling Back to the Old Arrays during an Incremental Resize.
+            numberOfPairs--; int slot = (hole + 1) % m; int distance = 1; while (keys[slot] != null) { // Shifting the Rest of the Cluster Back into the Hole.
+                int length = (slot - hash(keys[slot], param1, param2, m) + m) % m; if (length >= distance) {keys[hole] = keys[slot]; values[hole] = values[slot]; hole = slot; distance = 0;}
+                slot = (slot + 1) % m; distance++;
+            } keys[hole] = null; values[hole] = null;
+            if (oldKeys == null && numberOfPairs > 0 && numberOfPairs <= m / 8 && m > INITIAL_CAPACITY) resize(m / 2); // If the Segment is only 1/8 Full, Halve its Size.
+        }
+
+        /**
+         * This method Starts an Incremental Resize of this Segment to the Specified Capacity, keeping the Current Arrays as the Old Arrays and Starting with Empty New Arrays and Fresh Universal
+         * Hashing Parameters, the Caller must hold the Write Lock.
+         * @param newCapacity is an Integer Specifying the Updated Number of Slots in the Segment.
+         */
+
+        private void resize(int newCapacity) {
+            Segment<Key, Value> temp = new Segment<>(newCapacity); oldKeys = keys; oldValues = values; oldParam1 = param1; oldParam2 = param2; migrated = 0;
+            keys = temp.keys; values = temp.values; param1 = temp.param1; param2 = temp.param2;
+        }
+
+        /**
+         * This method Migrates up to the Specified Number of Old Slots into the New Arrays, and Drops the Old Arrays once every Old Slot has been Migrated, the Caller must hold the Write Lock.
+         * Slots before migrated are always Empty, because each Pair is Removed from the Old Arrays with Backward-Shift Deletion, which only ever moves Pairs into the Slot being Emptied.
+         * @param step is the Maximum Number of Old Slots to Migrate.
+         */
+
+        private void migrate(int step) {
+            while (oldKeys != null && step-- > 0) {
+                if (migrated == oldKeys.length) {oldKeys = null; oldValues = null; return;} if (oldKeys[migrated] == null) {migrated++; continue;} // Skipping an Empty Old Slot.
+                Key key = oldKeys[migrated]; Value value = oldValues[migrated]; deleteOld(migrated); numberOfPairs--; put(key, value); // Moving the Pair into the New Arrays.
+            }
+        }
+
+        /**
+         * This method returns the Slot of the Old Arrays which holds a Key during an Incremental Resize, the Caller must hold the Write Lock.
+         * @param key of type Key is the Key to Find.
+         * @return an Integer representing the Old Slot which holds the Key, or -1 if there is no Resize in Progress or the Key is not in the Old Arrays.
+         */
+
+        private int findOld(Key key) {
+            if (oldKeys == null) return -1; int m = oldKeys.length; int i = hash(key, oldParam1, oldParam2, m);
+            while (oldKeys[i] != null) {if (oldKeys[i].equals(key)) return i; i = (i + 1) % m;} return -1;
+        }
+
+        /**
+         * This method removes the Pair in a Slot of the Old Arrays using Backward-Shift Deletion, the Caller must hold the Write Lock.
+         * @param hole is the Index of the Old Slot to Empty.
+         */
+
+        private void deleteOld(int hole) {
+            int m = oldKeys.length; int slot = (hole + 1) % m; int distance = 1; while (oldKeys[slot] != null) {
+                int length = (slot - hash(oldKeys[slot], oldParam1, oldParam2, m) + m) % m;
+                if (length >= distance) {oldKeys[hole] = oldKeys[slot]; oldValues[hole] = oldValues[slot]; hole = slot; distance = 0;} slot = (slot + 1) % m; distance++;
+            } oldKeys[hole] = null; oldValues[hole] = null;
+        }
+    }
+
+    /**
+     * This method tests the {@code ConcurrentHashTable} Class by having Several Threads Insert, Search and Delete Disjoint Ranges of Keys at the same Time.
+     * @param args the Command-Line Arguments.
+     * @throws InterruptedException if the Main Thread is Interrupted while Waiting for the Worker Threads.
+     */
+
+    public static void main(String[] args) throws InterruptedException {
+        ConcurrentHashTable<Integer, Integer> hashTable = new ConcurrentHashTable<>(4); Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int offset = t * 100000; threads[t] = new Thread(() -> {
+                for (int i = offset; i < offset + 100000; i++) {hashTable.insert(i, i);} for (int i = offset; i < offset + 100000; i++) {assert hashTable.search(i) == i;}
+                for (int i = offset; i < offset + 100000; i += 2) {hashTable.delete(i);}
+            }); threads[t].start();
+        } for (Thread thread : threads) {thread.join();}
+        assert hashTable.size() == 200000; for (int i = 0; i < 400000; i++) {assert (i % 2 == 0) == !hashTable.contains(i);}
+
+        // Testing that every Key is Reachable, and Updated in Place, while the Incremental Resizes of a Single Segment are in Progress in both Directions.
+        ConcurrentHashTable<Integer, Integer> single = new ConcurrentHashTable<>(1); for (int i = 0; i < 50000; i++) {single.insert(i, i); assert single.search(i) == i && single.search(i / 2) == i / 2;}
+        for (int i = 0; i < 50000; i += 3) {single.insert(i, -i); assert single.search(i) == -i;} assert single.size() == 50000;
+        for (int i = 0; i < 49990; i++) {single.delete(i); assert !single.contains(i) && single.search(49999) == 49999 && single.search(i + 1) == ((i + 1) % 3 == 0 ? -(i + 1) : i + 1);}
+        assert single.size() == 10;
+
+        // Testing that an Exception from a Torn Optimistic Probe is Retried under the Read Lock, by a Key whose equals Method Writes the Segment once and Throws, and that it is Rethrown otherwise.
+        class Torn implements Comparable<Torn> { // Creating a Key whose equals Method can Simulate a Probe which Read a Slot while it was being Written.
+            StampedLock lock; int failures; boolean broken;
+            @Override public boolean equals(Object other) {
+                if (broken) throw new UnsupportedOperationException(); if (failures == 0) return this == other;
+                failures--; long w = lock.writeLock(); lock.unlockWrite(w); throw new ArrayIndexOutOfBoundsException(); // Invalidating the Optimistic Stamp, as a Writer would.
+            }
+            @Override public int hashCode() {return 7;}
+            @Override public int compareTo(Torn other) {return Integer.compare(System.identityHashCode(this), System.identityHashCode(other));}
+        }
+        ConcurrentHashTable<Torn, String> torn = new ConcurrentHashTable<>(1); Torn flaky = new Torn(), broken = new Torn(); torn.insert(flaky, "flaky"); torn.insert(broken, "broken");
+        flaky.lock = torn.segmentFor(flaky).lock; flaky.failures = 1; assert "flaky".equals(torn.search(flaky)) && flaky.failures == 0;
+        broken.broken = true; try {torn.search(broken); assert false;} catch (UnsupportedOperationException e) {assert torn.size() == 2;}
+
+        System.out.println("The Value of Key 7 is: " + hashTable.search(7)); System.out.println("All Tests Passed Successfully!");
+    }
+}
@@ -21,6 +21,17 @@ import java.util.Random; // Importing Random from the java.util Package to Rando
  * than the number of slots in the hash table and the colleciton is said to be universal if: for any two distinct keys, the probability that they hash to the same slot, using a hash function
  * randomly chosen from the collection is 1/m where m is the number of slots in the hash table.</i></p>
  *
+ * <p><i>{@code HashTable} can also be Constructed in {@link Probing#ROBIN_HOOD} Mode.  Robin Hood Hashing still probes linearly, but orders each cluster by Probe Length: when an Inserted Key
+ * has Travelled further from its Hash Slot than the Key Occupying the Current Slot, the two Swap Places and the Displaced Key carries on Probing.  This keeps the Maximum Probe Length Small and
+ * lets an Unsuccessful Search stop as soon as it reaches a Key that is Closer to its own Hash Slot than the Search Key would be.</i></p>
+ *
+ * <p><i>In both Modes, Deletion uses Backward-Shift Deletion rather than Tombstones: the Keys after the Deleted Slot are moved back one Cluster Position at a time, so a Delete never re-hashes
+ * or re-inserts a Key and the Table never fills up with Deleted Markers.</i></p>
+ *
+ * <p><i>By default a Resize Rebuilds the whole Table at once, which Stalls the Caller for a time Proportional to the Size of the Table.  In {@link Resizing#INCREMENTAL} Mode the Old Arrays
+ * are kept alongside the New Arrays instead, and every insert, search and delete Migrates at most MIGRATION_STEP Old Slots into the New Arrays, so the Cost of a Resize is Spread evenly over
+ * the Operations that follow it.  While a Migration is in Progress, a Key is Looked for in the New Arrays first and then in the Old Arrays, and a Key that is Updated moves to the New Arrays.</i></p>
+ *
  * @param Key is the type of keys maintained by the Symbol Table, the keys must be Comparable.
  * @param Value is the type of mapped values.
  */
@@ -28,9 +39,34 @@ import java.util.Random; // Importing Random from the java.util Package to Rando
 public class HashTable<Key extends Comparable<Key>, Value> {
 
     private static final int INITIAL_CAPACITY = 16; // Creating a Constant for the Initial Capacity of the Hash Table.
+    private static final Object HIT = new Object(); // Creating a Marker for a Staged Key which was Found in its Home Slot.
+    private static final int BATCH_GROUP = 16; // Creating a Constant for the Number of Keys whose Probes are Interleaved by the Batch Operations.
+    private static final int MIGRATION_STEP = 8; // Creating a Constant for the Number of Old Slots each Operation Migrates during an Incremental Resize.
     private Key keys[]; private Value values[]; // Creating Parallel Arrays to Store the Key: Value Pairs in the Symbol Table Implementation.
     private int numberOfPairs; private int numberOfSlots; // Creating Variables to Store the Number of Pairs and the Number of Slots in the Hash Table.
     private int param1, param2; // Creating Variables to Store the Parameters for Universal Hashing.
+    private final Probing probing; // Creating a Variable to Store the Collision Resolution Mode of the Hash Table.
+    private final Resizing resizing; // Creating a Variable to Store the Resizing Mode of the Hash Table.
+    private Key oldKeys[]; private Value oldValues[]; // Creating Parallel Arrays to Store the Pairs not yet Migrated by an Incremental Resize (NULL when no Resize is in Progress).
+    private int oldSlots, oldParam1, oldParam2, migrated; // Creating Variables to Store the Size and Hashing Parameters of the Old Arrays and the Number of Old Slots already Migrated.
+
+    /**
+     * This Enum lists the Collision Resolution Modes Supported by the Hash Table.
+     */
+
+    public enum Probing {
+        /** Plain Linear Probing where a Key is placed in the First Empty Slot after its Hash Slot. */ LINEAR,
+        /** Linear Probing where each Cluster is kept Ordered by Probe Length (Robin Hood Hashing). */ ROBIN_HOOD
+    }
+
+    /**
+     * This Enum lists the Resizing Modes Supported by the Hash Table.
+     */
+
+    public enum Resizing {
+        /** The whole Table is Rebuilt by the Operation which Triggers the Resize. */ ALL_AT_ONCE,
+        /** The Old and New Arrays Coexist and each Operation Migrates a Bounded Number of Old Slots. */ INCREMENTAL
+    }
 
     /**
      * This is an Overloaded Class Constructor which Initialises an Empty Hash Table with INITIAL_CAPACITY Slots.
@@ -44,9 +80,46 @@ public class HashTable<Key extends Comparable<Key>, Value> {
      * @throws IllegalArgumentException if the capacity is invalid integer.
      */
 
-    @SuppressWarnings("unchecked") public HashTable(int capacity) {
-        if (capacity < 0) throw new IllegalArgumentException("The Capacity cannot be Negative!");
-        numberOfSlots = capacity; numberOfPairs = 0; keys = (Key[]) new Comparable[capacity]; values = (Value[]) new Comparable[capacity];
+    public HashTable(int capacity) {this(capacity, Probing.LINEAR);}
+
+    /**
+     * This is an Overloaded Class Constructor which Initialises an Empty Hash Table with INITIAL_CAPACITY Slots using the Specified Collision Resolution Mode.
+     * @param probing is the Collision Resolution Mode of the Hash Table.
+     */
+
+    public HashTable(Probing probing) {this(INITIAL_CAPACITY, probing);}
+
+    /**
+     * This is an Overloaded Class Constructor which Initialises an Empty Hash Table with INITIAL_CAPACITY Slots using the Specified Collision Resolution and Resizing Modes.
+     * @param probing is the Collision Resolution Mode of the Hash Table.
+     * @param resizing is the Resizing Mode of the Hash Table.
+     */
+
+    public HashTable(Probing probing, Resizing resizing) {this(INITIAL_CAPACITY, probing, resizing);}
+
+    /**
+     * This is an Overloaded Class Constructor which Initialises an Empty Hash Table with the Specified Capacity and Collision Resolution Mode and Randomly Generates the Parameters for
+     * Universal Hashing.
+     * @param capacity is an Integer specfying the Number of Slots in the Hash Table.
+     * @param probing is the Collision Resolution Mode of the Hash Table.
+     * @throws IllegalArgumentException if the capacity is invalid integer or the probing mode is NULL.
+     */
+
+    public HashTable(int capacity, Probing probing) {this(capacity, probing, Resizing.ALL_AT_ONCE);}
+
+    /**
+     * This is an Overloaded Class Constructor which Initialises an Empty Hash Table with the Specified Capacity, Collision Resolution Mode and Resizing Mode and Randomly Generates the
+     * Parameters for Universal Hashing.
+     * @param capacity is an Integer specfying the Number of Slots in the Hash Table.
+     * @param probing is the Collision Resolution Mode of the Hash Table.
+     * @param resizing is the Resizing Mode of the Hash Table.
+     * @throws IllegalArgumentException if the capacity is invalid integer or the probing or resizing mode is NULL.
+     */
+
+    @SuppressWarnings("unchecked") public HashTable(int capacity, Probing probing, Resizing resizing) {
+        if (capacity < 0) throw new IllegalArgumentException("The Capacity cannot be Negative!"); if (probing == null) throw new IllegalArgumentException("The Probing Mode cannot be NULL!");
+        if (resizing == null) throw new IllegalArgumentException("The Resizing Mode cannot be NULL!");
+        this.probing = probing; this.resizing = resizing; numberOfSlots = capacity; numberOfPairs = 0; keys = (Key[]) new Comparable<?>[capacity]; values = (Value[]) new Comparable<?>[capacity];
         Random random = new Random(); param1 = random.nextInt(numberOfSlots - 1) + 1; param2 = random.nextInt(numberOfSlots); // Initialising the Universal Hashing Parameters.
     }
 
@@ -56,16 +129,84 @@ public class HashTable<Key extends Comparable<Key>, Value> {
      * @return an Integer representing the Slot where the Key: Value Pair will be Stored in the Hash Table (between 0 and numberOfSlots - 1).
      */
 
-    private int hash(Key key) {int primeNumber = 15485863; return (((param1 * key.hashCode() + param2) % primeNumber) + primeNumber) % numberOfSlots;}
+    private int hash(Key key) {return hash(key, param1, param2, numberOfSlots);}
 
     /**
-     * This method resizies the Hash Table to the Specified Capacity.
+     * This method returns the Hash Value for a Specified Key using the Universal Hash Function with the Specified Parameters.
+     * @param key of type Key is the Key to be Hashed.
+     * @param a is the First Universal Hashing Parameter.
+     * @param b is the Second Universal Hashing Parameter.
+     * @param m is the Number of Slots.
+     * @return an Integer representing the Slot for the Key (between 0 and m - 1).
+     */
+
+    private static int hash(Object key, int a, int b, int m) {int primeNumber = 15485863; return (((a * key.hashCode() + b) % primeNumber) + primeNumber) % m;}
+
+    /**
+     * This method returns the Probe Length of the Key Stored in a Slot, which is how many Slots the Key has been Displaced from its Hash Slot.
+     * @param slot is the Index of an Occupied Slot in the Hash Table.
+     * @return an Integer representing the Probe Length, where 0 means the Key is Stored in its Hash Slot.
+     */
+
+    private int probeLength(int slot) {return (slot - hash(keys[slot]) + numberOfSlots) % numberOfSlots;}
+
+    /**
+     * This method returns the Probe Length of the Key Stored in a Slot of the Old Arrays during an Incremental Resize.
+     * @param slot is the Index of an Occupied Slot in the Old Arrays.
+     * @return an Integer representing the Probe Length, where 0 means the Key is Stored in its Old Hash Slot.
+     */
+
+    private int oldProbeLength(int slot) {return (slot - hash(oldKeys[slot], oldParam1, oldParam2, oldSlots) + oldSlots) % oldSlots;}
+
+    /**
+     * This method resizies the Hash Table to the Specified Capacity, carrying the new Universal Hashing Parameters across with the new Arrays.
      * @param newCapacity is an Integer Specifying the Updated Number of Slots in the Hash Table.
      */
 
     @SuppressWarnings("unchecked") private void resize(int newCapacity) {
-        HashTable<Key, Value> temp = new HashTable<>(newCapacity); for (int i = 0; i < numberOfSlots; i++) {if (keys[i] != null) temp.insert(keys[i], values[i]);}
-        keys = temp.keys; values = temp.values; numberOfSlots = temp.numberOfSlots;
+        if (resizing == Resizing.INCREMENTAL) { // Keeping the Old Arrays for Migration and Starting with Empty New Arrays.
+            oldKeys = keys; oldValues = values; oldSlots = numberOfSlots; oldParam1 = param1; oldParam2 = param2; migrated = 0;
+            numberOfSlots = newCapacity; keys = (Key[]) new Comparable<?>[newCapacity]; values = (Value[]) new Comparable<?>[newCapacity];
+            Random random = new Random(); param1 = random.nextInt(numberOfSlots - 1) + 1; param2 = random.nextInt(numberOfSlots); return; // Initialising the Universal Hashing Parameters.
+        }
+        HashTable<Key, Value> temp = new HashTable<>(newCapacity, probing); for (int i = 0; i < numberOfSlots; i++) {if (keys[i] != null) temp.insert(keys[i], values[i]);}
+        keys = temp.keys; values = temp.values; numberOfSlots = temp.numberOfSlots; param1 = temp.param1; param2 = temp.param2;
+    }
+
+    /**
+     * This method Migrates up to the Specified Number of Old Slots into the New Arrays, and Drops the Old Arrays once every Old Slot has been Migrated.  Slots before migrated are always
+     * Empty, because each Pair is Removed from the Old Arrays with Backward-Shift Deletion, which only ever moves Pairs into the Slot being Emptied.
+     * @param step is the Maximum Number of Old Slots to Migrate.
+     */
+
+    private void migrate(int step) {
+        while (oldKeys != null && step-- > 0) {
+            if (migrated == oldSlots) {oldKeys = null; oldValues = null; return;} if (oldKeys[migrated] == null) {migrated++; continue;} // Skipping an Empty Old Slot.
+            Key key = oldKeys[migrated]; Value value = oldValues[migrated]; deleteOld(migrated); numberOfPairs--; put(key, value); // Moving the Pair into the New Arrays.
+        }
+    }
+
+    /**
+     * This method returns the Slot of the Old Arrays which holds a Key during an Incremental Resize.
+     * @param key of type Key is the Key to Find.
+     * @return an Integer representing the Old Slot which holds the Key, or -1 if there is no Resize in Progress or the Key is not in the Old Arrays.
+     */
+
+    private int findOld(Key key) {
+        if (oldKeys == null) return -1; int i = hash(key, oldParam1, oldParam2, oldSlots);
+        while (oldKeys[i] != null) {if (oldKeys[i].equals(key)) return i; i = (i + 1) % oldSlots;} return -1;
+    }
+
+    /**
+     * This method removes the Pair in a Slot of the Old Arrays using Backward-Shift Deletion.
+     * @param hole is the Index of the Old Slot to Empty.
+     */
+
+    private void deleteOld(int hole) {
+        int slot = (hole + 1) % oldSlots; int distance = 1; while (oldKeys[slot] != null) {
+            int length = (slot - hash(oldKeys[slot], oldParam1, oldParam2, oldSlots) + oldSlots) % oldSlots;
+            if (length >= distance) {oldKeys[hole] = oldKeys[slot]; oldValues[hole] = oldValues[slot]; hole = slot; distance = 0;} slot = (slot + 1) % oldSlots; distance++;
+        } oldKeys[hole] = null; oldValues[hole] = null;
     }
 
     /**
@@ -77,8 +218,44 @@ public class HashTable<Key extends Comparable<Key>, Value> {
 
     public void insert(Key key, Value value) {
         if (key == null) throw new IllegalArgumentException("The Key cannot be NULL!"); if (value == null) {delete(key); return;} // Deleting the Key from the Hash Table if the Value is NULL.
-        if (numberOfPairs >= numberOfSlots / 2) resize(2 * numberOfSlots); // If the Hash Table is 50% Full, Double the Table Size.
-        int i = hash(key); while(keys[i] != null) {if (keys[i].equals(key)) {values[i] = value; return;} i = (i + 1) % numberOfSlots;} keys[i] = key; values[i] = value; numberOfPairs++;
+        if (oldKeys == null && numberOfPairs >= numberOfSlots / 2) resize(2 * numberOfSlots); // If the Hash Table is 50% Full, Double the Table Size.
+        if (oldKeys != null) {migrate(MIGRATION_STEP); int old = findOld(key); if (old >= 0) {deleteOld(old); numberOfPairs--;}} // Moving an Updated Key out of the Old Arrays.
+        put(key, value);
+    }
+
+    /**
+     * This method stores a Key: Value Pair in the New Arrays without Checking whether the Hash Table needs to be Resized.
+     * @param key of type Key is the Key to be Inserted into the Hash Table.
+     * @param value of type Value is the corresponding Value to be Inserted into the Hash Table.
+     */
+
+    private void put(Key key, Value value) {put(key, value, hash(key));}
+
+    /**
+     * This method stores a Key: Value Pair in the New Arrays, Starting the Probe at an Already Computed Hash Slot.
+     * @param key of type Key is the Key to be Inserted into the Hash Table.
+     * @param value of type Value is the corresponding Value to be Inserted into the Hash Table.
+     * @param i is the Hash Slot of the Key.
+     */
+
+    private void put(Key key, Value value, int i) {
+        if (probing == Probing.ROBIN_HOOD) {insertRobinHood(key, value, i); return;}
+        while(keys[i] != null) {if (keys[i].equals(key)) {values[i] = value; return;} i = (i + 1) % numberOfSlots;} keys[i] = key; values[i] = value; numberOfPairs++;
+    }
+
+    /**
+     * This method inserts a Key: Value Pair using Robin Hood Hashing, where a Key which has Probed further than the Resident of a Slot takes that Slot and the Resident carries on Probing.
+     * @param key of type Key is the Key to be Inserted into the Hash Table.
+     * @param value of type Value is the corresponding Value to be Inserted into the Hash Table.
+     * @param i is the Hash Slot of the Key.
+     */
+
+    private void insertRobinHood(Key key, Value value, int i) {
+        int length = 0; while (keys[i] != null) {
+            if (keys[i].equals(key)) {values[i] = value; return;} int residentLength = probeLength(i);
+            if (residentLength < length) {Key tempKey = keys[i]; Value tempValue = values[i]; keys[i] = key; values[i] = value; key = tempKey; value = tempValue; length = residentLength;} // Robbing the Rich Slot.
+            i = (i + 1) % numberOfSlots; length++;
+        } keys[i] = key; values[i] = value; numberOfPairs++;
     }
 
     /**
@@ -90,23 +267,45 @@ public class HashTable<Key extends Comparable<Key>, Value> {
 
     public Value search(Key key) {
         if (key == null) throw new IllegalArgumentException("The Key cannot be NULL!");
-        int i = hash(key); while(keys[i] != null) {if (keys[i].equals(key)) return values[i]; i = (i + 1) % numberOfSlots;} return null;
+        if (oldKeys != null) migrate(MIGRATION_STEP); int slot = find(key); if (slot >= 0) return values[slot];
+        int old = findOld(key); return old < 0 ? null : oldValues[old]; // Falling Back to the Old Arrays during an Incremental Resize.
     }
 
     /**
-     * This method removes the Specified Key and its associated Value from the Hash Table.
+     * This method returns the Slot which holds a Key, in Robin Hood Mode the Search Stops Early once the Key would have been Stored before the Current Slot.
+     * @param key of type Key is the Key to Find.
+     * @return an Integer representing the Slot which holds the Key, or -1 if the Key is not in the Hash Table.
+     */
+
+    private int find(Key key) {return find(key, hash(key));}
+
+    /**
+     * This method returns the Slot which holds a Key, Starting the Probe at an Already Computed Hash Slot.
+     * @param key of type Key is the Key to Find.
+     * @param i is the Hash Slot of the Key.
+     * @return an Integer representing the Slot which holds the Key, or -1 if the Key is not in the Hash Table.
+     */
+
+    private int find(Key key, int i) {
+        int length = 0; while (keys[i] != null) {
+            if (keys[i].equals(key)) return i; if (probing == Probing.ROBIN_HOOD && probeLength(i) < length) return -1; i = (i + 1) % numberOfSlots; length++;
+        } return -1;
+    }
+
+    /**
+     * This method removes the Specified Key and its associated Value from the Hash Table, then uses Backward-Shift Deletion to move the Rest of the Cluster Back into the Empty Slot.
      * @param key of type Key is the Key of the Key: Value Pair to be Removed from the Hash Table.
      * @throws IllegalArgumentException if the Key passed into the method is NULL.
      */
 
     public void delete(Key key) {
-        if (key == null) throw new IllegalArgumentException("The Key cannot be NULL."); if (!contains(key)) return;
-        int slot = hash(key); while (!key.equals(keys[slot])) {slot = (slot + 1) % numberOfSlots;} keys[slot] = null; values[slot] = null; numberOfPairs--; // Finding and Deleting the Pair.
-        slot = (slot + 1) % numberOfSlots; while (keys[slot] != null) {
-            Key keyToRehash = keys[slot]; Value valueToRehash = values[slot]; keys[slot] = null; values[slot] = null; numberOfSlots--; insert(keyToRehash, valueToRehash);
-            slot = (slot + 1) % numberOfSlots;
-        }
-        if (numberOfPairs > 0 && numberOfPairs <= numberOfSlots / 8) resize(numberOfSlots / 2); // If the Hash Table is only 1/8 Full, Halve the Table Size.
+        if (key == null) throw new IllegalArgumentException("The Key cannot be NULL."); if (oldKeys != null) migrate(MIGRATION_STEP);
+        int hole = find(key); if (hole < 0) {int old = findOld(key); if (old >= 0) {deleteOld(old); numberOfPairs--;} return;} numberOfPairs--; // Finding the Pair.
+        int slot = (hole + 1) % numberOfSlots; int distance = 1; while (keys[slot] != null) { // Shifting the Rest of the Cluster Back into the Hole.
+            int length = probeLength(slot); if (probing == Probing.ROBIN_HOOD && length == 0) break; // A Robin Hood Cluster ends at the First Key in its Hash Slot.
+            if (length >= distance) {keys[hole] = keys[slot]; values[hole] = values[slot]; hole = slot; distance = 0;} slot = (slot + 1) % numberOfSlots; distance++;
+        } keys[hole] = null; values[hole] = null;
+        if (oldKeys == null && numberOfPairs > 0 && numberOfPairs <= numberOfSlots / 8) resize(numberOfSlots / 2); // If the Hash Table is only 1/8 Full, Halve the Table Size.
     }
 
     /**
@@ -118,6 +317,83 @@ public class HashTable<Key extends Comparable<Key>, Value> {
 
     public boolean contains(Key key) {if (key == null) throw new IllegalArgumentException("The Key cannot be NULL."); return search(key) != null;}
 
+    /**
+     * This method Stages a Group of Keys from a Batch for Probing: every Hash is Computed First, then every Home Slot is Loaded and then every Resident Key is Compared, so the Cache Misses
+     * of the Group are Independent of each other and the Processor can Overlap them instead of Waiting for each one in turn.  A Resident which Equals its Key is Replaced by HIT.
+     * @param batch is the Array of Keys.
+     * @param from is the Index of the First Key of the Group (inclusive).
+     * @param to is the Index of the Last Key of the Group (exclusive).
+     * @param slots is the Array which Receives the Hash Slots of the Group.
+     * @param residents is the Array which Receives HIT, or otherwise the Key Currently Stored in the Hash Slot.
+     * @throws IllegalArgumentException if any Key of the Group is NULL.
+     */
+
+    private void stage(Key[] batch, int from, int to, int[] slots, Object[] residents) {
+        for (int j = from; j < to; j++) {if (batch[j] == null) throw new IllegalArgumentException("The Key cannot be NULL!"); slots[j - from] = hash(batch[j]);} // Computing every Hash.
+        for (int j = from; j < to; j++) {residents[j - from] = keys[slots[j - from]];} // Loading every Home Slot.
+        for (int j = from; j < to; j++) {Object resident = residents[j - from]; if (resident != null && resident.equals(batch[j])) residents[j - from] = HIT;} // Comparing every Resident.
+    }
+
+    /**
+     * This method finishes the Search for a Staged Key, using the Key that was Loaded from its Home Slot to Settle the Common Cases without another Memory Access.
+     * @param key of type Key is the Key to Search for.
+     * @param slot is the Hash Slot of the Key.
+     * @param resident is HIT, or otherwise the Key which was Stored in the Hash Slot when the Group was Staged.
+     * @return the Value for the Key, or NULL if the Key is not in the Hash Table.
+     */
+
+    private Value searchStaged(Key key, int slot, Object resident) {
+        int found = resident == null ? -1 : resident == HIT ? slot : find(key, slot); if (found >= 0) return values[found];
+        int old = findOld(key); return old < 0 ? null : oldValues[old]; // Falling Back to the Old Arrays during an Incremental Resize.
+    }
+
+    /**
+     * This method inserts a Batch of Key: Value Pairs, Growing the Table at most once for the whole Batch and Interleaving the Probes of each Group of BATCH_GROUP Keys.  If a Key appears
+     * more than once in the Batch, its Last Value is Kept.
+     * @param batch is the Array of Keys to be Inserted into the Hash Table.
+     * @param batchValues is the Array of corresponding Values, where a NULL Value Deletes its Key.
+     * @throws IllegalArgumentException if either Array is NULL, the Arrays have Different Lengths, or any Key is NULL.
+     */
+
+    public void insertAll(Key[] batch, Value[] batchValues) {
+        if (batch == null || batchValues == null) throw new IllegalArgumentException("The Arrays cannot be NULL!"); if (batch.length != batchValues.length) throw new IllegalArgumentException("The Arrays must have the Same Length!");
+        boolean simple = resizing == Resizing.ALL_AT_ONCE; for (Value value : batchValues) {if (value == null) simple = false;}
+        if (!simple) {for (int j = 0; j < batch.length; j++) {insert(batch[j], batchValues[j]);} return;} // Deletes and Incremental Resizes are Handled one Pair at a time.
+        int capacity = numberOfSlots; while (numberOfPairs + batch.length >= capacity / 2) {capacity *= 2;} if (capacity != numberOfSlots) resize(capacity); // Growing once for the Whole Batch.
+        int[] slots = new int[BATCH_GROUP]; Object[] residents = new Object[BATCH_GROUP]; for (int from = 0; from < batch.length; from += BATCH_GROUP) {
+            int to = Math.min(from + BATCH_GROUP, batch.length); stage(batch, from, to, slots, residents); for (int j = from; j < to; j++) {put(batch[j], batchValues[j], slots[j - from]);}
+        }
+    }
+
+    /**
+     * This method searches for a Batch of Keys, Interleaving the Probes of each Group of BATCH_GROUP Keys, and writes the Values into a Caller-Provided Array.
+     * @param batch is the Array of Keys to Search for.
+     * @param results is the Array which Receives the Value of each Key at the Same Index, or NULL if the Key is not in the Hash Table.
+     * @throws IllegalArgumentException if either Array is NULL, the Results Array is Shorter than the Batch, or any Key is NULL.
+     */
+
+    public void searchAll(Key[] batch, Value[] results) {
+        if (batch == null || results == null) throw new IllegalArgumentException("The Arrays cannot be NULL!"); if (results.length < batch.length) throw new IllegalArgumentException("The Results Array is too Short!");
+        if (oldKeys != null) migrate(MIGRATION_STEP); int[] slots = new int[BATCH_GROUP]; Object[] residents = new Object[BATCH_GROUP];
+        for (int from = 0; from < batch.length; from += BATCH_GROUP) {
+            int to = Math.min(from + BATCH_GROUP, batch.length); stage(batch, from, to, slots, residents); for (int j = from; j < to; j++) {results[j] = searchStaged(batch[j], slots[j - from], residents[j - from]);}
+        }
+    }
+
+    /**
+     * This method tests if every Key of a Batch is present within the Hash Table, Interleaving the Probes of each Group of BATCH_GROUP Keys.
+     * @param batch is the Array of Keys to Check Membership of in the Hash Table.
+     * @return a Boolean Value where true is returned if the Hash Table contains every Key of the Batch, false otherwise.
+     * @throws IllegalArgumentException if the Array is NULL or any Key is NULL.
+     */
+
+    public boolean containsAll(Key[] batch) {
+        if (batch == null) throw new IllegalArgumentException("The Array cannot be NULL!"); if (oldKeys != null) migrate(MIGRATION_STEP);
+        int[] slots = new int[BATCH_GROUP]; Object[] residents = new Object[BATCH_GROUP]; for (int from = 0; from < batch.length; from += BATCH_GROUP) {
+            int to = Math.min(from + BATCH_GROUP, batch.length); stage(batch, from, to, slots, residents); for (int j = from; j < to; j++) {if (searchStaged(batch[j], slots[j - from], residents[j - from]) == null) return false;}
+        } return true;
+    }
+
     /**
      * This method returns the Number of Key: Value Pairs in the Hash Table.
      * @return an Integer representing the Number of Key: Value Pairs in the Hash Table.
@@ -132,6 +408,36 @@ public class HashTable<Key extends Comparable<Key>, Value> {
 
     public boolean isEmpty() {return size() == 0;}
 
+    /**
+     * This method returns the Mean Probe Length of the Keys in the Hash Table, Measuring a Key not yet Migrated by an Incremental Resize in the Old Arrays, without Migrating it.
+     * @return a Double representing the Mean Number of Slots each Key is Displaced from its Hash Slot, or 0 if the Hash Table is Empty.
+     */
+
+    public double meanProbeLength() {
+        long total = 0; for (int i = 0; i < numberOfSlots; i++) {if (keys[i] != null) total += probeLength(i);}
+        if (oldKeys != null) {for (int i = 0; i < oldSlots; i++) {if (oldKeys[i] != null) total += oldProbeLength(i);}} return isEmpty() ? 0.0 : (double) total / numberOfPairs;
+    }
+
+    /**
+     * This method returns the Maximum Probe Length of the Keys in the Hash Table, including the Keys not yet Migrated by an Incremental Resize, without Migrating them.
+     * @return an Integer representing the Largest Number of Slots any Key is Displaced from its Hash Slot.
+     */
+
+    public int maxProbeLength() {
+        int max = 0; for (int i = 0; i < numberOfSlots; i++) {if (keys[i] != null) max = Math.max(max, probeLength(i));}
+        if (oldKeys != null) {for (int i = 0; i < oldSlots; i++) {if (oldKeys[i] != null) max = Math.max(max, oldProbeLength(i));}} return max;
+    }
+
+    /**
+     * This method returns a Histogram of the Probe Lengths of the Keys in the Hash Table, including the Keys not yet Migrated by an Incremental Resize, without Migrating them.
+     * @return an Array of Integers where the Element at Index i is the Number of Keys with a Probe Length of i.
+     */
+
+    public int[] probeLengthHistogram() {
+        int[] histogram = new int[maxProbeLength() + 1]; for (int i = 0; i < numberOfSlots; i++) {if (keys[i] != null) histogram[probeLength(i)]++;}
+        if (oldKeys != null) {for (int i = 0; i < oldSlots; i++) {if (oldKeys[i] != null) histogram[oldProbeLength(i)]++;}} return histogram;
+    }
+
     /**
      * This method tests the {@code HashTable} Class which Implements a Symbol Table as a Hash Table - these Unit Tests test the Class by Inserting, Searching and Deleting Nodes in the Hash
      * Table.
@@ -140,6 +446,28 @@ public class HashTable<Key extends Comparable<Key>, Value> {
 
     public static void main(String[] args) {
         HashTable<Integer, String> hashTable = new HashTable<>(); hashTable.insert(1, "Apple"); hashTable.insert(2, "Orange"); hashTable.insert(5, "Strawberry"); hashTable.insert(87, "Banana");
-        hashTable.insert(8463, "Blueberry"); System.out.println("The Value of Key 2 is: " + hashTable.search(2)); hashTable.delete(8463); System.out.println("All Tests Passed Successfully!");
+        hashTable.insert(8463, "Blueberry"); System.out.println("The Value of Key 2 is: " + hashTable.search(2)); hashTable.delete(8463);
+
+        // Testing both Probing Modes under a Mixed Insert and Delete Workload and Printing the Probe Length Statistics.
+        for (Probing probing : Probing.values()) {
+            HashTable<Integer, Integer> table = new HashTable<>(probing); int[] keys = new Random(7).ints(10000).toArray(); for (int i = 0; i < 10000; i++) {table.insert(keys[i], i);}
+            for (int i = 0; i < 10000; i += 3) {table.delete(keys[i]);} for (int i = 0; i < 10000; i++) {assert (i % 3 == 0) == (table.search(keys[i]) == null);} assert table.size() == 6666;
+            System.out.println(probing + ": Mean Probe Length = " + table.meanProbeLength() + ", Max Probe Length = " + table.maxProbeLength() + ", Histogram = " + java.util.Arrays.toString(table.probeLengthHistogram()));
+        }
+
+        // Testing the Incremental Resizing Mode by Checking every Key is Reachable while Migrations are in Progress.
+        HashTable<Integer, Integer> incremental = new HashTable<>(Probing.LINEAR, Resizing.INCREMENTAL); int[] keys = new Random(11).ints(20000).toArray();
+        for (int i = 0; i < 20000; i++) {incremental.insert(keys[i], i); assert incremental.search(keys[i / 2]) == i / 2;} for (int i = 0; i < 20000; i += 2) {incremental.delete(keys[i]);}
+        for (int i = 0; i < 20000; i++) {assert (i % 2 == 0) == (incremental.search(keys[i]) == null);} assert incremental.size() == 10000;
+
+        // Testing that the Probe Length Metrics Count every Key while a Migration is in Progress, and do not Finish the Migration.
+        for (int i = 0; incremental.oldKeys == null; i++) {incremental.insert(-1 - i, i);} int pairs = incremental.size();
+        assert incremental.maxProbeLength() >= 0 && java.util.Arrays.stream(incremental.probeLengthHistogram()).sum() == pairs && incremental.oldKeys != null && incremental.meanProbeLength() >= 0;
+
+        // Testing the Batch Operations against the Single-Key Operations.
+        Integer[] batch = new Integer[5000]; Integer[] batchValues = new Integer[5000]; for (int i = 0; i < 5000; i++) {batch[i] = keys[i]; batchValues[i] = -i;}
+        HashTable<Integer, Integer> batched = new HashTable<>(); batched.insertAll(batch, batchValues); Integer[] results = new Integer[5000]; batched.searchAll(batch, results);
+        for (int i = 0; i < 5000; i++) {assert results[i] == -i && batched.search(keys[i]) == -i;} assert batched.size() == 5000 && batched.containsAll(batch); batch[0] = keys[6000]; assert !batched.containsAll(batch);
+        System.out.println("All Tests Passed Successfully!");
     }
 }
\ No newline at end of file
@@ -0,0 +1,145 @@
+import java.util.Random; // Importing Random from the java.util Package to Generate the Benchmark Keys.
+
+/**
+ * @author LewisThackeray
+ * @date 17/10/2026
+ *
+ * {@code HashTableBenchmark} is a Micro-Benchmark which compares the Generic {@link HashTable} with its Primitive-Specialised Variants.  Each Case is run for a number of Warm-Up Rounds so
+ * that the JIT Compiler has Compiled the Hot Loops before the Measured Rounds, and the Best Measured Round is Reported in Nanoseconds per Operation.
+ *
+ * <p><i>Run with a Fixed Heap (e.g. java -Xms2g -Xmx2g HashTableBenchmark 1000000) so that Garbage Collection from the Boxed Keys is charged to the Table that causes it.</i></p>
+ */
+
+public class HashTableBenchmark {
+
+    /**
+     * This is the Class Constructor.  The Class Constructor is Private to Prevent Instantiations of the Class, as the Class only Runs the Hash Table Cases through the Shared Harness.
+     */
+
+    private HashTableBenchmark() {}
+
+    /**
+     * This method runs a Benchmark Case for the Warm-Up and Measured Rounds and Prints the Best Measured Time per Operation.
+     * @param name is the Name of the Case to Print.
+     * @param operations is the Number of Operations Performed by a Single Run of the Case.
+     * @param body is the Case to Run.
+     */
+
+    static void run(String name, int operations, Runnable body) {
+        long best = Benchmark.best(() -> body); System.out.printf("%-40s %10.2f ns/op%n", name, (double) best / operations);
+    }
+
+    /**
+     * This method runs a Multi-Threaded Benchmark Case where every Thread Performs the Same Number of Operations, and Prints the Throughput of the Fastest Measured Round.
+     * @param name is the Name of the Case to Print.
+     * @param numberOfThreads is the Number of Threads to Run the Case on.
+     * @param operationsPerThread is the Number of Operations each Thread Performs.
+     * @param body is the Case to Run, it is passed the Thread Number and the Number of Operations to Perform.
+     * @throws InterruptedException if the Main Thread is Interrupted while Waiting for the Worker Threads.
+     */
+
+    static void runThreads(String name, int numberOfThreads, int operationsPerThread, java.util.function.BiConsumer<Integer, Integer> body) throws InterruptedException {
+        long best = Benchmark.bestThreads(Benchmark.WARMUP_ROUNDS, Benchmark.MEASURED_ROUNDS, () -> {
+            Runnable[] threads = new Runnable[numberOfThreads]; for (int t = 0; t < numberOfThreads; t++) {int id = t; threads[t] = () -> body.accept(id, operationsPerThread);} return threads;
+        }); System.out.printf("%-40s %10.2f Mops/s%n", name + " x" + numberOfThreads, (double) numberOfThreads * operationsPerThread * 1000 / best);
+    }
+
+    /**
+     * This method Prints the Percentiles of a Set of Per-Operation Latencies.
+     * @param name is the Name of the Case to Print.
+     * @param latencies is an Array of Latencies in Nanoseconds, which is Sorted in Place.
+     */
+
+    static void percentiles(String name, long[] latencies) {
+        java.util.Arrays.sort(latencies); int n = latencies.length;
+        System.out.printf("%-40s p50 %8d ns, p99 %8d ns, p999 %10d ns, max %12d ns%n", name, latencies[n / 2], latencies[(int) (n * 0.99)], latencies[(int) (n * 0.999)], latencies[n - 1]);
+    }
+
+    /**
+     * This method returns an Array of Distinct Random Non-Zero int Keys.
+     * @param n is the Number of Keys to Generate.
+     * @param seed is the Seed of the Random Number Generator.
+     * @return an Array of n Distinct Keys in Random Order.
+     */
+
+    static int[] keys(int n, long seed) {
+        int[] keys = new int[n]; for (int i = 0; i < n; i++) {keys[i] = i + 1;} Random random = new Random(seed);
+        for (int i = n - 1; i > 0; i--) {int j = random.nextInt(i + 1); int swap = keys[i]; keys[i] = keys[j]; keys[j] = swap;} return keys; // Fisher-Yates Shuffle.
+    }
+
+    /**
+     * This method runs the Benchmark, the First Command-Line Argument Optionally Overrides the Number of Keys.
+     * @param args the Command-Line Arguments.
+     */
+
+    public static void main(String[] args) throws InterruptedException {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000; int[] keys = keys(n, 42);
+
+        // Comparing the Boxed int: int Table with the Primitive int: int Table.
+        run("HashTable<Integer, Integer> insert", n, () -> {HashTable<Integer, Integer> table = new HashTable<>(); for (int key : keys) {table.insert(key, key);} Benchmark.sink(table.size());});
+        run("IntIntHashTable insert", n, () -> {IntIntHashTable table = new IntIntHashTable(); for (int key : keys) {table.insert(key, key);} Benchmark.sink(table.size());});
+        HashTable<Integer, Integer> boxedInt = new HashTable<>(); IntIntHashTable primitiveInt = new IntIntHashTable(); for (int key : keys) {boxedInt.insert(key, key); primitiveInt.insert(key, key);}
+        run("HashTable<Integer, Integer> search", n, () -> {long sum = 0; for (int key : keys) {sum += boxedInt.search(key);} Benchmark.sink(sum);});
+        run("IntIntHashTable search", n, () -> {long sum = 0; for (int key : keys) {sum += primitiveInt.search(key);} Benchmark.sink(sum);});
+
+        // Comparing the Boxed long: long Table with the Primitive int: long and long: long Tables.
+        run("HashTable<Long, Long> insert", n, () -> {HashTable<Long, Long> table = new HashTable<>(); for (int key : keys) {table.insert((long) key, (long) key);} Benchmark.sink(table.size());});
+        run("IntLongHashTable insert", n, () -> {IntLongHashTable table = new IntLongHashTable(); for (int key : keys) {table.insert(key, key);} Benchmark.sink(table.size());});
+        run("LongLongHashTable insert", n, () -> {LongLongHashTable table = new LongLongHashTable(); for (int key : keys) {table.insert(key, key);} Benchmark.sink(table.size());});
+        HashTable<Long, Long> boxedLong = new HashTable<>(); LongLongHashTable primitiveLong = new LongLongHashTable(); for (int key : keys) {boxedLong.insert((long) key, (long) key); primitiveLong.insert(key, key);}
+        run("HashTable<Long, Long> search", n, () -> {long sum = 0; for (int key : keys) {sum += boxedLong.search((long) key);} Benchmark.sink(sum);});
+        run("LongLongHashTable search", n, () -> {long sum = 0; for (int key : keys) {sum += primitiveLong.search(key);} Benchmark.sink(sum);});
+
+        // Comparing the Boxed long: Object Table with the Primitive long: Object Table.
+        run("HashTable<Long, String> insert", n, () -> {HashTable<Long, String> table = new HashTable<>(); for (int key : keys) {table.insert((long) key, "");} Benchmark.sink(table.size());});
+        run("LongObjectHashTable<String> insert", n, () -> {LongObjectHashTable<String> table = new LongObjectHashTable<>(); for (int key : keys) {table.insert(key, "");} Benchmark.sink(table.size());});
+
+        // Comparing Linear Probing with Robin Hood Hashing under a Mixed Workload which Deletes the Oldest Key after each Insert once the Table holds n / 2 Keys.
+        int[] randomKeys = new Random(42).ints(n).toArray(); // Using Keys from the whole int Range, as Consecutive Keys rarely Collide under the Universal Hash Function.
+        for (HashTable.Probing probing : HashTable.Probing.values()) {
+            HashTable<Integer, Integer> table = new HashTable<>(probing); run("HashTable " + probing + " insert/delete", n, () -> {
+                for (int i = 0; i < n; i++) {table.insert(randomKeys[i], i); if (i >= n / 2) table.delete(randomKeys[i - n / 2]);} for (int i = n / 2; i < n; i++) {table.delete(randomKeys[i]);}
+            });
+            for (int i = 0; i < n / 2; i++) {table.insert(randomKeys[i], i);} for (int i = 0; i < n / 2; i += 2) {table.delete(randomKeys[i]);} // Leaving the Table in a Churned State to Report its Statistics.
+            System.out.printf("    mean probe length %.3f, max probe length %d, histogram %s%n", table.meanProbeLength(), table.maxProbeLength(), java.util.Arrays.toString(table.probeLengthHistogram()));
+        }
+
+        // Comparing Batched Lookups with a Loop of Single Lookups, in Batches of 1024 Random Keys against a Table whose Keys and Slots do not fit in the Last-Level Cache.
+        Integer[][] batches = new Integer[n / 1024][1024]; for (int i = 0; i < batches.length * 1024; i++) {batches[i / 1024][i % 1024] = keys[(int) ((i * 2654435761L) % n)];}
+        Integer[] results = new Integer[1024]; int looked = batches.length * 1024;
+        run("HashTable search loop", looked, () -> {long sum = 0; for (Integer[] batch : batches) {for (int j = 0; j < 1024; j++) {results[j] = boxedInt.search(batch[j]);} sum += results[0];} Benchmark.sink(sum);});
+        run("HashTable searchAll", looked, () -> {long sum = 0; for (Integer[] batch : batches) {boxedInt.searchAll(batch, results); sum += results[0];} Benchmark.sink(sum);});
+        run("HashTable containsAll", looked, () -> {long sum = 0; for (Integer[] batch : batches) {if (boxedInt.containsAll(batch)) sum++;} Benchmark.sink(sum);});
+        run("HashTable insertAll", looked, () -> {HashTable<Integer, Integer> table = new HashTable<>(); for (Integer[] batch : batches) {table.insertAll(batch, batch);} Benchmark.sink(table.size());});
+
+        // Comparing Linear Probing with the Swiss Table Layout for Lookups where 10% and 90% of the Keys are Present (the First Half of the Keys are Inserted, the Second Half Miss).
+        HashTable<Integer, Integer> probed = new HashTable<>(); SwissHashTable<Integer, Integer> swiss = new SwissHashTable<>(); for (int i = 0; i < n / 2; i++) {probed.insert(keys[i], i); swiss.insert(keys[i], i);}
+        for (int hitPercent : new int[] {10, 90}) {
+            Integer[] lookups = new Integer[n]; Random random = new Random(hitPercent); for (int i = 0; i < n; i++) {lookups[i] = random.nextInt(100) < hitPercent ? keys[random.nextInt(n / 2)] : keys[n / 2 + random.nextInt(n / 2)];}
+            run("HashTable search " + hitPercent + "% hits", n, () -> {long found = 0; for (Integer key : lookups) {if (probed.search(key) != null) found++;} Benchmark.sink(found);});
+            run("SwissHashTable search " + hitPercent + "% hits", n, () -> {long found = 0; for (Integer key : lookups) {if (swiss.search(key) != null) found++;} Benchmark.sink(found);});
+        }
+
+        // Comparing the Tail Latency of Single Inserts when the Table Resizes All at Once with when it Resizes Incrementally.
+        for (HashTable.Resizing resizing : HashTable.Resizing.values()) {
+            long[] latencies = new long[n]; for (int round = 0; round < Benchmark.WARMUP_ROUNDS + 1; round++) {
+                HashTable<Integer, Integer> table = new HashTable<>(HashTable.Probing.LINEAR, resizing);
+                for (int i = 0; i < n; i++) {long start = System.nanoTime(); table.insert(keys[i], i); latencies[i] = System.nanoTime() - start;}
+            } percentiles("HashTable " + resizing + " insert latency", latencies);
+        }
+
+        // Comparing a Globally Locked HashTable with the Lock-Striped ConcurrentHashTable on a 90% Search, 10% Insert Workload from 1 Thread up to every Core.
+        int cores = Runtime.getRuntime().availableProcessors(); HashTable<Integer, Integer> locked = new HashTable<>(); ConcurrentHashTable<Integer, Integer> striped = new ConcurrentHashTable<>(cores);
+        for (int key : keys) {locked.insert(key, key); striped.insert(key, key);}
+        for (int threads = 1; threads <= cores; threads = threads == cores ? cores + 1 : Math.min(2 * threads, cores)) {
+            runThreads("synchronized HashTable", threads, n, (id, operations) -> {
+                long sum = 0; for (int i = 0, k = id * 7919; i < operations; i++, k = (k + 1) % n) {synchronized (locked) {if (i % 10 == 0) locked.insert(keys[k], i); else sum += locked.search(keys[k]);}} Benchmark.sink(sum);
+            });
+            runThreads("ConcurrentHashTable", threads, n, (id, operations) -> {
+                long sum = 0; for (int i = 0, k = id * 7919; i < operations; i++, k = (k + 1) % n) {if (i % 10 == 0) striped.insert(keys[k], i); else sum += striped.search(keys[k]);} Benchmark.sink(sum);
+            });
+        }
+
+        System.out.println("Sink: " + Benchmark.sink());
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * @author LewisThackeray
+ * @date 17/10/2026
+ *
+ * {@code LongObjectHashTable} implements a <em>Hash Table</em> which represents a Symbol Table of Primitive long Keys mapped to Generic Values.  It is a Primitive-Specialised Version of
+ * {@link HashTable} which keeps the same Linear Probing, Backward-Shift Deletion and Universal Hashing Design (Shared through {@link PrimitiveHashTable}), but stores the Keys in a Flat long[] Array
+ * so that no Long is Boxed on Insert and no Key Object is Dereferenced on a Probe.
+ *
+ * <p><i>Since a Primitive Array cannot hold NULL, an Empty Slot is marked with the Sentinel Key EMPTY (0).  The Key 0 itself is therefore never stored in the Arrays; instead it is kept
+ * in a Separate Field (hasZeroKey, zeroValue) so that every long can still be used as a Key.</i></p>
+ *
+ * @param Value is the type of mapped values.
+ */
+
+public class LongObjectHashTable<Value> extends PrimitiveHashTable {
+
+    private long keys[]; private Value values[]; // Creating Parallel Arrays to Store the Key: Value Pairs in the Symbol Table Implementation.
+    private Value zeroValue; // Creating a Variable to Store the Value whose Key is the Sentinel Key.
+
+    /**
+     * This is an Overloaded Class Constructor which Initialises an Empty Hash Table with INITIAL_CAPACITY Slots.
+     */
+
+    public LongObjectHashTable() {this(INITIAL_CAPACITY);}
+
+    /**
+     * This is an Overloaded Class Constructor which Initialises an Empty Hash Table with the Specified Capacity.
+     * @param capacity is an Integer specfying the Number of Slots in the Hash Table.
+     * @throws IllegalArgumentException if the capacity is less than 2.
+     */
+
+    @SuppressWarnings("unchecked") public LongObjectHashTable(int capacity) {super(capacity); keys = new long[capacity]; values = (Value[]) new Object[capacity];}
+
+    /**
+     * This method returns the Slot which holds a Key other than the Sentinel Key.
+     * @param key is the long Key to Find.
+     * @return an Integer representing the Slot which holds the Key, or -1 if the Key is not in the Hash Table.
+     */
+
+    private int find(long key) {int i = hash(key); while (keys[i] != EMPTY) {if (keys[i] == key) return i; i = (i + 1) % numberOfSlots;} return -1;}
+
+    /**
+     * This method returns the Key in a Slot, Widened to a long.
+     * @param slot is the Index of the Slot.
+     * @return the Key in the Slot, or EMPTY if the Slot is Empty.
+     */
+
+    @Override long keyAt(int slot) {return keys[slot];}
+
+    /**
+     * This method Moves the Pair in One Slot into Another.
+     * @param from is the Index of the Slot to Move the Pair from.
+     * @param to is the Index of the Slot to Move the Pair into.
+     */
+
+    @Override void move(int from, int to) {keys[to] = keys[from]; values[to] = values[from];}
+
+    /**
+     * This method Empties a Slot, Releasing its Value.
+     * @param slot is the Index of the Slot.
+     */
+
+    @Override void clear(int slot) {keys[slot] = EMPTY; values[slot] = null;}
+
+    /**
+     * This method resizes the Hash Table to the Specified Capacity, carrying the new Universal Hashing Parameters across with the new Arrays.
+     * @param newCapacity is an Integer Specifying the Updated Number of Slots in the Hash Table.
+     */
+
+    @Override void resize(int newCapacity) {
+        LongObjectHashTable<Value> temp = new LongObjectHashTable<>(newCapacity); for (int i = 0; i < numberOfSlots; i++) {if (keys[i] != EMPTY) temp.insert(keys[i], values[i]);}
+        keys = temp.keys; values = temp.values; adopt(temp);
+    }
+
+    /**
+     * This method inserts a Key: Value Pair into the Hash Table, however, if the Key already exists in the Hash Table, its Value is Updated with the New Value.
+     * @param key is the long Key to be Inserted into the Hash Table.
+     * @param value of type Value is the corresponding Value to be Inserted into the Hash Table, a NULL Value Deletes the Key.
+     */
+
+    public void insert(long key, Value value) {
+        if (value == null) {delete(key); return;} // Deleting the Key from the Hash Table if the Value is NULL.
+        if (key == EMPTY) {if (!hasZeroKey) {hasZeroKey = true; numberOfPairs++;} zeroValue = value; return;} // Storing the Sentinel Key outside the Arrays.
+        growIfHalfFull(); // If the Hash Table is 50% Full, Double the Table Size.
+        int i = hash(key); while (keys[i] != EMPTY) {if (keys[i] == key) {values[i] = value; return;} i = (i + 1) % numberOfSlots;} keys[i] = key; values[i] = value; numberOfPairs++;
+    }
+
+    /**
+     * This method returns the Value associated with a Key in a Key: Value Pair in the Hash Table.
+     * @param key is the long Key whose Value is to be Returned.
+     * @return a Value which corresponds to the Key passed into the method in the Key: Value Pair, or NULL is returned if the Key is not in the Hash Table.
+     */
+
+    public Value search(long key) {
+        if (key == EMPTY) return zeroValue;
+        int i = hash(key); while (keys[i] != EMPTY) {if (keys[i] == key) return values[i]; i = (i + 1) % numberOfSlots;} return null;
+    }
+
+    /**
+     * This method removes the Specified Key and its associated Value from the Hash Table by Backward-Shift Deletion.
+     * @param key is the long Key of the Key: Value Pair to be Removed from the Hash Table.
+     */
+
+    public void delete(long key) {
+        if (key == EMPTY) {if (hasZeroKey) {hasZeroKey = false; zeroValue = null; numberOfPairs--;} return;} int slot = find(key); if (slot >= 0) deleteSlot(slot);
+    }
+
+    /**
+     * This method tests if a Specific Key is present within a Hash Table.
+     * @param key is the long Key to Check Membership of in the Hash Table.
+     * @return a Boolean Value where true is returned if the Hash Table contains the Specified Key, false if the Specified Key is not present in the Hash Table.
+     */
+
+    public boolean contains(long key) {return key == EMPTY ? hasZeroKey : find(key) >= 0;}
+
+    /**
+     * This method tests the {@code LongObjectHashTable} Class by Inserting, Searching and Deleting long: String Pairs, including the Sentinel Key 0.
+     * @param args the Command-Line Arguments.
+     */
+
+    public static void main(String[] args) {
+        LongObjectHashTable<String> hashTable = new LongObjectHashTable<>(); for (long i = -500; i < 500; i++) {hashTable.insert(i << 32, "Value " + i);} assert hashTable.size() == 1000;
+        for (long i = -500; i < 500; i++) {assert hashTable.search(i << 32).equals("Value " + i);} assert hashTable.contains(0) && !hashTable.contains(1);
+        for (long i = -500; i < 500; i += 2) {hashTable.delete(i << 32);} assert hashTable.size() == 500; for (long i = -499; i < 500; i += 2) {assert hashTable.search(i << 32).equals("Value " + i);}
+        hashTable.insert(1L << 32, null); assert hashTable.size() == 499 && !hashTable.contains(0); System.out.println("The Value of Key 7 << 32 is: " + hashTable.search(7L << 32));
+
+        // Testing Random Inserts, Updates and Deletes of Clustered Keys against java.util.HashMap, so that the Backward Shifts, Growths and Shrinks are all Exercised.
+        java.util.Random random = new java.util.Random(42); java.util.HashMap<Long, String> reference = new java.util.HashMap<>(); LongObjectHashTable<String> randomTable = new LongObjectHashTable<>();
+        for (int op = 0; op < 200000; op++) {
+            long key = random.nextInt(op < 100000 ? 2000 : 200) - 100; if (random.nextInt(3) == 0) {randomTable.delete(key); reference.remove(key);} else {randomTable.insert(key, "V" + op); reference.put(key, "V" + op);}
+            if (op % 1000 == 0) {assert randomTable.size() == reference.size(); for (long k = -100; k < 1900; k++) {assert java.util.Objects.equals(randomTable.search(k), reference.get(k));}}
+        }
+        System.out.println("All Tests Passed Successfully!");
+    }
+}
@@ -0,0 +1,339 @@
+import java.io.IOException; // Importing IOException from the java.io Package to Report Failures to Create, Map or Replace the Backing File.
+import java.io.UncheckedIOException; // Importing UncheckedIOException from the java.io Package to Report I/O Failures from the Symbol Table Methods, which do not Declare Checked Exceptions.
+import java.nio.MappedByteBuffer; // Importing MappedByteBuffer from the java.nio Package to Access the Backing File as Off-Heap Memory.
+import java.nio.channels.FileChannel; // Importing FileChannel from the java.nio.channels Package to Map Regions of the Backing File into Memory.
+import java.nio.file.Files; // Importing Files from the java.nio.file Package to Replace the Backing File after a Resize.
+import java.nio.file.Path; // Importing Path from the java.nio.file Package to Locate the Backing File.
+import java.nio.file.StandardCopyOption; // Importing StandardCopyOption from the java.nio.file Package to Replace the Backing File Atomically.
+import java.nio.file.StandardOpenOption; // Importing StandardOpenOption from the java.nio.file Package to Open the Backing File for Reading and Writing.
+import java.util.Arrays; // Importing Arrays from the java.util Package to Hash the Fixed-Width Keys.
+import java.util.Random; // Importing Random from the java.util Package to Randomly Choose a Hash Function to Use from the Collection of Hash Functions.
+
+/**
+ * @author LewisThackeray
+ * @date 17/10/2026
+ *
+ * {@code MappedHashTable} implements a Persistent, Off-Heap <em>Hash Table</em> which represents a Symbol Table of Fixed-Width byte[] Key: Value Pairs stored in a Memory-Mapped File.  It uses
+ * the same Linear Probing, Universal Hashing and Backward-Shift Deletion as {@link HashTable}, but the Slots live in the File rather than on the Java Heap, so the Garbage Collector never scans
+ * them and the Table can be Reopened Instantly after a Restart without being Rebuilt.
+ *
+ * <p><i>The File starts with a HEADER_SIZE Byte Header holding the Key Width, Value Width, Number of Slots, Number of Pairs, Universal Hashing Parameters and Load Factor, followed by the
+ * Slots.  Each Slot is one State Byte (0 for Empty, 1 for Occupied) followed by the Key Bytes and the Value Bytes.  The Slots are Mapped in Chunks of at most MAX_CHUNK_BYTES, so the Table is
+ * not Limited by the 2GB Size of a Single MappedByteBuffer.</i></p>
+ *
+ * <p><i>Writes reach the Operating System's Page Cache immediately, but they are only Durable after {@link #force()}.  When the Load Factor is Exceeded, the Pairs are Copied into a New File
+ * of Twice the Size which then Atomically Replaces the Old File.  The Table never Shrinks, and it must not be Shared between Threads or Processes without External Locking.</i></p>
+ */
+
+public class MappedHashTable implements AutoCloseable {
+
+    private static final int MAGIC = 0x48415348; // Creating a Constant which Identifies a Hash Table File ("HASH").
+    private static final int HEADER_SIZE = 64; // Creating a Constant for the Number of Bytes Reserved for the Header.
+    private static final int MAX_CHUNK_BYTES = 1 << 30; // Creating a Constant for the Largest Region of the File Mapped by a Single Buffer.
+    private static final int KEY_WIDTH = 4, VALUE_WIDTH = 8, SLOTS = 12, PAIRS = 16, PARAM1 = 20, PARAM2 = 24, LOAD_FACTOR = 28; // Creating Constants for the Header Field Offsets.
+    private final Path file; // Creating a Variable to Store the Location of the Backing File.
+    private final int keyWidth, valueWidth, slotWidth; // Creating Variables to Store the Width in Bytes of a Key, a Value and a Whole Slot.
+    private final double loadFactor; // Creating a Variable to Store the Fraction of Slots which may be Occupied before the Table Grows.
+    private MappedByteBuffer header; private MappedByteBuffer[] chunks; private int slotsPerChunk; // Creating Variables to Store the Mapped Header and the Mapped Chunks of Slots.
+    private int numberOfPairs; private int numberOfSlots; // Creating Variables to Store the Number of Pairs and the Number of Slots in the Hash Table.
+    private int param1, param2; // Creating Variables to Store the Parameters for Universal Hashing.
+
+    /**
+     * This is an Overloaded Class Constructor which Reopens an Existing Hash Table File, reading its Widths, Hashing Parameters and Load Factor from the Header.  The File is never Created.
+     * @param file is the Path of the Existing Backing File.
+     * @throws IllegalArgumentException if the file is not a Hash Table file.
+     * @throws UncheckedIOException if the file cannot be Read or Mapped, Caused by a NoSuchFileException if it does not Exist.
+     */
+
+    public MappedHashTable(Path file) {this(file, 0, 0, 0, 0.0, false);}
+
+    /**
+     * This is an Overloaded Class Constructor which Reopens the Hash Table File if it Exists, or otherwise Creates it with the Specified Layout and Randomly Generates the Parameters for
+     * Universal Hashing.  The Arguments are Validated before the File is Touched, so Invalid Arguments never leave a File Behind.
+     * @param file is the Path of the Backing File.
+     * @param keyWidth is the Number of Bytes in every Key.
+     * @param valueWidth is the Number of Bytes in every Value.
+     * @param capacity is an Integer specifying the Initial Number of Slots, used only when the File is Created.
+     * @param loadFactor is the Fraction of Slots which may be Occupied before the Table Grows (between 0 and 1), used only when the File is Created.
+     * @throws IllegalArgumentException if the Widths, Capacity or Load Factor are invalid, or the file does not match the Specified Widths.
+     * @throws UncheckedIOException if the file cannot be Created, Read or Mapped.
+     */
+
+    public MappedHashTable(Path file, int keyWidth, int valueWidth, int capacity, double loadFactor) {this(file, keyWidth, valueWidth, capacity, loadFactor, true);}
+
+    /**
+     * This is the Class Constructor which the Public Constructors Delegate to, which Opens the File and either Reads or Writes its Layout.
+     * @param file is the Path of the Backing File.
+     * @param keyWidth is the Number of Bytes in every Key, Ignored when Reopening.
+     * @param valueWidth is the Number of Bytes in every Value, Ignored when Reopening.
+     * @param capacity is an Integer specifying the Initial Number of Slots, used only when the File is Created.
+     * @param loadFactor is the Fraction of Slots which may be Occupied before the Table Grows, used only when the File is Created.
+     * @param create is true if a Missing File may be Created, false if the File must Already Exist.
+     * @throws IllegalArgumentException if the Arguments are invalid, or the file is not a Hash Table file matching the Specified Widths.
+     * @throws UncheckedIOException if the file cannot be Created, Read or Mapped.
+     */
+
+    private MappedHashTable(Path file, int keyWidth, int valueWidth, int capacity, double loadFactor, boolean create) {
+        if (create) { // Validating the Layout before the File is Touched.
+            if (keyWidth < 1 || valueWidth < 0) throw new IllegalArgumentException("The Key Width must be at Least 1 and the Value Width cannot be Negative!");
+            if (capacity < 2) throw new IllegalArgumentException("The Capacity must be at Least 2!"); if (!(loadFactor > 0 && loadFactor < 1)) throw new IllegalArgumentException("The Load Factor must be between 0 and 1!");
+        }
+        this.file = file; try (FileChannel channel = create ? FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE) : FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            boolean exists = channel.size() >= HEADER_SIZE; if (!exists && !create) throw new IllegalArgumentException("The File is not a Hash Table File!"); // Checking before the Header is Mapped, which would Extend the File.
+            header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            if (exists) { // Reading the Layout of an Existing File.
+                if (header.getInt(0) != MAGIC) throw new IllegalArgumentException("The File is not a Hash Table File!");
+                if (create && (header.getInt(KEY_WIDTH) != keyWidth || header.getInt(VALUE_WIDTH) != valueWidth)) throw new IllegalArgumentException("The File has Different Key or Value Widths!");
+            } else { // Writing the Layout of a New File.
+                Random random = new Random(); header.putInt(0, MAGIC).putInt(KEY_WIDTH, keyWidth).putInt(VALUE_WIDTH, valueWidth).putInt(SLOTS, capacity).putInt(PAIRS, 0);
+                header.putInt(PARAM1, random.nextInt(capacity - 1) + 1).putInt(PARAM2, random.nextInt(capacity)).putDouble(LOAD_FACTOR, loadFactor); // Initialising the Universal Hashing Parameters.
+            }
+            this.keyWidth = header.getInt(KEY_WIDTH); this.valueWidth = header.getInt(VALUE_WIDTH); this.loadFactor = header.getDouble(LOAD_FACTOR); slotWidth = 1 + this.keyWidth + this.valueWidth;
+            numberOfSlots = header.getInt(SLOTS); numberOfPairs = header.getInt(PAIRS); param1 = header.getInt(PARAM1); param2 = header.getInt(PARAM2);
+            slotsPerChunk = Math.max(1, MAX_CHUNK_BYTES / slotWidth); chunks = map(channel, numberOfSlots);
+        } catch (IOException e) {throw new UncheckedIOException("Could not Open the Hash Table File " + file, e);}
+    }
+
+    /**
+     * This method Maps the Slot Region of the Backing File in Chunks which each hold a Whole Number of Slots, Extending the File if it is too Short.
+     * @param channel is an Open Channel to the Backing File.
+     * @param numberOfSlots is the Number of Slots in the File.
+     * @return the Mapped Chunks, in the Order of their Slots.
+     * @throws IOException if the File cannot be Extended or Mapped.
+     */
+
+    private MappedByteBuffer[] map(FileChannel channel, int numberOfSlots) throws IOException {
+        long length = HEADER_SIZE + (long) numberOfSlots * slotWidth; if (channel.size() < length) channel.write(java.nio.ByteBuffer.wrap(new byte[1]), length - 1); // Extending the File with Zeroes.
+        MappedByteBuffer[] chunks = new MappedByteBuffer[(numberOfSlots + slotsPerChunk - 1) / slotsPerChunk];
+        for (int c = 0; c < chunks.length; c++) {
+            int slots = Math.min(slotsPerChunk, numberOfSlots - c * slotsPerChunk); chunks[c] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + (long) c * slotsPerChunk * slotWidth, (long) slots * slotWidth);
+        } return chunks;
+    }
+
+    /**
+     * This method returns the Hash Value for a Specified Key using Universal Hashing.
+     * @param key is the Key to be Hashed.
+     * @return an Integer representing the Slot where the Key: Value Pair will be Stored in the Hash Table (between 0 and numberOfSlots - 1).
+     */
+
+    private int hash(byte[] key) {int primeNumber = 15485863; return (((param1 * Arrays.hashCode(key) + param2) % primeNumber) + primeNumber) % numberOfSlots;}
+
+    /**
+     * This method returns the Chunk which holds a Slot.
+     * @param slot is the Index of the Slot.
+     * @return the Mapped Buffer which holds the Slot.
+     */
+
+    private MappedByteBuffer chunk(int slot) {return chunks[slot / slotsPerChunk];}
+
+    /**
+     * This method returns the Offset of a Slot within its Chunk.
+     * @param slot is the Index of the Slot.
+     * @return an Integer representing the Byte Offset of the Slot's State Byte within its Chunk.
+     */
+
+    private int offset(int slot) {return (slot % slotsPerChunk) * slotWidth;}
+
+    /**
+     * This method tests whether a Slot is Occupied.
+     * @param slot is the Index of the Slot.
+     * @return a Boolean Value where true is returned if the Slot holds a Pair, false otherwise.
+     */
+
+    private boolean occupied(int slot) {return chunk(slot).get(offset(slot)) != 0;}
+
+    /**
+     * This method tests whether the Key Stored in a Slot Equals the Specified Key, without Copying the Stored Key onto the Heap.
+     * @param slot is the Index of an Occupied Slot.
+     * @param key is the Key to Compare with.
+     * @return a Boolean Value where true is returned if the Keys are Equal, false otherwise.
+     */
+
+    private boolean keyEquals(int slot, byte[] key) {
+        MappedByteBuffer buffer = chunk(slot); int base = offset(slot) + 1; for (int i = 0; i < keyWidth; i++) {if (buffer.get(base + i) != key[i]) return false;} return true;
+    }
+
+    /**
+     * This method Copies the Key Stored in a Slot onto the Heap.
+     * @param slot is the Index of an Occupied Slot.
+     * @return a New Array holding the Stored Key.
+     */
+
+    private byte[] readKey(int slot) {byte[] key = new byte[keyWidth]; chunk(slot).get(offset(slot) + 1, key); return key;}
+
+    /**
+     * This method Copies the Value Stored in a Slot onto the Heap.
+     * @param slot is the Index of an Occupied Slot.
+     * @return a New Array holding the Stored Value.
+     */
+
+    private byte[] readValue(int slot) {byte[] value = new byte[valueWidth]; chunk(slot).get(offset(slot) + 1 + keyWidth, value); return value;}
+
+    /**
+     * This method Writes a Key: Value Pair into a Slot and Marks it Occupied.
+     * @param slot is the Index of the Slot.
+     * @param key is the Key to Write.
+     * @param value is the Value to Write.
+     */
+
+    private void write(int slot, byte[] key, byte[] value) {MappedByteBuffer buffer = chunk(slot); int base = offset(slot); buffer.put(base + 1, key).put(base + 1 + keyWidth, value).put(base, (byte) 1);}
+
+    /**
+     * This method Copies a Whole Slot over another Slot.
+     * @param from is the Index of the Slot to Copy.
+     * @param to is the Index of the Slot to Overwrite.
+     */
+
+    private void copy(int from, int to) {byte[] slot = new byte[slotWidth]; chunk(from).get(offset(from), slot); chunk(to).put(offset(to), slot);}
+
+    /**
+     * This method checks that a Key or Value has the Width of this Table.
+     * @param bytes is the Key or Value to Check.
+     * @param width is the Expected Width.
+     * @param name is the Name of the Argument to Report.
+     * @throws IllegalArgumentException if the bytes are NULL or have the Wrong Width.
+     */
+
+    private static void checkWidth(byte[] bytes, int width, String name) {
+        if (bytes == null) throw new IllegalArgumentException("The " + name + " cannot be NULL!"); if (bytes.length != width) throw new IllegalArgumentException("The " + name + " must be " + width + " Bytes Wide!");
+    }
+
+    /**
+     * This method returns the Slot which holds a Key.
+     * @param key is the Key to Find.
+     * @return an Integer representing the Slot which holds the Key, or -1 if the Key is not in the Hash Table.
+     */
+
+    private int find(byte[] key) {int i = hash(key); while (occupied(i)) {if (keyEquals(i, key)) return i; i = (i + 1) % numberOfSlots;} return -1;}
+
+    /**
+     * This method Doubles the Number of Slots by Copying every Pair into a New File, which then Atomically Replaces the Backing File and is Mapped in its Place.  The Old Mapping is Kept
+     * until the New File is in Place and Mapped, so if either Step Fails the Table is Unchanged and still Usable.
+     * @throws IllegalStateException if Doubling the Number of Slots would Overflow an int.
+     */
+
+    private void resize() {
+        if (numberOfSlots > Integer.MAX_VALUE / 2) throw new IllegalStateException("The Hash Table cannot Grow beyond " + numberOfSlots + " Slots!");
+        Path temp = file.resolveSibling(file.getFileName() + ".resize"); try {
+            Files.deleteIfExists(temp); try (MappedHashTable bigger = new MappedHashTable(temp, keyWidth, valueWidth, 2 * numberOfSlots, loadFactor)) {
+                for (int i = 0; i < numberOfSlots; i++) {if (occupied(i)) bigger.insert(readKey(i), readValue(i));}
+            }
+            try {Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);} catch (IOException e) {Files.deleteIfExists(temp); throw e;}
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer newHeader = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE); MappedByteBuffer[] newChunks = map(channel, newHeader.getInt(SLOTS)); // Mapping the New File before the Old Mapping is Dropped.
+                header = newHeader; chunks = newChunks; numberOfSlots = header.getInt(SLOTS); param1 = header.getInt(PARAM1); param2 = header.getInt(PARAM2);
+            }
+        } catch (IOException e) {throw new UncheckedIOException("Could not Resize the Hash Table File " + file, e);}
+    }
+
+    /**
+     * This method inserts a Key: Value Pair into the Hash Table, however, if the Key already exists in the Hash Table, its Value is Updated with the New Value.
+     * @param key is the Key to be Inserted into the Hash Table.
+     * @param value is the corresponding Value to be Inserted into the Hash Table.
+     * @throws IllegalArgumentException if the Key or Value is NULL or does not have the Width of this Table.
+     * @throws UncheckedIOException if the Table needed to Grow and the Backing File could not be Replaced, in which case the Table is Unchanged.
+     * @throws IllegalStateException if the Table needed to Grow and already has more than Integer.MAX_VALUE / 2 Slots.
+     */
+
+    public void insert(byte[] key, byte[] value) {
+        checkWidth(key, keyWidth, "Key"); checkWidth(value, valueWidth, "Value");
+        if (numberOfPairs + 1 > loadFactor * numberOfSlots) resize(); // If the Hash Table would Exceed its Load Factor, Double the Table Size.
+        int i = hash(key); while (occupied(i)) {if (keyEquals(i, key)) {chunk(i).put(offset(i) + 1 + keyWidth, value); return;} i = (i + 1) % numberOfSlots;}
+        write(i, key, value); header.putInt(PAIRS, ++numberOfPairs);
+    }
+
+    /**
+     * This method returns the Value associated with a Key in a Key: Value Pair in the Hash Table.
+     * @param key is the Key whose Value is to be Returned.
+     * @return a New Array holding the Value which corresponds to the Key, or NULL is returned if the Key is not in the Hash Table.
+     * @throws IllegalArgumentException if the Key is NULL or does not have the Width of this Table.
+     */
+
+    public byte[] search(byte[] key) {checkWidth(key, keyWidth, "Key"); int slot = find(key); return slot < 0 ? null : readValue(slot);}
+
+    /**
+     * This method removes the Specified Key and its associated Value from the Hash Table, then uses Backward-Shift Deletion to move the Rest of the Cluster Back into the Empty Slot.
+     * @param key is the Key of the Key: Value Pair to be Removed from the Hash Table.
+     * @throws IllegalArgumentException if the Key is NULL or does not have the Width of this Table.
+     */
+
+    public void delete(byte[] key) {
+        checkWidth(key, keyWidth, "Key"); int hole = find(key); if (hole < 0) return; header.putInt(PAIRS, --numberOfPairs);
+        int slot = (hole + 1) % numberOfSlots; int distance = 1; while (occupied(slot)) { // Shifting the Rest of the Cluster Back into the Hole.
+            int length = (slot - hash(readKey(slot)) + numberOfSlots) % numberOfSlots; if (length >= distance) {copy(slot, hole); hole = slot; distance = 0;}
+            slot = (slot + 1) % numberOfSlots; distance++;
+        } chunk(hole).put(offset(hole), (byte) 0);
+    }
+
+    /**
+     * This method tests if a Specific Key is present within a Hash Table.
+     * @param key is the Key to Check Membership of in the Hash Table.
+     * @return a Boolean Value where true is returned if the Hash Table contains the Specified Key, false if the Specified Key is not present in the Hash Table.
+     * @throws IllegalArgumentException if the Key is NULL or does not have the Width of this Table.
+     */
+
+    public boolean contains(byte[] key) {checkWidth(key, keyWidth, "Key"); return find(key) >= 0;}
+
+    /**
+     * This method returns the Number of Key: Value Pairs in the Hash Table.
+     * @return an Integer representing the Number of Key: Value Pairs in the Hash Table.
+     */
+
+    public int size() {return numberOfPairs;}
+
+    /**
+     * This method tests if the Hash Table is Empty.
+     * @return a Boolean Value where true is returned if the Hash Table is Empty, false otherwise.
+     */
+
+    public boolean isEmpty() {return size() == 0;}
+
+    /**
+     * This method Writes every Modified Page of the Header and the Slots back to the Storage Device, so the Current Contents Survive a Crash.
+     */
+
+    public void force() {header.force(); for (MappedByteBuffer chunk : chunks) {chunk.force();}}
+
+    /**
+     * This method Forces the Table to Storage and Releases the Mapped Buffers, after which the Table must not be Used.
+     */
+
+    @Override public void close() {if (header != null) {force(); header = null; chunks = null;}}
+
+    /**
+     * This method tests the {@code MappedHashTable} Class by Inserting, Searching and Deleting 8-Byte Keys and Values, then Reopening the File and Checking the Pairs are still there.
+     * @param args the Command-Line Arguments.
+     * @throws IOException if the Temporary File cannot be Created or Deleted.
+     */
+
+    public static void main(String[] args) throws IOException {
+        Path file = Files.createTempFile("hashtable", ".bin"); Files.delete(file); java.nio.ByteBuffer bytes = java.nio.ByteBuffer.allocate(8);
+        try (MappedHashTable hashTable = new MappedHashTable(file, 8, 8, 16, 0.5)) {
+            for (long i = 0; i < 10000; i++) {hashTable.insert(bytes.putLong(0, i).array().clone(), bytes.putLong(0, i * i).array().clone());}
+            for (long i = 0; i < 10000; i += 2) {hashTable.delete(bytes.putLong(0, i).array().clone());} assert hashTable.size() == 5000;
+        }
+        try (MappedHashTable hashTable = new MappedHashTable(file)) {
+            assert hashTable.size() == 5000; for (long i = 0; i < 10000; i++) {byte[] value = hashTable.search(bytes.putLong(0, i).array().clone()); assert (i % 2 == 0) == (value == null);}
+            System.out.println("The Value of Key 7 is: " + java.nio.ByteBuffer.wrap(hashTable.search(bytes.putLong(0, 7).array().clone())).getLong());
+        } Files.delete(file);
+
+        // Testing that Reopening a Missing File Fails without Creating it, and that Invalid Arguments are Rejected before the File is Created.
+        try {new MappedHashTable(file).close(); assert false;} catch (UncheckedIOException e) {assert e.getCause() instanceof java.nio.file.NoSuchFileException;} assert !Files.exists(file);
+        try {new MappedHashTable(file, 8, 8, 1, 0.5).close(); assert false;} catch (IllegalArgumentException e) {assert !Files.exists(file);}
+        try {new MappedHashTable(file, 8, 8, 16, 1.5).close(); assert false;} catch (IllegalArgumentException e) {assert !Files.exists(file);}
+        Files.createFile(file); try {new MappedHashTable(file).close(); assert false;} catch (IllegalArgumentException e) {assert Files.size(file) == 0;} Files.delete(file);
+
+        // Testing that a Resize whose Move Fails leaves the Table Usable, by Replacing the Backing File with a Non-Empty Directory, which the Move cannot Replace.
+        try (MappedHashTable hashTable = new MappedHashTable(file, 8, 8, 16, 0.5)) {
+            for (long i = 0; i < 8; i++) {hashTable.insert(bytes.putLong(0, i).array().clone(), bytes.putLong(0, i).array().clone());}
+            Files.delete(file); Files.createDirectory(file); Path blocker = Files.createFile(file.resolve("blocker"));
+            try {hashTable.insert(bytes.putLong(0, 8).array().clone(), bytes.putLong(0, 8).array().clone()); assert false;} catch (UncheckedIOException e) {System.out.println(e.getMessage());}
+            assert hashTable.size() == 8 && !Files.exists(file.resolveSibling(file.getFileName() + ".resize"));
+            for (long i = 0; i < 8; i++) {assert java.nio.ByteBuffer.wrap(hashTable.search(bytes.putLong(0, i).array().clone())).getLong() == i;}
+            hashTable.delete(bytes.putLong(0, 3).array().clone()); assert hashTable.search(bytes.putLong(0, 3).array().clone()) == null; // Checking the Table can still be Written.
+            hashTable.insert(bytes.putLong(0, 3).array().clone(), bytes.putLong(0, 33).array().clone()); assert java.nio.ByteBuffer.wrap(hashTable.search(bytes.putLong(0, 3).array().clone())).getLong() == 33;
+            Files.delete(blocker); Files.delete(file);
+        }
+        System.out.println("All Tests Passed Successfully!");
+    }
+}
@@ -0,0 +1,131 @@
+import java.util.Random; // Importing Random from the java.util Package to Randomly Choose a Hash Function to Use from the Collection of Hash Functions.
+
+/**
+ * @author LewisThackeray
+ * @date 17/10/2026
+ *
+ * {@code PrimitiveHashTable} is the Base of the Primitive-Specialised Hash Tables ({@link IntIntHashTable}, {@link IntLongHashTable}, {@link LongLongHashTable} and {@link LongObjectHashTable}).
+ * It holds what does not Depend on the Types of the Keys and Values: the Counts, the Universal Hash Function, the Growth Policy and the Backward-Shift Deletion of {@link HashTable}.  Each
+ * Subclass keeps its own Flat Arrays and its own Probe Loops for Insert and Search, so that a Probe Compares Primitives in a Loop the JIT Compiler can Specialise, and only Delete and Resize
+ * Reach the Arrays through the Abstract Slot Methods.
+ *
+ * <p><b>Hash Function:</b> A Key is Hashed by the Multiply-Add-Shift Scheme: (a * key + b) mod 2^64 for a Random Odd a and a Random b, whose High 32 Bits are then Scaled to a Slot by a
+ * Multiply and a Shift, rather than a Remainder.  Every Slot of a Table of any Size is therefore a Home Slot, however Large the Table is, and Consecutive Keys are Scattered.</p>
+ */
+
+abstract class PrimitiveHashTable {
+
+    static final int INITIAL_CAPACITY = 16; // Creating a Constant for the Initial Capacity of the Hash Table.
+    static final int EMPTY = 0; // Creating a Constant for the Sentinel Key which marks an Empty Slot.
+    boolean hasZeroKey; // Creating a Variable to Store whether the Sentinel Key is in the Hash Table, its Value being kept by the Subclass outside the Arrays.
+    int numberOfPairs; int numberOfSlots; // Creating Variables to Store the Number of Pairs and the Number of Slots in the Hash Table.
+    private long param1, param2; // Creating Variables to Store the Parameters for Universal Hashing.
+
+    /**
+     * This is the Class Constructor which Initialises the Counts of an Empty Hash Table with the Specified Capacity and Randomly Generates the Parameters for Universal Hashing.
+     * @param capacity is an Integer specifying the Number of Slots in the Hash Table.
+     * @throws IllegalArgumentException if the capacity is less than 2.
+     */
+
+    PrimitiveHashTable(int capacity) {
+        if (capacity < 2) throw new IllegalArgumentException("The Capacity must be at Least 2!");
+        numberOfSlots = capacity; numberOfPairs = 0; Random random = new Random(); param1 = random.nextLong() | 1; param2 = random.nextLong(); // Initialising the Universal Hashing Parameters.
+    }
+
+    /**
+     * This method returns the Hash Value for a Specified Key using Universal Hashing, an int Key being Widened to a long.
+     * @param key is the Key to be Hashed.
+     * @return an Integer representing the Slot where the Key: Value Pair will be Stored in the Hash Table (between 0 and numberOfSlots - 1).
+     */
+
+    final int hash(long key) {return (int) ((((param1 * key + param2) >>> 32) * numberOfSlots) >>> 32);}
+
+    /**
+     * This method returns the Key in a Slot, Widened to a long.
+     * @param slot is the Index of the Slot.
+     * @return the Key in the Slot, or EMPTY if the Slot is Empty.
+     */
+
+    abstract long keyAt(int slot);
+
+    /**
+     * This method Moves the Pair in One Slot into Another, leaving the First Slot as it was.
+     * @param from is the Index of the Slot to Move the Pair from.
+     * @param to is the Index of the Slot to Move the Pair into.
+     */
+
+    abstract void move(int from, int to);
+
+    /**
+     * This method Empties a Slot, Clearing its Value as well as its Key.
+     * @param slot is the Index of the Slot.
+     */
+
+    abstract void clear(int slot);
+
+    /**
+     * This method resizes the Hash Table to the Specified Capacity by Inserting every Pair into a New Table, whose Arrays and Counts it then Adopts with {@link #adopt}.
+     * @param newCapacity is an Integer Specifying the Updated Number of Slots in the Hash Table.
+     */
+
+    abstract void resize(int newCapacity);
+
+    /**
+     * This method Adopts the Number of Slots and the Universal Hashing Parameters of a Resized Copy, whose Arrays the Subclass has Adopted.
+     * @param resized is the Resized Copy of the Hash Table.
+     */
+
+    final void adopt(PrimitiveHashTable resized) {numberOfSlots = resized.numberOfSlots; param1 = resized.param1; param2 = resized.param2;}
+
+    /**
+     * This method Doubles the Table Size before an Insert if the Hash Table is 50% Full.
+     */
+
+    final void growIfHalfFull() {if (numberOfPairs >= numberOfSlots / 2) resize(2 * numberOfSlots);}
+
+    /**
+     * This method removes the Pair in a Slot by Backward-Shift Deletion: each Later Key of the Cluster which would be Cut Off from its Hash Slot by the Hole is Shifted Back into it, and
+     * its own Slot becomes the Hole, so that no Key is Re-Inserted and no Count Changes but the One.
+     * @param hole is the Index of the Slot holding the Pair to Remove.
+     */
+
+    final void deleteSlot(int hole) {
+        numberOfPairs--; int slot = (hole + 1) % numberOfSlots, distance = 1;
+        for (long key; (key = keyAt(slot)) != EMPTY; slot = (slot + 1) % numberOfSlots, distance++) { // Shifting the Rest of the Cluster Back into the Hole.
+            if ((slot - hash(key) + numberOfSlots) % numberOfSlots >= distance) {move(slot, hole); hole = slot; distance = 0;}
+        } clear(hole);
+        if (numberOfPairs > 0 && numberOfPairs <= numberOfSlots / 8) resize(numberOfSlots / 2); // If the Hash Table is only 1/8 Full, Halve the Table Size.
+    }
+
+    /**
+     * This method returns the Number of Key: Value Pairs in the Hash Table.
+     * @return an Integer representing the Number of Key: Value Pairs in the Hash Table.
+     */
+
+    public int size() {return numberOfPairs;}
+
+    /**
+     * This method tests if the Hash Table is Empty.
+     * @return a Boolean Value where true is returned if the Hash Table is Empty, false otherwise.
+     */
+
+    public boolean isEmpty() {return size() == 0;}
+
+    /**
+     * This method tests the {@code PrimitiveHashTable} Class by Checking that the Hash Function Reaches the Top of a Table far Larger than the Tables it is Tested with elsewhere, whose
+     * Arrays are never Allocated here.
+     * @param args the Command-Line Arguments.
+     */
+
+    public static void main(String[] args) {
+        PrimitiveHashTable huge = new PrimitiveHashTable(1 << 30) {
+            @Override long keyAt(int slot) {return EMPTY;}
+            @Override void move(int from, int to) {}
+            @Override void clear(int slot) {}
+            @Override void resize(int newCapacity) {}
+        };
+        int highest = 0, lowest = Integer.MAX_VALUE; for (int key = 1; key <= 100000; key++) {int slot = huge.hash(key); assert slot >= 0 && slot < 1 << 30; highest = Math.max(highest, slot); lowest = Math.min(lowest, slot);}
+        assert highest > (1 << 30) - (1 << 20) && lowest < 1 << 20 : highest + " " + lowest; // Checking the Home Slots of 100000 Consecutive Keys Span the Whole Table.
+        assert huge.hash(Long.MIN_VALUE) >= 0 && huge.hash(-1) < 1 << 30; System.out.println("All Tests Passed Successfully!");
+    }
+}
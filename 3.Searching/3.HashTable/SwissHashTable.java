@@ -0,0 +1,223 @@
+import java.lang.invoke.MethodHandles; // Importing MethodHandles from the java.lang.invoke Package to Create a View of the Control Bytes as 64-Bit Words.
+import java.lang.invoke.VarHandle; // Importing VarHandle from the java.lang.invoke Package to Read Eight Control Bytes with a Single Load.
+import java.nio.ByteOrder; // Importing ByteOrder from the java.nio Package so the Lowest Byte of a Word is always the Lowest Slot of the Group.
+import java.util.Random; // Importing Random from the java.util Package to Randomly Choose a Hash Function to Use from the Collection of Hash Functions.
+
+/**
+ * @author LewisThackeray
+ * @date 17/10/2026
+ *
+ * {@code SwissHashTable} implements a <em>Hash Table</em> which represents a Symbol Table of Generic Key: Value Pairs with the same insert, search, delete and contains API as {@link HashTable},
+ * but uses the Open Addressing Layout of a <em>Swiss Table</em>.  The Slots are Divided into Groups of GROUP_SIZE, and alongside the Keys and Values there is a Control Byte for every Slot:
+ * EMPTY, DELETED, or for an Occupied Slot a 7-Bit Tag taken from the Key's Hash.
+ *
+ * <p><i>A Probe looks at a Whole Group at a time.  The 16 Control Bytes of the Group are Loaded as Two 64-Bit Words and Compared with the Tag of the Search Key using SIMD-Within-A-Register
+ * Bit Tricks, which gives a Bit Mask of the Slots whose Tag Matches.  Only those Slots have their Keys Compared, so on average a Search touches a Key only about once in 128 Mismatched Slots,
+ * and an Unsuccessful Search usually ends after a Single Group because the Group also contains an EMPTY Slot.  This makes the Table well suited to Lookup-Heavy Workloads where most Lookups
+ * Miss.  Groups are Visited in Triangular (Quadratic) Order, which Visits every Group when the Number of Groups is a Power of Two.</i></p>
+ *
+ * <p><i>The Hash Function is a Randomly Chosen Member of the Multiply-Shift Universal Family, which (unlike the Modular Family of {@link HashTable}) suits Power of Two Table Sizes.  Its High
+ * Bits choose the First Group and its Next 7 Bits give the Tag.</i></p>
+ *
+ * @param Key is the type of keys maintained by the Symbol Table, the keys must be Comparable.
+ * @param Value is the type of mapped values.
+ */
+
+public class SwissHashTable<Key extends Comparable<Key>, Value> {
+
+    private static final int GROUP_SIZE = 16; // Creating a Constant for the Number of Slots in a Group.
+    private static final int INITIAL_CAPACITY = 16; // Creating a Constant for the Initial Capacity of the Hash Table.
+    private static final byte EMPTY = (byte) 0x80, DELETED = (byte) 0xFE; // Creating Constants for the Control Bytes of Empty and Deleted Slots (Occupied Slots hold a Tag from 0 to 127).
+    private static final long LSBS = 0x0101010101010101L, MSBS = 0x8080808080808080L; // Creating Constants with the Lowest and Highest Bit of every Byte of a Word Set.
+    private static final VarHandle WORDS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN); // Creating a View of a byte[] as Little-Endian long Words.
+    private byte[] control; private Key[] keys; private Value[] values; // Creating the Control Bytes and the Parallel Arrays which Store the Key: Value Pairs.
+    private int numberOfPairs, numberOfDeleted, groupMask; // Creating Variables to Store the Number of Pairs, the Number of DELETED Slots and the Mask which Selects a Group.
+    private long multiplier; // Creating a Variable to Store the Parameter for Multiply-Shift Universal Hashing.
+
+    /**
+     * This is an Overloaded Class Constructor which Initialises an Empty Hash Table with INITIAL_CAPACITY Slots.
+     */
+
+    public SwissHashTable() {this(INITIAL_CAPACITY);}
+
+    /**
+     * This is an Overloaded Class Constructor which Initialises an Empty Hash Table with at least the Specified Capacity, Rounded up to a Power of Two Number of Groups.
+     * @param capacity is an Integer specifying the Minimum Number of Slots in the Hash Table.
+     * @throws IllegalArgumentException if the capacity is negative.
+     */
+
+    public SwissHashTable(int capacity) {if (capacity < 0) throw new IllegalArgumentException("The Capacity cannot be Negative!"); allocate(capacity);}
+
+    /**
+     * This method Allocates Empty Arrays for at least the Specified Number of Slots and Randomly Chooses a New Hash Function.
+     * @param capacity is an Integer specifying the Minimum Number of Slots.
+     */
+
+    @SuppressWarnings("unchecked") private void allocate(int capacity) {
+        int groups = Integer.highestOneBit(Math.max(1, (capacity + GROUP_SIZE - 1) / GROUP_SIZE)); if (groups * GROUP_SIZE < capacity) groups <<= 1; // Rounding up to a Power of Two.
+        control = new byte[groups * GROUP_SIZE]; java.util.Arrays.fill(control, EMPTY); keys = (Key[]) new Comparable<?>[control.length]; values = (Value[]) new Object[control.length];
+        groupMask = groups - 1; numberOfPairs = 0; numberOfDeleted = 0; multiplier = new Random().nextLong() | 1L; // Initialising the Universal Hashing Parameter (which must be Odd).
+    }
+
+    /**
+     * This method returns the 64-Bit Hash of a Key, whose High 32 Bits choose the First Group and whose next 7 Bits are the Tag.
+     * @param key of type Key is the Key to be Hashed.
+     * @return a long representing the Hash of the Key.
+     */
+
+    private long hash(Key key) {return key.hashCode() * multiplier;}
+
+    /**
+     * This method returns the Tag of a Hash, which is Stored in the Control Byte of an Occupied Slot.
+     * @param hash is the Hash of a Key.
+     * @return a Byte from 0 to 127.
+     */
+
+    private static byte tag(long hash) {return (byte) ((hash >>> 25) & 0x7F);}
+
+    /**
+     * This method returns the First Group Probed for a Hash.
+     * @param hash is the Hash of a Key.
+     * @return an Integer representing the Index of the First Group.
+     */
+
+    private int firstGroup(long hash) {return (int) (hash >>> 32) & groupMask;}
+
+    /**
+     * This method returns a Mask with the High Bit Set in every Byte of a Control Word which Equals the Tag.  A Byte just above a True Match can occasionally be Flagged as well, which is
+     * harmless because every Match is Confirmed by Comparing the Keys.
+     * @param word is Eight Control Bytes.
+     * @param tag is the Tag to Look for.
+     * @return a Mask of the Matching Bytes.
+     */
+
+    private static long matchTag(long word, byte tag) {long x = word ^ (LSBS * tag); return (x - LSBS) & ~x & MSBS;}
+
+    /**
+     * This method returns a Mask with the High Bit Set in every Byte of a Control Word which is EMPTY (0x80 is the only Control Byte with its Highest Bit Set and its Second Lowest Bit Clear).
+     * @param word is Eight Control Bytes.
+     * @return a Mask of the EMPTY Bytes.
+     */
+
+    private static long matchEmpty(long word) {return word & ~(word << 6) & MSBS;}
+
+    /**
+     * This method returns a Mask with the High Bit Set in every Byte of a Control Word which is EMPTY or DELETED (the only Control Bytes with their Highest Bit Set and Lowest Bit Clear).
+     * @param word is Eight Control Bytes.
+     * @return a Mask of the Free Bytes.
+     */
+
+    private static long matchFree(long word) {return word & ~(word << 7) & MSBS;}
+
+    /**
+     * This method returns the Slot which holds a Key by Probing a Group at a time.
+     * @param key of type Key is the Key to Find.
+     * @param hash is the Hash of the Key.
+     * @return an Integer representing the Slot which holds the Key, or -1 if the Key is not in the Hash Table.
+     */
+
+    private int find(Key key, long hash) {
+        byte tag = tag(hash); int group = firstGroup(hash); for (int step = 1; ; step++) {
+            int base = group * GROUP_SIZE; long low = (long) WORDS.get(control, base); long high = (long) WORDS.get(control, base + 8);
+            for (long m = matchTag(low, tag); m != 0; m &= m - 1) {int slot = base + (Long.numberOfTrailingZeros(m) >>> 3); if (key.equals(keys[slot])) return slot;}
+            for (long m = matchTag(high, tag); m != 0; m &= m - 1) {int slot = base + 8 + (Long.numberOfTrailingZeros(m) >>> 3); if (key.equals(keys[slot])) return slot;}
+            if ((matchEmpty(low) | matchEmpty(high)) != 0 || step > groupMask) return -1; group = (group + step) & groupMask; // An EMPTY Slot Ends the Probe Sequence.
+        }
+    }
+
+    /**
+     * This method returns the First EMPTY or DELETED Slot on the Probe Sequence of a Hash.
+     * @param hash is the Hash of a Key.
+     * @return an Integer representing the Free Slot.
+     */
+
+    private int findFree(long hash) {
+        int group = firstGroup(hash); for (int step = 1; ; step++) {
+            int base = group * GROUP_SIZE; long low = matchFree((long) WORDS.get(control, base)); if (low != 0) return base + (Long.numberOfTrailingZeros(low) >>> 3);
+            long high = matchFree((long) WORDS.get(control, base + 8)); if (high != 0) return base + 8 + (Long.numberOfTrailingZeros(high) >>> 3); group = (group + step) & groupMask;
+        }
+    }
+
+    /**
+     * This method Rebuilds the Table, Doubling it if it is more than Half Full of Pairs and otherwise keeping its Size and just Clearing out the DELETED Slots.
+     */
+
+    private void rehash() {
+        Key[] oldKeys = keys; Value[] oldValues = values; byte[] oldControl = control; allocate(numberOfPairs * 2 > control.length ? 2 * control.length : control.length);
+        for (int i = 0; i < oldControl.length; i++) {if (oldControl[i] >= 0) {long hash = hash(oldKeys[i]); int slot = findFree(hash); control[slot] = tag(hash); keys[slot] = oldKeys[i]; values[slot] = oldValues[i]; numberOfPairs++;}}
+    }
+
+    /**
+     * This method inserts a Key: Value Pair into the Hash Table, however, if the Key already exists in the Hash Table, its Value is Updated with the New Value.
+     * @param key of type Key is the Key to be Inserted into the Hash Table.
+     * @param value of type Value is the corresponding Value to be Inserted into the Hash Table.
+     * @throws IllegalArgumentException if the Key to be Inserted into the Hash Table is NULL.
+     */
+
+    public void insert(Key key, Value value) {
+        if (key == null) throw new IllegalArgumentException("The Key cannot be NULL!"); if (value == null) {delete(key); return;} // Deleting the Key from the Hash Table if the Value is NULL.
+        long hash = hash(key); int slot = find(key, hash); if (slot >= 0) {values[slot] = value; return;}
+        if ((numberOfPairs + numberOfDeleted + 1) * 8L > control.length * 7L) {rehash(); hash = hash(key);} // If the Hash Table would be 7/8 Used, Rebuild it.
+        slot = findFree(hash); if (control[slot] == DELETED) numberOfDeleted--; control[slot] = tag(hash); keys[slot] = key; values[slot] = value; numberOfPairs++;
+    }
+
+    /**
+     * This method returns the Value associated with a Key in a Key: Value Pair in the Hash Table.
+     * @param key of type Key is the Key whose Value is to be Returned.
+     * @return a Value which corresponds to the Key passed into the method in the Key: Value Pair, or NULL is returned if the Key is not in the Hash Table.
+     * @throws IllegalArgumentException if the Key passed into the method is NULL.
+     */
+
+    public Value search(Key key) {if (key == null) throw new IllegalArgumentException("The Key cannot be NULL!"); int slot = find(key, hash(key)); return slot < 0 ? null : values[slot];}
+
+    /**
+     * This method removes the Specified Key and its associated Value from the Hash Table.  The Slot is Marked EMPTY if its Group still has an EMPTY Slot, because then no Probe Sequence has
+     * ever Passed through the Group, and otherwise it is Marked DELETED so that Probes for Keys Stored further along keep going.
+     * @param key of type Key is the Key of the Key: Value Pair to be Removed from the Hash Table.
+     * @throws IllegalArgumentException if the Key passed into the method is NULL.
+     */
+
+    public void delete(Key key) {
+        if (key == null) throw new IllegalArgumentException("The Key cannot be NULL."); int slot = find(key, hash(key)); if (slot < 0) return;
+        int base = slot & -GROUP_SIZE; boolean groupHasEmpty = (matchEmpty((long) WORDS.get(control, base)) | matchEmpty((long) WORDS.get(control, base + 8))) != 0;
+        if (groupHasEmpty) control[slot] = EMPTY; else {control[slot] = DELETED; numberOfDeleted++;} keys[slot] = null; values[slot] = null; numberOfPairs--;
+    }
+
+    /**
+     * This method tests if a Specific Key is present within a Hash Table.
+     * @param key of type Key is the Key to Check Membership of in the Hash Table.
+     * @return a Boolean Value where true is returned if the Hash Table contains the Specified Key, false if the Specified Key is not present in the Hash Table.
+     * @throws IllegalArgumentException if the Key passed into the method is NULL.
+     */
+
+    public boolean contains(Key key) {if (key == null) throw new IllegalArgumentException("The Key cannot be NULL."); return find(key, hash(key)) >= 0;}
+
+    /**
+     * This method returns the Number of Key: Value Pairs in the Hash Table.
+     * @return an Integer representing the Number of Key: Value Pairs in the Hash Table.
+     */
+
+    public int size() {return numberOfPairs;}
+
+    /**
+     * This method tests if the Hash Table is Empty.
+     * @return a Boolean Value where true is returned if the Hash Table is Empty, false otherwise.
+     */
+
+    public boolean isEmpty() {return size() == 0;}
+
+    /**
+     * This method tests the {@code SwissHashTable} Class by Inserting, Searching and Deleting Random Keys and Checking the Results against {@link HashTable}.
+     * @param args the Command-Line Arguments.
+     */
+
+    public static void main(String[] args) {
+        SwissHashTable<Integer, String> hashTable = new SwissHashTable<>(); hashTable.insert(1, "Apple"); hashTable.insert(2, "Orange"); hashTable.insert(5, "Strawberry");
+        hashTable.insert(87, "Banana"); hashTable.insert(8463, "Blueberry"); System.out.println("The Value of Key 2 is: " + hashTable.search(2)); hashTable.delete(8463); assert !hashTable.contains(8463);
+        SwissHashTable<Integer, Integer> swiss = new SwissHashTable<>(); HashTable<Integer, Integer> linear = new HashTable<>(); Random random = new Random(3);
+        for (int i = 0; i < 200000; i++) {
+            int key = random.nextInt(20000); switch (random.nextInt(3)) {case 0: swiss.insert(key, i); linear.insert(key, i); break; case 1: swiss.delete(key); linear.delete(key); break;
+                default: assert java.util.Objects.equals(swiss.search(key), linear.search(key));}
+        } assert swiss.size() == linear.size(); System.out.println("All Tests Passed Successfully!");
+    }
+}
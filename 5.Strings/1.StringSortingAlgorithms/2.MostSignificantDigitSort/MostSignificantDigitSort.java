@@ -1,4 +1,5 @@
 import java.util.Arrays; // Importing the Arrays Class from java.util to Support Array Manipulation and Create the Auxiliary Array.
+import java.util.Comparator; // Importing the Comparator Interface from java.util to Compare Two Strings from a Character Position in the Insertion Sort.
 
 /**
  * @author LewisThackeray
@@ -18,12 +19,15 @@ import java.util.Arrays; // Importing the Arrays Class from java.util to Support
  * Character by Incrementing the Corresponding Index in the Count Array for each Occurrence of the Character.  Then we Calculate the Correct Position of each String in the Output Array by
  * Calculating its Cumulative Sum and finally, we use the Count Array to place each Element in its Correct position in the Output Array based on its Key and then we copy the Output Array back to
  * the Original Array.</p>
+ *
+ * <p>Key-Indexed Counting costs O(R) for every Subarray however Small, so Subarrays of at most CUT Strings (or a Cutoff given by the Caller) are Finished with
+ * {@link InsertionSort#binarySort} instead, Comparing the Strings only from the Current Character Position, since all the Strings in a Subarray Share the Characters before it.</p>
  */
 
 public class MostSignificantDigitSort {
 
     private static final int R = 256; // Creating a Variable to Store the Size of the Character Set, in this Implementation we are using Extended ASCII.
-    private static final int CUT = 6; // Creating a Variable to Store the Cut Off Point, where an Insertion Sort is Performed, so Sub-Arrays with Less than 6 Strings perform an Insertion Sort.
+    private static final int CUT = 6; // Creating a Variable to Store the Cut Off Point, where an Insertion Sort is Performed, so Sub-Arrays of at most 6 Strings perform an Insertion Sort.
 
     /**
      * This is the Class Constructor.  The Class Constructor is Private to Prevent Instantiations of the Class, as this Class is Designed as a Utility Class with only Static Methods for performing
@@ -37,7 +41,19 @@ public class MostSignificantDigitSort {
      * @param array is the Array of Strings to be Sorted.
      */
 
-    public static void sort(String[] array) {String[] auxiliary_array = new String[array.length]; sort(array, auxiliary_array, 0, array.length - 1, 0); assert(isSorted(array));}
+    public static void sort(String[] array) {sort(array, CUT);}
+
+    /**
+     * This is a method which Sorts the Array of Strings using Most Significant Digit (MSD) Sort, Finishing Subarrays of at most cutoff Strings with Insertion Sort.
+     * @param array is the Array of Strings to be Sorted.
+     * @param cutoff is the Subarray Length at or below which Insertion Sort is used, where 1 uses Key-Indexed Counting all the way Down.
+     * @throws IllegalArgumentException if the Cutoff is less than 1.
+     */
+
+    public static void sort(String[] array, int cutoff) {
+        if (cutoff < 1) throw new IllegalArgumentException("The Cutoff must be at least 1!"); String[] auxiliary_array = new String[array.length]; sort(array, auxiliary_array, 0, array.length - 1, 0, cutoff);
+        assert(isSorted(array));
+    }
 
     /**
      * This method Recursively Sorts the Array of Strings from low to high Starting at Character Position position.
@@ -46,17 +62,18 @@ public class MostSignificantDigitSort {
      * @param low is an Integer which is the Lower Bound Index of the Subarray.
      * @param high is an Integer which is the Higher Bound Index of the Subarray.
      * @param position is an Integer which is the Current Character Position.
+     * @param cutoff is the Subarray Length at or below which Insertion Sort is used.
      */
 
-    private static void sort(String[] array, String[] auxiliary_array, int low, int high, int position) {
-        if (high <= low + CUT) {insertionSort(array, low, high, position); return;} int count[] = new int[R + 2]; for (int i = low; i <= high; i++) {count[charAt(array[i], position) + 2]++;}
+    private static void sort(String[] array, String[] auxiliary_array, int low, int high, int position, int cutoff) {
+        if (high - low < cutoff) {insertionSort(array, low, high, position); return;} int count[] = new int[R + 2]; for (int i = low; i <= high; i++) {count[charAt(array[i], position) + 2]++;}
         for (int r = 0; r < R + 1; r++) {count[r + 1] += count[r];} for (int i = low; i <= high; i++) {auxiliary_array[count[charAt(array[i], position) + 1]++ + low] = array[i];}
         for (int i = low; i <= high; i++) {array[i] = auxiliary_array[i];}
-        for (int r = 0; r < R; r++) {int newLow = low + count[r]; int newHigh = low + count[r + 1] - 1; if (newLow < newHigh) {sort(array, auxiliary_array, newLow, newHigh, position + 1);}}
+        for (int r = 0; r < R; r++) {int newLow = low + count[r]; int newHigh = low + count[r + 1] - 1; if (newLow < newHigh) {sort(array, auxiliary_array, newLow, newHigh, position + 1, cutoff);}}
     }
 
     /**
-     * This method performs an Insertion Sort on a Subarray when the Size is Smaller than CUT Constant, where the Insertion Sort starts at the Character Position position.
+     * This method performs a Binary Insertion Sort on a Subarray at or below the Cutoff, Comparing the Strings from the Character Position position onwards without Copying their Suffixes.
      * @param array is the Array of Strings to be Sorted.
      * @param low is an Integer which is the Lower Bound Index of the Subarray.
      * @param high is an Integer which is the Higher Bound Index of the Subarray.
@@ -64,10 +81,19 @@ public class MostSignificantDigitSort {
      */
 
     private static void insertionSort(String[] array, int low, int high, int position) {
-        for (int i = low + 1; i <= high; i++) {int j = i; while (j < low) {
-            String current = array[j]; String previous = array[j - 1]; if (current.substring(position).compareTo(previous.substring(position)) < 0) {
-                String temp = array[j]; array[j] = array[j - 1]; array[j - 1] = temp;} else {break;}
-        }}
+        if (high > low) InsertionSort.binarySort(array, (Comparator<String>) (v, w) -> compareFrom(v, w, position), low, high);
+    }
+
+    /**
+     * This method Compares Two Strings Lexicographically from a Character Position onwards, as String.compareTo would Compare their Suffixes.
+     * @param v is the First String.
+     * @param w is the Second String.
+     * @param position is an Integer which is the First Character Position Compared.
+     * @return a Negative Integer, Zero or a Positive Integer as v is Less than, Equal to or Greater than w from the Position onwards.
+     */
+
+    private static int compareFrom(String v, String w, int position) {
+        int end = Math.min(v.length(), w.length()); for (int i = position; i < end; i++) {char a = v.charAt(i), b = w.charAt(i); if (a != b) return a - b;} return v.length() - w.length();
     }
 
     /**
@@ -101,7 +127,14 @@ public class MostSignificantDigitSort {
 
     public static void main(String[] args) {
         String[] array = {"ruff", "babe", "cafe", "turf", "fade", "face", "cape", "cade", "bark"}; System.out.println("Array of Strings before Sorting: "); show(array); sort(array);
-        System.out.println("\nArray of Strings after Sorting: "); show(array); System.out.println("\nAll Tests Passed Successfully!");
+        System.out.println("\nArray of Strings after Sorting: "); show(array); assert isSorted(array);
+
+        // Testing Random Strings with Shared Prefixes and Duplicates at Several Cutoffs against the JDK's Sort, and the Error for a Cutoff below 1.
+        java.util.Random random = new java.util.Random(21); String[] strings = new String[5000]; for (int i = 0; i < strings.length; i++) {
+            StringBuilder builder = new StringBuilder("pre"); for (int length = random.nextInt(6); length > 0; length--) {builder.append((char) ('a' + random.nextInt(4)));} strings[i] = builder.toString();
+        }
+        String[] expected = strings.clone(); Arrays.sort(expected); for (int cutoff : new int[] {1, 2, 8, 32, 64, 10000}) {String[] copy = strings.clone(); sort(copy, cutoff); assert Arrays.equals(copy, expected);}
+        try {sort(strings, 0); assert false;} catch (IllegalArgumentException e) {System.out.println(e.getMessage());} System.out.println("\nAll Tests Passed Successfully!");
     }
 
 
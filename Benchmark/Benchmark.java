@@ -0,0 +1,143 @@
+import java.util.concurrent.CountDownLatch; // Importing CountDownLatch from the java.util.concurrent Package to Release the Threads of a Multi-Threaded Round at the same Time.
+import java.util.function.Consumer; // Importing Consumer from the java.util.function Package to pass a Sort to the Throughput Driver.
+import java.util.function.Supplier; // Importing Supplier from the java.util.function Package to pass the Set-Up of each Round to the Drivers.
+import java.util.function.UnaryOperator; // Importing UnaryOperator from the java.util.function Package to pass the Copy of an Input to the Throughput Driver.
+
+/**
+ * @author LewisThackeray
+ * @date 17/10/2026
+ *
+ * {@code Benchmark} is the Harness Shared by the Micro-Benchmarks of the Repository.  Each Driver Runs a Case for a number of Warm-Up Rounds, so that the JIT Compiler has Compiled the Hot
+ * Loops before they are Timed, and then for a number of Measured Rounds, and Keeps the Best (Fastest) Measured Round, which is the one least Disturbed by Garbage Collection and by other
+ * Processes.  Every Round is Set Up Afresh by a Supplier, and only the Work it Returns is Timed.
+ *
+ * <p><i>Results which a Case would otherwise Discard should be passed to {@link #sink(long)}, a Static Field the JIT Compiler cannot Prove is Unread, so that it cannot Eliminate the Work
+ * that Computes them.  The Sink is not Synchronized, as only its being Written Matters.</i></p>
+ */
+
+public final class Benchmark {
+
+    public static final int WARMUP_ROUNDS = 3; // Creating a Constant for the Default Number of Unmeasured Rounds.
+    public static final int MEASURED_ROUNDS = 5; // Creating a Constant for the Default Number of Measured Rounds.
+    private static long sink; // Creating the Sink for Results which would otherwise be Unused.
+
+    /**
+     * This is the Class Constructor.  The Class Constructor is Private to Prevent Instantiations of the Class, as the Harness only has Static Drivers.
+     */
+
+    private Benchmark() {}
+
+    /**
+     * This method Runs a Case for the Default Number of Warm-Up and Measured Rounds and Returns the Best Measured Time.
+     * @param round Sets Up a Round, Untimed, and Returns the Work to Time.
+     * @return the Best Measured Time in Nanoseconds.
+     */
+
+    public static long best(Supplier<? extends Runnable> round) {return best(WARMUP_ROUNDS, MEASURED_ROUNDS, round);}
+
+    /**
+     * This method Runs a Case for the Given Number of Warm-Up and Measured Rounds and Returns the Best Measured Time.
+     * @param warmupRounds is the Number of Unmeasured Rounds.
+     * @param measuredRounds is the Number of Measured Rounds, at least 1.
+     * @param round Sets Up a Round, Untimed, and Returns the Work to Time.
+     * @return the Best Measured Time in Nanoseconds.
+     */
+
+    public static long best(int warmupRounds, int measuredRounds, Supplier<? extends Runnable> round) {
+        return bestPhases(warmupRounds, measuredRounds, () -> {Runnable work = round.get(); long start = System.nanoTime(); work.run(); return new long[] {System.nanoTime() - start};})[0];
+    }
+
+    /**
+     * This method Runs a Case which Times its own Phases for the Default Number of Warm-Up and Measured Rounds and Returns the Best Measured Time of each Phase.
+     * @param round Runs a Round and Returns the Nanoseconds each of its Phases Took.
+     * @return the Best Measured Time of each Phase in Nanoseconds.
+     */
+
+    public static long[] bestPhases(Supplier<long[]> round) {return bestPhases(WARMUP_ROUNDS, MEASURED_ROUNDS, round);}
+
+    /**
+     * This method Runs a Case which Times its own Phases for the Given Number of Warm-Up and Measured Rounds and Returns the Best Measured Time of each Phase, the Phases' Bests may come
+     * from Different Rounds.
+     * @param warmupRounds is the Number of Unmeasured Rounds.
+     * @param measuredRounds is the Number of Measured Rounds, at least 1.
+     * @param round Runs a Round and Returns the Nanoseconds each of its Phases Took, the Same Number of Phases every Round.
+     * @return the Best Measured Time of each Phase in Nanoseconds.
+     */
+
+    public static long[] bestPhases(int warmupRounds, int measuredRounds, Supplier<long[]> round) {
+        long[] best = null; for (int r = 0; r < warmupRounds + measuredRounds; r++) {
+            long[] times = round.get(); if (r < warmupRounds) continue; if (best == null) best = times.clone(); else for (int i = 0; i < times.length; i++) {best[i] = Math.min(best[i], times[i]);}
+        } return best;
+    }
+
+    /**
+     * This method Runs a Multi-Threaded Case for the Given Number of Warm-Up and Measured Rounds and Returns the Best Measured Time.  Each Round's Threads are Started Untimed and Wait on a
+     * Latch, and the Time is Taken from Releasing them until the Last has Finished.
+     * @param warmupRounds is the Number of Unmeasured Rounds.
+     * @param measuredRounds is the Number of Measured Rounds, at least 1.
+     * @param round Sets Up a Round, Untimed, and Returns the Work of each Thread.
+     * @return the Best Measured Time in Nanoseconds.
+     * @throws InterruptedException if the Calling Thread is Interrupted while Waiting for the Threads.
+     */
+
+    public static long bestThreads(int warmupRounds, int measuredRounds, Supplier<Runnable[]> round) throws InterruptedException {
+        long best = Long.MAX_VALUE; for (int r = 0; r < warmupRounds + measuredRounds; r++) {
+            Runnable[] work = round.get(); Thread[] threads = new Thread[work.length]; CountDownLatch start = new CountDownLatch(1);
+            for (int t = 0; t < threads.length; t++) {Runnable body = work[t]; threads[t] = new Thread(() -> {try {start.await();} catch (InterruptedException e) {return;} body.run();}); threads[t].start();}
+            long begin = System.nanoTime(); start.countDown(); for (Thread thread : threads) {thread.join();} if (r >= warmupRounds) best = Math.min(best, System.nanoTime() - begin);
+        } return best;
+    }
+
+    /**
+     * This method Sorts a Fresh Copy of the Input for the Default Number of Warm-Up and Measured Rounds and Prints the Best Measured Throughput.  Only the Sort is Timed, not the Copy.
+     * @param name is the Name of the Case to Print.
+     * @param input is the Array to Copy and Sort in each Round, which is never Modified.
+     * @param copy is the Function which Copies the Input.
+     * @param sort is the Sort to Benchmark.
+     */
+
+    public static <A> void throughput(String name, A input, UnaryOperator<A> copy, Consumer<A> sort) {
+        long best = best(() -> {A array = copy.apply(input); return () -> sort.accept(array);});
+        System.out.printf("%-44s %10.2f M elements/s%n", name, java.lang.reflect.Array.getLength(input) * 1000.0 / best);
+    }
+
+    /**
+     * This method Adds a Result to the Sink, so that the Work which Computed it cannot be Eliminated.
+     * @param value is the Result.
+     */
+
+    public static void sink(long value) {sink += value;}
+
+    /**
+     * This method returns the Sum of the Results passed to the Sink.
+     * @return the Sink.
+     */
+
+    public static long sink() {return sink;}
+
+    /**
+     * This method tests the {@code Benchmark} Class by Running Cases whose Times are Scripted, and Checking the Rounds that are Run and the Bests that are Kept.
+     * @param args the Command Line Arguments.
+     * @throws InterruptedException if the Main Thread is Interrupted while Waiting for the Threads.
+     */
+
+    public static void main(String[] args) throws InterruptedException {
+
+        // Testing that the Warm-Up Rounds are Discarded and the Best of each Phase is Kept, even when they come from Different Rounds.
+        long[][] script = {{1, 1}, {1, 1}, {9, 5}, {7, 8}, {8, 6}}; int[] rounds = new int[1];
+        long[] best = bestPhases(2, 3, () -> script[rounds[0]++]); assert rounds[0] == 5 && best[0] == 7 && best[1] == 5 && script[2][0] == 9;
+
+        // Testing that the Set-Up of a Round is not Timed, and that the Default Number of Rounds is Run.
+        rounds[0] = 0; long time = best(() -> {rounds[0]++; long end = System.nanoTime() + 20_000_000; while (System.nanoTime() < end) {} return () -> sink(1);});
+        assert rounds[0] == WARMUP_ROUNDS + MEASURED_ROUNDS && time < 20_000_000 && sink() == WARMUP_ROUNDS + MEASURED_ROUNDS;
+
+        // Testing that every Thread Runs in every Round.
+        java.util.concurrent.atomic.AtomicInteger runs = new java.util.concurrent.atomic.AtomicInteger(); Runnable body = runs::incrementAndGet;
+        assert bestThreads(1, 2, () -> new Runnable[] {body, body, body, body}) >= 0 && runs.get() == 12;
+
+        // Testing the Throughput Driver, which must Sort a Copy and leave the Input Unchanged.
+        int[] input = {3, 1, 2}; throughput("Arrays.sort(int[3])", input, int[]::clone, java.util.Arrays::sort); assert java.util.Arrays.equals(input, new int[] {3, 1, 2});
+
+        System.out.println("All Tests Passed Successfully!");
+    }
+}